@@ -1,16 +1,23 @@
 package seedu.expense;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.expense.commons.core.Config;
 import seedu.expense.commons.core.LogsCenter;
 import seedu.expense.commons.core.Version;
 import seedu.expense.commons.exceptions.DataConversionException;
+import seedu.expense.commons.exceptions.UncheckedDataConversionException;
 import seedu.expense.commons.util.ConfigUtil;
 import seedu.expense.commons.util.StringUtil;
 import seedu.expense.logic.Logic;
@@ -19,17 +26,21 @@ import seedu.expense.model.ExpenseBook;
 import seedu.expense.model.Model;
 import seedu.expense.model.ModelManager;
 import seedu.expense.model.ReadOnlyExpenseBook;
-import seedu.expense.model.ReadOnlyUserPrefs;
 import seedu.expense.model.UserPrefs;
 import seedu.expense.model.alias.AliasMap;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.expense.IncrementalFilteredList;
+import seedu.expense.model.expense.exceptions.DuplicateExpenseException;
 import seedu.expense.model.util.SampleDataUtil;
+import seedu.expense.storage.BinaryExpenseBookStorage;
 import seedu.expense.storage.ExpenseBookStorage;
+import seedu.expense.storage.JournaledExpenseBookStorage;
 import seedu.expense.storage.JsonAliasMapStorage;
-import seedu.expense.storage.JsonExpenseBookStorage;
 import seedu.expense.storage.JsonUserPrefsStorage;
 import seedu.expense.storage.Storage;
 import seedu.expense.storage.StorageManager;
 import seedu.expense.storage.UserPrefsStorage;
+import seedu.expense.storage.WriteBehindStorage;
 import seedu.expense.ui.Ui;
 import seedu.expense.ui.UiManager;
 
@@ -40,6 +51,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, true);
 
+    // number of expenses added to the model at a time while loading, so that the UI stays responsive in between
+    public static final int LOADING_BATCH_SIZE = 2000;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -48,8 +62,11 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private long initStartTime;
+
     @Override
     public void init() throws Exception {
+        initStartTime = System.nanoTime();
         logger.info("=============================[ Initializing ExpenseBook ]===========================");
         super.init();
 
@@ -58,29 +75,56 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ExpenseBookStorage expenseBookStorage = new JsonExpenseBookStorage(userPrefs.getExpenseBookFilePath());
+        ExpenseBookStorage expenseBookStorage = initExpenseBookStorage(userPrefs);
         JsonAliasMapStorage aliasMapStorage = new JsonAliasMapStorage(userPrefs.getAliasMapFilePath());
-        storage = new StorageManager(expenseBookStorage, userPrefsStorage, aliasMapStorage);
+        storage = new WriteBehindStorage(new StorageManager(expenseBookStorage, userPrefsStorage, aliasMapStorage));
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // the expense book is loaded in the background once the window is shown, see #loadExpenseBook()
+        model = new ModelManager(new ExpenseBook(), userPrefs, initAliasMap(storage),
+                initParallelFilterThreshold(config));
 
         logic = new LogicManager(model, storage);
+        logic.setExpenseBookLoading(true);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s expense book and {@code userPrefs}. <br>
+     * Returns the storage for the expense book file in {@code userPrefs}, which is in the binary format if its
+     * extension is {@code BinaryExpenseBookStorage.FILE_EXTENSION}, and in the json format otherwise. <br>
+     * A missing binary file is converted from the json file of the same name, if there is one.
+     */
+    private ExpenseBookStorage initExpenseBookStorage(UserPrefs userPrefs) {
+        Path expenseBookFilePath = userPrefs.getExpenseBookFilePath();
+        if (!BinaryExpenseBookStorage.isBinaryFilePath(expenseBookFilePath)) {
+            return new JournaledExpenseBookStorage(expenseBookFilePath, userPrefs.isDataFilePrettyPrinted());
+        }
+
+        String fileName = expenseBookFilePath.getFileName().toString();
+        Path jsonFilePath = expenseBookFilePath.resolveSibling(
+                fileName.substring(0, fileName.length() - BinaryExpenseBookStorage.FILE_EXTENSION.length()) + ".json");
+        if (!Files.exists(expenseBookFilePath)) {
+            try {
+                if (BinaryExpenseBookStorage.convertFromJson(jsonFilePath, expenseBookFilePath)) {
+                    logger.info("Converted " + jsonFilePath + " into " + expenseBookFilePath);
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not convert " + jsonFilePath + " into " + expenseBookFilePath + ": " + e);
+            }
+        }
+        return new BinaryExpenseBookStorage(expenseBookFilePath);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s expense book. <br>
      * The data from the sample expense book will be used instead if {@code storage}'s expense book is not found,
      * or an empty expense book will be used instead if errors occur when reading {@code storage}'s expense book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyExpenseBook readExpenseBook(Storage storage) {
         Optional<ReadOnlyExpenseBook> expenseBookOptional;
-        Optional<AliasMap> aliasMapOptional;
         ReadOnlyExpenseBook initialData;
-        AliasMap aliasMap;
         try {
             expenseBookOptional = storage.readExpenseBook();
             if (!expenseBookOptional.isPresent()) {
@@ -94,6 +138,17 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty ExpenseBook");
             initialData = new ExpenseBook();
         }
+        return initialData;
+    }
+
+    /**
+     * Returns the alias map from {@code storage}. <br>
+     * The sample alias map will be used instead if {@code storage}'s alias map is not found,
+     * or an empty alias map will be used instead if errors occur when reading {@code storage}'s alias map.
+     */
+    private AliasMap initAliasMap(Storage storage) {
+        Optional<AliasMap> aliasMapOptional;
+        AliasMap aliasMap;
         try {
             aliasMapOptional = storage.readAliasMap();
             if (!aliasMapOptional.isPresent()) {
@@ -107,14 +162,106 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with default commands");
             aliasMap = new AliasMap();
         }
+        return aliasMap;
+    }
+
+    /**
+     * Reads the expense book on a background thread, then moves it into the model on the JavaFX application thread.
+     * The categories and budgets are set first. The expenses are then taken from the expense book
+     * {@code LOADING_BATCH_SIZE} at a time on the background thread, which is where a storage that converts expenses as
+     * they are read converts them, and each batch is added to the model once the one before it has been, so that the
+     * window can be redrawn and respond to input between batches. <br>
+     * An empty expense book will be used instead if an expense cannot be converted, or is a duplicate.
+     */
+    private void loadExpenseBook() {
+        Thread loader = new Thread(() -> {
+            ReadOnlyExpenseBook loadedData = readExpenseBook(storage);
+            Platform.runLater(() -> {
+                ExpenseBook categoriesAndBudgets = new ExpenseBook();
+                categoriesAndBudgets.setTags(loadedData.getTags());
+                categoriesAndBudgets.setBudgets(loadedData.getBudgets());
+                model.setExpenseBook(categoriesAndBudgets);
+            });
 
-        return new ModelManager(initialData, userPrefs, aliasMap);
+            // the next batch is converted while one is being added, but no further ahead
+            Semaphore isBatchPending = new Semaphore(1);
+            AtomicBoolean isAbandoned = new AtomicBoolean();
+            List<Expense> expenses = loadedData.getExpenseList();
+            try {
+                for (int from = 0; from < expenses.size() && !isAbandoned.get(); from += LOADING_BATCH_SIZE) {
+                    List<Expense> batch = List.copyOf(expenses.subList(from,
+                            Math.min(from + LOADING_BATCH_SIZE, expenses.size())));
+                    isBatchPending.acquireUninterruptibly();
+                    Platform.runLater(() -> {
+                        try {
+                            addLoadedExpenses(batch, isAbandoned);
+                        } finally {
+                            isBatchPending.release();
+                        }
+                    });
+                }
+            } catch (UncheckedDataConversionException e) {
+                logger.warning("Data file not in the correct format. Will be starting with an empty ExpenseBook");
+                isAbandoned.set(true);
+            }
+            Platform.runLater(() -> finishLoading(isAbandoned.get()));
+        }, "expense-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Adds a batch of the expenses loaded to the model, unless loading has been abandoned.
+     * Runs on the JavaFX application thread.
+     */
+    private void addLoadedExpenses(List<Expense> batch, AtomicBoolean isAbandoned) {
+        if (isAbandoned.get()) {
+            return;
+        }
+        try {
+            model.addExpenses(batch);
+        } catch (DuplicateExpenseException e) {
+            logger.warning("Data file has duplicate expenses. Will be starting with an empty ExpenseBook");
+            isAbandoned.set(true);
+        }
+    }
+
+    /**
+     * Lets commands run on the expense book loaded, or on an empty expense book if loading was abandoned.
+     * The expense book is recorded as saved, as adding the loaded expenses to the model counts as changing it, so that
+     * the first command does not write it all back. A sample or empty expense book is likewise only saved once a
+     * command changes it, which leaves a data file that could not be read in place until then.
+     * Runs on the JavaFX application thread, after the last batch of expenses has been added.
+     */
+    private void finishLoading(boolean isAbandoned) {
+        if (isAbandoned) {
+            model.setExpenseBook(new ExpenseBook());
+        }
+        logic.markExpenseBookSaved();
+        logic.setExpenseBookLoading(false);
+        logger.info(String.format("Time to fully loaded: %d ms (%d expenses)",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartTime),
+                model.getExpenseBook().getExpenseList().size()));
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    /**
+     * Returns the size of expense list that is filtered in parallel in {@code config}, or the default if that is not
+     * valid.
+     */
+    private int initParallelFilterThreshold(Config config) {
+        int parallelFilterThreshold = config.getParallelFilterThreshold();
+        if (!IncrementalFilteredList.isValidParallelThreshold(parallelFilterThreshold)) {
+            logger.warning(IncrementalFilteredList.MESSAGE_PARALLEL_THRESHOLD_CONSTRAINTS
+                    + " Using the default parallel filter threshold.");
+            return Config.DEFAULT_PARALLEL_FILTER_THRESHOLD;
+        }
+        return parallelFilterThreshold;
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -187,15 +334,24 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ExpenseBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info(String.format("Time to first window: %d ms",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartTime)));
+        loadExpenseBook();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Expense Book ] =============================");
+        logger.info("Saves skipped for unchanged data: " + logic.getSkippedSaveCount());
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -11,10 +11,12 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 20_000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +54,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && parallelFilterThreshold == o.parallelFilterThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, parallelFilterThreshold);
     }
 
     @Override
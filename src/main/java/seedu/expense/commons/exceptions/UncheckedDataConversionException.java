@@ -0,0 +1,17 @@
+package seedu.expense.commons.exceptions;
+
+/**
+ * Wraps a {@code DataConversionException} where it cannot be thrown, e.g. from data that is converted as it is read
+ * through a {@code List}.
+ */
+public class UncheckedDataConversionException extends RuntimeException {
+    public UncheckedDataConversionException(DataConversionException cause) {
+        super(cause);
+    }
+
+    @Override
+    public DataConversionException getCause() {
+        return (DataConversionException) super.getCause();
+    }
+
+}
@@ -1,17 +1,62 @@
 package seedu.expense.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.expense.commons.core.LogsCenter;
+import seedu.expense.commons.exceptions.DataConversionException;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final int DEFAULT_BACKUP_COUNT = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, which should be left open.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads the content of a file.
+     *
+     * @param <T> type of the content read.
+     * @param <X> type of the other exception the read can throw.
+     */
+    @FunctionalInterface
+    public interface ContentReader<T, X extends Exception> {
+        /**
+         * Returns the content of {@code file}, or an empty {@code Optional} if there is no such file.
+         *
+         * @throws DataConversionException if the file is not in the correct format.
+         */
+        Optional<T> readFrom(Path file) throws DataConversionException, X;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -82,4 +127,126 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends given string to a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes given string to a file, such that the file has either its old or its new content even if the app stops
+     * halfway.
+     * The content is written to a temporary file next to {@code file} and forced to the disk, before it is moved over
+     * {@code file}. Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param backupCount number of previous versions of the file to keep, as {@code <file>.1} (the latest) to
+     *                    {@code <file>.<backupCount>}.
+     */
+    public static void writeToFileAtomically(Path file, String content, int backupCount) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes), backupCount);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, int)}, but the content is written by {@code writer}
+     * through a buffered stream, so that it does not have to be held in memory as a whole.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer, int backupCount) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // the stream is not closed, as that would close the channel before it is forced
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+
+        if (backupCount > 0 && Files.exists(file)) {
+            backUpFile(file, backupCount);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th previous version of {@code file}, 1 being the latest.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Returns the content of {@code file} as read by {@code reader}. If {@code file} is not in the correct format,
+     * e.g. because it was damaged on the disk, returns the content of its latest backup that is, as written by
+     * {@link #writeToFileAtomically(Path, ContentWriter, int)} with the same {@code backupCount}.
+     *
+     * @throws DataConversionException the error of reading {@code file}, if none of its backups can be read either.
+     */
+    public static <T, X extends Exception> Optional<T> readWithBackupFallback(Path file, int backupCount,
+            ContentReader<T, X> reader) throws DataConversionException, X {
+        try {
+            return reader.readFrom(file);
+        } catch (DataConversionException e) {
+            for (int generation = 1; generation <= backupCount; generation++) {
+                Path backup = getBackupFilePath(file, generation);
+                try {
+                    Optional<T> content = reader.readFrom(backup);
+                    if (content.isPresent()) {
+                        logger.warning("Could not read " + file + ", read its backup " + backup + " instead");
+                        return content;
+                    }
+                } catch (DataConversionException backupException) {
+                    e.addSuppressed(backupException);
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Shifts the backups of {@code file} back by one generation, dropping the oldest, and makes {@code file} the
+     * latest backup.
+     */
+    private static void backUpFile(Path file, int backupCount) throws IOException {
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupFilePath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path latestBackup = getBackupFilePath(file, 1);
+        Files.deleteIfExists(latestBackup);
+        try {
+            // a link keeps the old content once the file is replaced, without copying it
+            Files.createLink(latestBackup, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk where the platform allows it, so that a file moved into it
+     * stays moved.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not supported on some platforms, e.g. Windows; the move is still atomic
+        }
+    }
+
 }
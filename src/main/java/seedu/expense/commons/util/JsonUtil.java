@@ -3,6 +3,8 @@ package seedu.expense.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +96,23 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, replacing the existing file atomically.
+     * Creates a new file if it doesn't exist.
+     *
+     * @param jsonFile    cannot be null
+     * @param filePath    cannot be null
+     * @param backupCount number of previous versions of the file to keep
+     * @throws IOException if there was an error during writing to the file
+     * @see FileUtil#writeToFileAtomically(Path, String, int)
+     */
+    public static <T> void saveJsonFileAtomically(T jsonFile, Path filePath, int backupCount) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        FileUtil.writeToFileAtomically(filePath, toJsonString(jsonFile), backupCount);
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -103,6 +124,30 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a parser that reads JSON data from {@code in} one token at a time.
+     * Values read with {@link JsonParser#readValueAs(Class)} are converted in the same way as by the other methods of
+     * this class.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Returns a generator that writes JSON data to {@code out} one token at a time, which is left open when the
+     * generator is closed.
+     * Values written with {@link JsonGenerator#writeObject(Object)} are converted in the same way as by the other
+     * methods of this class.
+     *
+     * @param isPrettyPrinted whether the data is indented as by {@link #toJsonString(Object)}, rather than written
+     *                        without any whitespace.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      *
@@ -114,6 +159,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T>      The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without any whitespace
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -2,6 +2,7 @@ package seedu.expense.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.expense.commons.core.GuiSettings;
 import seedu.expense.logic.commands.CommandResult;
@@ -58,4 +59,27 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Returns the number of times the expense book or the alias map was not saved after a command
+     * because the command did not change it.
+     */
+    long getSkippedSaveCount();
+
+    /**
+     * Returns a property that is true while the expense book is still being loaded into the model.
+     * Commands should not be executed while it is true.
+     */
+    ReadOnlyBooleanProperty expenseBookLoadingProperty();
+
+    /**
+     * Sets whether the expense book is still being loaded into the model.
+     */
+    void setExpenseBookLoading(boolean isLoading);
+
+    /**
+     * Records the expense book in the model as the one in storage, e.g. once it has been loaded from storage,
+     * so that it is only saved after a command that changes it.
+     */
+    void markExpenseBookSaved();
 }
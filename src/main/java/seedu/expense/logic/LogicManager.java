@@ -4,6 +4,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.expense.commons.core.GuiSettings;
 import seedu.expense.commons.core.LogsCenter;
@@ -28,6 +31,12 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final ExpenseBookParser expenseBookParser;
+    private final BooleanProperty isExpenseBookLoading = new SimpleBooleanProperty(false);
+
+    // modification counts of the expense book and alias map when they were last saved, -1 if never saved
+    private long savedExpenseBookModificationCount = -1;
+    private long savedAliasMapModificationCount = -1;
+    private long skippedSaveCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -47,15 +56,39 @@ public class LogicManager implements Logic {
         commandResult = command.execute(model);
 
         try {
-            storage.saveExpenseBook(model.getExpenseBook());
-            storage.saveAliasMap(model.getAliasMap());
+            saveChangedStores();
+            storage.checkSaveFailure();
         } catch (IOException ioe) {
+            // the stores might not have been written, so they are saved again after the next command
+            savedExpenseBookModificationCount = -1;
+            savedAliasMapModificationCount = -1;
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Saves the expense book and alias map if they were changed since they were last saved.
+     */
+    private void saveChangedStores() throws IOException {
+        long expenseBookModificationCount = model.getExpenseBook().getModificationCount();
+        if (expenseBookModificationCount != savedExpenseBookModificationCount) {
+            storage.saveExpenseBook(model.getExpenseBook());
+            savedExpenseBookModificationCount = expenseBookModificationCount;
+        } else {
+            skippedSaveCount++;
+        }
+
+        long aliasMapModificationCount = model.getAliasMap().getModificationCount();
+        if (aliasMapModificationCount != savedAliasMapModificationCount) {
+            storage.saveAliasMap(model.getAliasMap());
+            savedAliasMapModificationCount = aliasMapModificationCount;
+        } else {
+            skippedSaveCount++;
+        }
+    }
+
     @Override
     public ReadOnlyExpenseBook getExpenseBook() {
         return model.getExpenseBook();
@@ -85,4 +118,24 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty expenseBookLoadingProperty() {
+        return isExpenseBookLoading;
+    }
+
+    @Override
+    public void setExpenseBookLoading(boolean isLoading) {
+        isExpenseBookLoading.set(isLoading);
+    }
+
+    @Override
+    public void markExpenseBookSaved() {
+        savedExpenseBookModificationCount = model.getExpenseBook().getModificationCount();
+    }
 }
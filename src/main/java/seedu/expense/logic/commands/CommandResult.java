@@ -2,7 +2,13 @@ package seedu.expense.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+
+import seedu.expense.model.rollup.Rollup;
 
 /**
  * Represents the result of a command execution.
@@ -31,6 +37,11 @@ public class CommandResult {
      */
     private final boolean showGraph;
 
+    /**
+     * Rollups to be shown to the user in the report window, if any.
+     */
+    private final List<Rollup> report;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -42,6 +53,20 @@ public class CommandResult {
         this.exit = exit;
         this.showBudgetDisplay = showBudgetDisplay;
         this.showGraph = showGraph;
+        this.report = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and the {@code report} to be shown
+     * in the report window, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, List<Rollup> report) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.showBudgetDisplay = true;
+        this.showGraph = false;
+        this.report = Collections.unmodifiableList(new ArrayList<>(requireNonNull(report)));
     }
 
     /**
@@ -72,6 +97,10 @@ public class CommandResult {
         return showGraph;
     }
 
+    public Optional<List<Rollup>> getReport() {
+        return Optional.ofNullable(report);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -88,12 +117,13 @@ public class CommandResult {
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
                 && showBudgetDisplay == otherCommandResult.showBudgetDisplay
-                && showGraph == otherCommandResult.showGraph;
+                && showGraph == otherCommandResult.showGraph
+                && Objects.equals(report, otherCommandResult.report);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, showBudgetDisplay, showGraph);
+        return Objects.hash(feedbackToUser, showHelp, exit, showBudgetDisplay, showGraph, report);
     }
 
 }
@@ -1,16 +1,18 @@
 package seedu.expense.logic.commands;
 
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_AMOUNT;
 import static seedu.expense.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.expense.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.expense.model.Model.PREDICATE_SHOW_ALL_BUDGETS;
 
-import java.util.function.Predicate;
+import java.util.Collections;
 
 import seedu.expense.commons.core.Messages;
 import seedu.expense.model.Model;
+import seedu.expense.model.expense.AmountMatchesPredicate;
 import seedu.expense.model.expense.DateMatchesPredicate;
 import seedu.expense.model.expense.DescriptionContainsKeywordsPredicate;
-import seedu.expense.model.expense.Expense;
+import seedu.expense.model.expense.MatchesAllPredicate;
 
 /**
  * Finds and lists all expenses in expense book whose name contains any of the argument keywords.
@@ -21,39 +23,65 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all the expenses with details "
-            + "that match the arguments (keywords, date). "
+            + "that match the arguments (keywords, date, amount). "
             + "Parameters: "
             + "[" + PREFIX_DESCRIPTION + "KEYWORD] "
-            + "[" + PREFIX_DATE + "DD-MM-YYYY]\n"
+            + "[" + PREFIX_DATE + "DATE]... "
+            + "[" + PREFIX_AMOUNT + "AMOUNT]...\n"
+            + "DATE can be a date (DD-MM-YYYY), a month (MM-YYYY), a year (YYYY), or a range of dates "
+            + "(DD-MM-YYYY:DD-MM-YYYY), where either end of the range can be left out.\n"
+            + "AMOUNT can be an amount, or a range of amounts (MIN:MAX), where either end of the range can be "
+            + "left out.\n"
             + "Example: " + COMMAND_WORD + "  "
             + PREFIX_DATE + "18-02-2020 "
-            + PREFIX_DESCRIPTION + "Lunch at YIH";
+            + PREFIX_DESCRIPTION + "Lunch at YIH\n"
+            + "Example: " + COMMAND_WORD + "  "
+            + PREFIX_DATE + "01-02-2020:\n"
+            + "Example: " + COMMAND_WORD + "  "
+            + PREFIX_AMOUNT + "10:20";
 
     private final DescriptionContainsKeywordsPredicate namePredicate;
     private final DateMatchesPredicate datePredicate;
+    private final AmountMatchesPredicate amountPredicate;
 
     /**
      * Constructor that takes in the predicates used to filter through
-     * the expenses list and find matching expenses. It matches based on keywords,
-     * date, and tags.
+     * the expenses list and find matching expenses. It matches based on keywords
+     * and date.
      */
     public FindCommand(DescriptionContainsKeywordsPredicate namePredicate,
                        DateMatchesPredicate datePredicate) {
+        this(namePredicate, datePredicate, new AmountMatchesPredicate(Collections.emptyList()));
+    }
+
+    /**
+     * Constructor that takes in the predicates used to filter through
+     * the expenses list and find matching expenses. It matches based on keywords,
+     * date, and amount.
+     */
+    public FindCommand(DescriptionContainsKeywordsPredicate namePredicate,
+                       DateMatchesPredicate datePredicate, AmountMatchesPredicate amountPredicate) {
         this.namePredicate = namePredicate;
         this.datePredicate = datePredicate;
+        this.amountPredicate = amountPredicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
-        if (this.namePredicate.isEmpty() && this.datePredicate.isEmpty()) {
+        if (this.namePredicate.isEmpty() && this.datePredicate.isEmpty() && this.amountPredicate.isEmpty()) {
             model.updateFilteredExpenseList(x -> false);
         }
-        Predicate<Expense> predicate = x -> true;
+        // each term is answered from the indexes of the expense book, so the expenses are not scanned, and is keyed on
+        // its own predicate, so that a find that adds terms to the last one only refilters the expenses shown
+        MatchesAllPredicate predicate = new MatchesAllPredicate();
         if (!namePredicate.isEmpty()) {
-            predicate = predicate.and(namePredicate);
+            predicate = predicate.and(namePredicate, model.toIndexedPredicate(namePredicate));
         }
         if (!datePredicate.isEmpty()) {
-            predicate = predicate.and(datePredicate);
+            predicate = predicate.and(datePredicate, model.toIndexedPredicate(datePredicate));
+        }
+        if (!amountPredicate.isEmpty()) {
+            predicate = predicate.and(amountPredicate, model.toIndexedPredicate(amountPredicate));
         }
         model.updateFilteredExpenseList(predicate);
         model.updateFilteredBudgetList(PREDICATE_SHOW_ALL_BUDGETS);
@@ -69,6 +97,7 @@ public class FindCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
                 && namePredicate.equals(((FindCommand) other).namePredicate)
-                && datePredicate.equals(((FindCommand) other).datePredicate)); // state check
+                && datePredicate.equals(((FindCommand) other).datePredicate)
+                && amountPredicate.equals(((FindCommand) other).amountPredicate)); // state check
     }
 }
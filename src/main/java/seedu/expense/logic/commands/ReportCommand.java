@@ -0,0 +1,142 @@
+package seedu.expense.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_PERIOD;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.expense.model.ExpenseBook.DEFAULT_TAG;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.expense.logic.commands.exceptions.CommandException;
+import seedu.expense.model.Model;
+import seedu.expense.model.Statistics;
+import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.Date;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.rollup.RollupPeriod;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Reports the total amount spent in each category over a period, without changing the expenses shown.
+ * The spending can also be broken down by day, week or month, which is shown as a table in the report window.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reports the total amount spent in each category "
+            + "over a period of dates. "
+            + "Parameters: "
+            + "[" + PREFIX_DATE + "DATE] "
+            + "[" + PREFIX_TAG + "CATEGORY]... "
+            + "[" + PREFIX_PERIOD + "PERIOD]\n"
+            + "DATE is in the same formats as for the find command. All dates are reported if it is left out, "
+            + "and all categories are reported if none are given.\n"
+            + "PERIOD is one of day, week or month, and breaks the spending down into a table by that period.\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "01-02-2020:15-02-2020 "
+            + PREFIX_TAG + "Food\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "2020 "
+            + PREFIX_PERIOD + "month";
+
+    public static final String MESSAGE_INVALID_CATEGORY = "No such category account:  %1$s. ";
+    public static final String MESSAGE_HEADER = "Expenses %1$s:";
+    public static final String MESSAGE_CATEGORY_TOTAL = "%1$s: $%2$s";
+    public static final String MESSAGE_TOTAL = "Total: $%1$s";
+    public static final String MESSAGE_ROLLUPS_SHOWN = "Showing the %1$s report in the report window.";
+
+    private final DateRange dateRange;
+    private final List<Tag> categories;
+    private final Optional<RollupPeriod> period;
+
+    /**
+     * Creates a ReportCommand that reports the expenses in {@code categories} with a date in {@code dateRange}.
+     * All categories are reported if {@code categories} is empty.
+     */
+    public ReportCommand(DateRange dateRange, List<Tag> categories) {
+        this(dateRange, categories, Optional.empty());
+    }
+
+    /**
+     * Creates a ReportCommand that reports the expenses in {@code categories} with a date in {@code dateRange}, and
+     * breaks them down by {@code period} if it is present.
+     * All categories are reported if {@code categories} is empty.
+     */
+    public ReportCommand(DateRange dateRange, List<Tag> categories, Optional<RollupPeriod> period) {
+        requireNonNull(dateRange);
+        requireNonNull(categories);
+        requireNonNull(period);
+        this.dateRange = dateRange;
+        this.categories = new ArrayList<>(categories);
+        this.period = period;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Tag> toReport = new ArrayList<>(categories);
+        if (toReport.isEmpty()) {
+            toReport.add(DEFAULT_TAG);
+            toReport.addAll(model.getExpenseBook().getTags());
+        }
+        for (Tag category : toReport) {
+            if (!model.hasCategory(category)) {
+                throw new CommandException(String.format(MESSAGE_INVALID_CATEGORY, category));
+            }
+        }
+
+        // each total is a range sum over the days of the period, so no expense is gone through
+        Statistics statistics = model.getStatistics();
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_HEADER, describe(dateRange)));
+        Amount total = Amount.zeroAmount();
+        for (Tag category : toReport) {
+            Amount categoryTotal = statistics.tallyExpenses(category, dateRange);
+            report.append("\n").append(String.format(MESSAGE_CATEGORY_TOTAL, category, categoryTotal));
+            total = total.add(categoryTotal);
+        }
+        if (categories.isEmpty()) {
+            total = statistics.tallyExpenses(dateRange);
+        }
+        report.append("\n").append(String.format(MESSAGE_TOTAL, total));
+
+        if (period.isEmpty()) {
+            return new CommandResult(report.toString());
+        }
+        report.append("\n").append(String.format(MESSAGE_ROLLUPS_SHOWN, period.get().getAdjective()));
+        return new CommandResult(report.toString(), statistics.getRollups(period.get(), toReport, dateRange));
+    }
+
+    /**
+     * Returns a description of the dates in {@code dateRange} for the header of the report.
+     */
+    private static String describe(DateRange dateRange) {
+        boolean hasFrom = !dateRange.from.equals(LocalDate.MIN);
+        boolean hasTo = !dateRange.to.equals(LocalDate.MAX);
+        if (hasFrom && hasTo) {
+            return dateRange.from.equals(dateRange.to)
+                    ? "on " + Date.fromLocalDate(dateRange.from)
+                    : "from " + Date.fromLocalDate(dateRange.from) + " to " + Date.fromLocalDate(dateRange.to);
+        } else if (hasFrom) {
+            return "from " + Date.fromLocalDate(dateRange.from) + " onwards";
+        } else if (hasTo) {
+            return "up to " + Date.fromLocalDate(dateRange.to);
+        } else {
+            return "over all dates";
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReportCommand // instanceof handles nulls
+                && dateRange.equals(((ReportCommand) other).dateRange)
+                && categories.equals(((ReportCommand) other).categories)
+                && period.equals(((ReportCommand) other).period)); // state check
+    }
+}
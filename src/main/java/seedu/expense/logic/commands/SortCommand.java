@@ -13,6 +13,7 @@ import seedu.expense.model.expense.AmountComparator;
 import seedu.expense.model.expense.DateComparator;
 import seedu.expense.model.expense.DescriptionComparator;
 import seedu.expense.model.expense.Expense;
+import seedu.expense.model.expense.ExpenseSortOrder;
 import seedu.expense.model.expense.SortKeyComparator;
 
 
@@ -54,20 +55,14 @@ public class SortCommand extends Command {
         }
         sortedSortKeyComparators.sort(Comparator.comparingInt(SortKeyComparator::getSortIndex));
 
-        for (int i = 0; i < sortedSortKeyComparators.size(); i++) {
-            SortKeyComparator current = sortedSortKeyComparators.get(i);
+        for (SortKeyComparator current : sortedSortKeyComparators) {
             if (current.isActive()) {
-                if (expenseComparator == null) {
-                    expenseComparator = current.isReverse() ? current.reversed() : current;
-                } else {
-                    expenseComparator = current.isReverse()
-                            ? expenseComparator.thenComparing(current.reversed())
-                            : expenseComparator.thenComparing(current);
-                }
                 sortOrder.add(current.toString());
             }
         }
-        assert expenseComparator != null : "ExpenseComparator for SortCommand processed by Parser but is null.";
+        assert !sortOrder.isEmpty() : "No sort keys for SortCommand processed by Parser.";
+        // the keys are kept readable, so that the expenses can be sorted by precomputed ranks of the keys
+        expenseComparator = new ExpenseSortOrder(sortedSortKeyComparators);
     }
 
     @Override
@@ -0,0 +1,97 @@
+package seedu.expense.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expense.commons.core.Messages.MESSAGE_INVALID_CATEGORY;
+import static seedu.expense.logic.commands.SortCommand.REVERSE_KEYWORD;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_SORT;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.expense.model.Model.PREDICATE_SHOW_ALL_BUDGETS;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.expense.logic.commands.exceptions.CommandException;
+import seedu.expense.model.Model;
+import seedu.expense.model.expense.AmountComparator;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Lists the largest or smallest expenses in the expense book, optionally only those in a category and period.
+ * The expenses are found from the amount index of the expense book, without sorting all the expenses.
+ */
+public class TopCommand extends Command {
+
+    public static final String COMMAND_WORD = "top";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the largest or smallest expenses. "
+            + "Parameters: "
+            + "COUNT (must be a positive integer) "
+            + "[" + PREFIX_DATE + "DATE] "
+            + "[" + PREFIX_TAG + "CATEGORY] "
+            + "[" + PREFIX_SORT + AmountComparator.SORT_KEYWORD + "|" + AmountComparator.SORT_KEYWORD
+            + REVERSE_KEYWORD + "]\n"
+            + "DATE is in the same formats as for the find command. The largest expenses are listed by default, "
+            + "or the smallest ones with " + PREFIX_SORT + AmountComparator.SORT_KEYWORD + ".\n"
+            + "Example: " + COMMAND_WORD + " 5 "
+            + PREFIX_DATE + "02-2020 "
+            + PREFIX_TAG + "Food";
+
+    public static final String MESSAGE_SUCCESS = "Listed the %1$d %2$s expenses:";
+    public static final String MESSAGE_EXPENSE = "%1$d. %2$s $%3$s (%4$s)";
+
+    private final int count;
+    private final boolean isLargest;
+    private final Optional<Tag> category;
+    private final DateRange dateRange;
+
+    /**
+     * Creates a TopCommand to list the {@code count} largest expenses if {@code isLargest}, or the smallest ones
+     * otherwise, out of those in {@code category} if it is present, and with a date in {@code dateRange}.
+     */
+    public TopCommand(int count, boolean isLargest, Optional<Tag> category, DateRange dateRange) {
+        requireNonNull(category);
+        requireNonNull(dateRange);
+        this.count = count;
+        this.isLargest = isLargest;
+        this.category = category;
+        this.dateRange = dateRange;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (category.isPresent() && !model.hasCategory(category.get())) {
+            throw new CommandException(String.format(MESSAGE_INVALID_CATEGORY, category.get()));
+        }
+
+        List<Expense> topExpenses = model.findTopExpenses(count, isLargest, category, dateRange);
+        Set<Expense> toShow = new HashSet<>(topExpenses);
+        model.updateFilteredExpenseList(toShow::contains);
+        model.updateFilteredBudgetList(PREDICATE_SHOW_ALL_BUDGETS);
+
+        // the filtered list keeps the order of the expense book, so the ranking is given in the feedback
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, topExpenses.size(),
+                isLargest ? "largest" : "smallest"));
+        for (int i = 0; i < topExpenses.size(); i++) {
+            Expense expense = topExpenses.get(i);
+            feedback.append("\n").append(String.format(MESSAGE_EXPENSE, i + 1, expense.getDescription(),
+                    expense.getAmount(), expense.getDate()));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TopCommand // instanceof handles nulls
+                && count == ((TopCommand) other).count
+                && isLargest == ((TopCommand) other).isLargest
+                && category.equals(((TopCommand) other).category)
+                && dateRange.equals(((TopCommand) other).dateRange)); // state check
+    }
+}
@@ -12,5 +12,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_REMARK = new Prefix("-r");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_SORT = new Prefix("-by");
+    public static final Prefix PREFIX_PERIOD = new Prefix("-per");
 
 }
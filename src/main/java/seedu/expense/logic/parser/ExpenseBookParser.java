@@ -23,9 +23,11 @@ import seedu.expense.logic.commands.HelpCommand;
 import seedu.expense.logic.commands.ListCommand;
 import seedu.expense.logic.commands.ReduceCommand;
 import seedu.expense.logic.commands.RemarkCommand;
+import seedu.expense.logic.commands.ReportCommand;
 import seedu.expense.logic.commands.ResetAliasCommand;
 import seedu.expense.logic.commands.SortCommand;
 import seedu.expense.logic.commands.SwitchCommand;
+import seedu.expense.logic.commands.TopCommand;
 import seedu.expense.logic.commands.TopupCommand;
 import seedu.expense.logic.parser.exceptions.ParseException;
 import seedu.expense.model.alias.AliasMap;
@@ -135,6 +137,12 @@ public class ExpenseBookParser {
             checkSingleWordCommand(arguments);
             return new GraphCommand();
 
+        case ReportCommand.COMMAND_WORD:
+            return new ReportCommandParser().parse(arguments);
+
+        case TopCommand.COMMAND_WORD:
+            return new TopCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
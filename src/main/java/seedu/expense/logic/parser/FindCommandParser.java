@@ -1,6 +1,7 @@
 package seedu.expense.logic.parser;
 
 import static seedu.expense.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_AMOUNT;
 import static seedu.expense.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.expense.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 
@@ -9,8 +10,10 @@ import java.util.List;
 
 import seedu.expense.logic.commands.FindCommand;
 import seedu.expense.logic.parser.exceptions.ParseException;
-import seedu.expense.model.expense.Date;
+import seedu.expense.model.expense.AmountMatchesPredicate;
+import seedu.expense.model.expense.AmountRange;
 import seedu.expense.model.expense.DateMatchesPredicate;
+import seedu.expense.model.expense.DateRange;
 import seedu.expense.model.expense.DescriptionContainsKeywordsPredicate;
 
 /**
@@ -32,10 +35,11 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DESCRIPTION, PREFIX_DATE);
+                ArgumentTokenizer.tokenize(args, PREFIX_DESCRIPTION, PREFIX_DATE, PREFIX_AMOUNT);
 
         String keywords = "";
         List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
+        List<String> amounts = argMultimap.getAllValues(PREFIX_AMOUNT);
         if (argMultimap.getValue(PREFIX_DESCRIPTION).isPresent()) {
             keywords = argMultimap.getValue(PREFIX_DESCRIPTION).get();
             if (keywords.isEmpty()) {
@@ -46,17 +50,27 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MISSING_ARGUMENTS));
         }
         for (String date: dates) {
-            if (!Date.isValidDate(date)) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, Date.MESSAGE_CONSTRAINTS));
+            if (!DateRange.isValidDateRange(date)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DateRange.MESSAGE_CONSTRAINTS));
             }
         }
-        if (keywords.isEmpty() && dates.isEmpty()) {
+        if (amounts.size() == 1 && amounts.get(0).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MISSING_ARGUMENTS));
+        }
+        for (String amount: amounts) {
+            if (!AmountRange.isValidAmountRange(amount)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        AmountRange.MESSAGE_CONSTRAINTS));
+            }
+        }
+        if (keywords.isEmpty() && dates.isEmpty() && amounts.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
         return new FindCommand(
                 new DescriptionContainsKeywordsPredicate(Arrays.asList(keywords.trim().split("\\s+"))),
-                new DateMatchesPredicate(dates)
+                new DateMatchesPredicate(dates),
+                new AmountMatchesPredicate(amounts)
         );
     }
 
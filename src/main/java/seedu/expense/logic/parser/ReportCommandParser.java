@@ -0,0 +1,67 @@
+package seedu.expense.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expense.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_PERIOD;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.expense.logic.commands.ReportCommand;
+import seedu.expense.logic.parser.exceptions.ParseException;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.rollup.RollupPeriod;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new ReportCommand object
+ */
+public class ReportCommandParser implements Parser<ReportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ReportCommand}
+     * and returns a {@code ReportCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TAG, PREFIX_PERIOD);
+
+        List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
+        List<String> periods = argMultimap.getAllValues(PREFIX_PERIOD);
+        if (!argMultimap.getPreamble().isEmpty() || dates.size() > 1 || periods.size() > 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        }
+
+        DateRange dateRange = DateRange.ALL_DATES;
+        if (!dates.isEmpty()) {
+            if (!DateRange.isValidDateRange(dates.get(0))) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DateRange.MESSAGE_CONSTRAINTS));
+            }
+            dateRange = new DateRange(dates.get(0));
+        }
+
+        List<Tag> categories = new ArrayList<>();
+        for (String tagName : argMultimap.getAllValues(PREFIX_TAG)) {
+            Tag category = ParserUtil.parseTag(tagName);
+            if (!categories.contains(category)) {
+                categories.add(category);
+            }
+        }
+
+        Optional<RollupPeriod> period = Optional.empty();
+        if (!periods.isEmpty()) {
+            String keyword = periods.get(0).trim().toLowerCase();
+            if (!RollupPeriod.isValidPeriod(keyword)) {
+                throw new ParseException(RollupPeriod.MESSAGE_CONSTRAINTS);
+            }
+            period = Optional.of(RollupPeriod.fromKeyword(keyword));
+        }
+        return new ReportCommand(dateRange, categories, period);
+    }
+
+}
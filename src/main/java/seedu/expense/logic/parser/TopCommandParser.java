@@ -0,0 +1,69 @@
+package seedu.expense.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expense.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.expense.logic.commands.SortCommand.REVERSE_KEYWORD;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_SORT;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.expense.commons.util.StringUtil;
+import seedu.expense.logic.commands.TopCommand;
+import seedu.expense.logic.parser.exceptions.ParseException;
+import seedu.expense.model.expense.AmountComparator;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new TopCommand object
+ */
+public class TopCommandParser implements Parser<TopCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code TopCommand}
+     * and returns a {@code TopCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TopCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TAG, PREFIX_SORT);
+
+        String count = argMultimap.getPreamble();
+        List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
+        List<String> orders = argMultimap.getAllValues(PREFIX_SORT);
+        if (!StringUtil.isNonZeroUnsignedInteger(count) || dates.size() > 1
+                || argMultimap.getAllValues(PREFIX_TAG).size() > 1 || orders.size() > 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+        }
+
+        DateRange dateRange = DateRange.ALL_DATES;
+        if (!dates.isEmpty()) {
+            if (!DateRange.isValidDateRange(dates.get(0))) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DateRange.MESSAGE_CONSTRAINTS));
+            }
+            dateRange = new DateRange(dates.get(0));
+        }
+
+        Optional<Tag> category = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            category = Optional.of(ParserUtil.parseTag(argMultimap.getValue(PREFIX_TAG).get()));
+        }
+
+        boolean isLargest = true;
+        if (!orders.isEmpty()) {
+            String order = orders.get(0).trim();
+            if (order.equals(AmountComparator.SORT_KEYWORD)) {
+                isLargest = false;
+            } else if (!order.equals(AmountComparator.SORT_KEYWORD + REVERSE_KEYWORD)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+            }
+        }
+
+        return new TopCommand(Integer.parseInt(count), isLargest, category, dateRange);
+    }
+
+}
@@ -5,15 +5,26 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
+import seedu.expense.commons.core.Config;
 import seedu.expense.model.budget.CategoryBudget;
 import seedu.expense.model.budget.UniqueCategoryBudgetList;
 import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.AmountMatchesPredicate;
+import seedu.expense.model.expense.CategoryMatchesPredicate;
+import seedu.expense.model.expense.DateMatchesPredicate;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.expense.DescriptionContainsKeywordsPredicate;
 import seedu.expense.model.expense.Expense;
 import seedu.expense.model.expense.UniqueExpenseList;
 import seedu.expense.model.expense.exceptions.CategoryNotFoundException;
+import seedu.expense.model.rollup.ExpenseRollups;
+import seedu.expense.model.rollup.Rollup;
+import seedu.expense.model.rollup.RollupPeriod;
 import seedu.expense.model.tag.Tag;
 import seedu.expense.model.tag.UniqueTagList;
 
@@ -28,21 +39,33 @@ public class ExpenseBook implements ReadOnlyExpenseBook, Statistics {
     private final UniqueCategoryBudgetList budgets;
     private final UniqueExpenseList expenses;
     private final UniqueTagList tags;
+    private final ExpenseRollups rollups;
+    private long modificationCount;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
+    /**
+     * Creates an empty ExpenseBook, whose filtered expense list is filtered in parallel from
+     * {@code Config.DEFAULT_PARALLEL_FILTER_THRESHOLD} expenses.
      */
-    {
+    public ExpenseBook() {
+        this(Config.DEFAULT_PARALLEL_FILTER_THRESHOLD);
+    }
+
+    /**
+     * Creates an empty ExpenseBook, whose filtered expense list is filtered in parallel from
+     * {@code parallelFilterThreshold} expenses.
+     */
+    public ExpenseBook(int parallelFilterThreshold) {
         budgets = new UniqueCategoryBudgetList();
-        expenses = new UniqueExpenseList();
+        expenses = new UniqueExpenseList(parallelFilterThreshold);
         tags = new UniqueTagList();
-    }
+        rollups = new ExpenseRollups();
 
-    public ExpenseBook() {
+        expenses.asUnmodifiableObservableList().addListener(rollups::update);
+        expenses.asUnmodifiableObservableList().addListener(this::countModification);
+        budgets.asUnmodifiableObservableList().addListener(this::countModification);
+        budgets.getDefaultCategory().amountProperty().addListener((observable, oldAmount, newAmount) ->
+                countModification(observable));
+        tags.asUnmodifiableObservableList().addListener(this::countModification);
     }
 
     /**
@@ -150,7 +173,7 @@ public class ExpenseBook implements ReadOnlyExpenseBook, Statistics {
         }
         tags.remove(tag);
         budgets.remove(new CategoryBudget(tag));
-        expenses.resetExpenseCategory(expense -> expense.getTag().equals(tag));
+        expenses.resetExpenseCategory(tag);
     }
 
     /**
@@ -208,6 +231,21 @@ public class ExpenseBook implements ReadOnlyExpenseBook, Statistics {
         expenses.add(p);
     }
 
+    /**
+     * Adds {@code toAdd} to the expense book as a single change.
+     * None of the expenses may already exist in the expense book, and their categories must exist in the expense book.
+     */
+    public void addExpenses(List<Expense> toAdd) {
+        requireNonNull(toAdd);
+        for (Expense expense : toAdd) {
+            if (!tags.contains(expense.getTag())) {
+                throw new CategoryNotFoundException(expense.getTag());
+            }
+        }
+
+        expenses.addAll(toAdd);
+    }
+
     /**
      * Replaces the given expense {@code target} in the list with {@code editedExpense}.
      * {@code target} must exist in the expense book.
@@ -243,6 +281,45 @@ public class ExpenseBook implements ReadOnlyExpenseBook, Statistics {
         expenses.filterExpenses(predicate);
     }
 
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} for the expenses in this expense book,
+     * but is answered from an index instead of by scanning each description.
+     *
+     * @see UniqueExpenseList#toIndexedPredicate(DescriptionContainsKeywordsPredicate)
+     */
+    public Predicate<Expense> toIndexedPredicate(DescriptionContainsKeywordsPredicate predicate) {
+        return expenses.toIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} for the expenses in this expense book,
+     * but is answered from an index in date order instead of by checking every expense.
+     *
+     * @see UniqueExpenseList#toIndexedPredicate(DateMatchesPredicate)
+     */
+    public Predicate<Expense> toIndexedPredicate(DateMatchesPredicate predicate) {
+        return expenses.toIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} for the expenses in this expense book,
+     * but is answered from an index in order of amount instead of by checking every expense.
+     *
+     * @see UniqueExpenseList#toIndexedPredicate(AmountMatchesPredicate)
+     */
+    public Predicate<Expense> toIndexedPredicate(AmountMatchesPredicate predicate) {
+        return expenses.toIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns the {@code count} largest or smallest expenses in this expense book, most extreme first.
+     *
+     * @see UniqueExpenseList#findTopExpenses(int, boolean, Optional, DateRange)
+     */
+    public List<Expense> findTopExpenses(int count, boolean isLargest, Optional<Tag> category, DateRange dateRange) {
+        return expenses.findTopExpenses(count, isLargest, category, dateRange);
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Expense} backed by the internal list of
      * {@code versionedExpenseBook}
@@ -263,8 +340,48 @@ public class ExpenseBook implements ReadOnlyExpenseBook, Statistics {
     }
 
     /**
-     * Sort expenses in Expense List according to comparator provided.
-     * @param comparator
+     * {@inheritDoc}
+     *
+     * @see UniqueExpenseList#tallyExpenses(Tag)
+     */
+    @Override
+    public Amount tallyExpenses(Tag category) {
+        return expenses.tallyExpenses(category);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see UniqueExpenseList#tallyExpenses(DateRange)
+     */
+    @Override
+    public Amount tallyExpenses(DateRange dateRange) {
+        return expenses.tallyExpenses(dateRange);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see UniqueExpenseList#tallyExpenses(Tag, DateRange)
+     */
+    @Override
+    public Amount tallyExpenses(Tag category, DateRange dateRange) {
+        return expenses.tallyExpenses(category, dateRange);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see ExpenseRollups#getRollups(RollupPeriod, List, DateRange)
+     */
+    @Override
+    public List<Rollup> getRollups(RollupPeriod period, List<Tag> categories, DateRange dateRange) {
+        return rollups.getRollups(period, categories, dateRange);
+    }
+
+    /**
+     * Sorts the expenses in the expense book with {@code comparator}, and keeps them in that order as expenses are
+     * added and edited later.
      */
     public void sortExpenses(Comparator<Expense> comparator) {
         expenses.sortExpenses(comparator);
@@ -292,6 +409,13 @@ public class ExpenseBook implements ReadOnlyExpenseBook, Statistics {
 
     @Override
     public String getBudgetBarLabel() {
+        Predicate<? super Expense> predicate = expenses.getFilteredList().getPredicate();
+        if (predicate instanceof CategoryMatchesPredicate) {
+            // only the expenses of a single category are shown, so no other category needs to be checked
+            Tag category = ((CategoryMatchesPredicate) predicate).getCategory();
+            return tags.contains(category) ? category.toString() : getBudgetLabelFromList(new ArrayList<>());
+        }
+
         ArrayList<Tag> checkedTagList = new ArrayList<>();
         tags.getTags().stream().map(tag -> Expense.getGenericExpenseWithTag(tag))
                 .filter(expense -> expenses.getFilteredList().getPredicate().test(expense))
@@ -301,6 +425,15 @@ public class ExpenseBook implements ReadOnlyExpenseBook, Statistics {
 
     //// util methods
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    private void countModification(Observable observable) {
+        modificationCount++;
+    }
+
     private String getBudgetLabelFromList(ArrayList<Tag> list) {
         if (list.size() > 1) {
             // Show total budget if Expenses of all tags in UniqueTagList passes
@@ -2,6 +2,8 @@ package seedu.expense.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -12,6 +14,10 @@ import seedu.expense.model.budget.Budget;
 import seedu.expense.model.budget.CategoryBudget;
 import seedu.expense.model.budget.exceptions.CategoryBudgetNotFoundException;
 import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.AmountMatchesPredicate;
+import seedu.expense.model.expense.DateMatchesPredicate;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.expense.DescriptionContainsKeywordsPredicate;
 import seedu.expense.model.expense.Expense;
 import seedu.expense.model.expense.exceptions.CategoryNotFoundException;
 import seedu.expense.model.tag.Tag;
@@ -89,6 +95,12 @@ public interface Model {
      */
     void addExpense(Expense expense);
 
+    /**
+     * Adds the given expenses as a single change, without changing the filters.
+     * None of {@code expenses} may already exist in the expense book.
+     */
+    void addExpenses(List<Expense> expenses);
+
     /**
      * Replaces the given expense {@code target} with {@code editedExpense}.
      * {@code target} must exist in the expense book.
@@ -112,7 +124,8 @@ public interface Model {
     void setAlias(AliasEntry target, AliasEntry editedExpense);
 
     /**
-     * Returns an unmodifiable view of the sorted expense list
+     * Sorts the expense list with {@code expenseComparator}, and keeps it in that order as expenses are added and
+     * edited later.
      */
     void sortExpenseList(Comparator<Expense> expenseComparator);
 
@@ -128,6 +141,31 @@ public interface Model {
      */
     void updateFilteredExpenseList(Predicate<Expense> predicate);
 
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} for the expenses in the expense book,
+     * but is answered from an index instead of by scanning each description.
+     */
+    Predicate<Expense> toIndexedPredicate(DescriptionContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} for the expenses in the expense book,
+     * but is answered from an index in date order instead of by checking every expense.
+     */
+    Predicate<Expense> toIndexedPredicate(DateMatchesPredicate predicate);
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} for the expenses in the expense book,
+     * but is answered from an index in order of amount instead of by checking every expense.
+     */
+    Predicate<Expense> toIndexedPredicate(AmountMatchesPredicate predicate);
+
+    /**
+     * Returns the {@code count} largest expenses in the expense book if {@code isLargest}, or the {@code count}
+     * smallest otherwise, out of those in {@code category} if it is present, and with a date in {@code dateRange}.
+     * The most extreme expense comes first.
+     */
+    List<Expense> findTopExpenses(int count, boolean isLargest, Optional<Tag> category, DateRange dateRange);
+
     /**
      * Updates the filter of the filtered budget list to filter by the given {@code predicate}.
      *
@@ -5,10 +5,13 @@ import static seedu.expense.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.expense.commons.core.Config;
 import seedu.expense.commons.core.GuiSettings;
 import seedu.expense.commons.core.LogsCenter;
 import seedu.expense.model.alias.AliasEntry;
@@ -16,6 +19,11 @@ import seedu.expense.model.alias.AliasMap;
 import seedu.expense.model.budget.Budget;
 import seedu.expense.model.budget.CategoryBudget;
 import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.AmountMatchesPredicate;
+import seedu.expense.model.expense.CategoryMatchesPredicate;
+import seedu.expense.model.expense.DateMatchesPredicate;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.expense.DescriptionContainsKeywordsPredicate;
 import seedu.expense.model.expense.Expense;
 import seedu.expense.model.tag.Tag;
 
@@ -34,12 +42,22 @@ public class ModelManager implements Model {
      */
     public ModelManager(ReadOnlyExpenseBook expenseBook, ReadOnlyUserPrefs userPrefs,
                         AliasMap aliasMap) {
+        this(expenseBook, userPrefs, aliasMap, Config.DEFAULT_PARALLEL_FILTER_THRESHOLD);
+    }
+
+    /**
+     * Initializes a ModelManager with the given expenseBook and userPrefs, whose filtered expense list is filtered in
+     * parallel from {@code parallelFilterThreshold} expenses.
+     */
+    public ModelManager(ReadOnlyExpenseBook expenseBook, ReadOnlyUserPrefs userPrefs,
+                        AliasMap aliasMap, int parallelFilterThreshold) {
         super();
         requireAllNonNull(expenseBook, userPrefs);
 
         logger.fine("Initializing with expense book: " + expenseBook + " and user prefs " + userPrefs);
 
-        this.expenseBook = new ExpenseBook(expenseBook);
+        this.expenseBook = new ExpenseBook(parallelFilterThreshold);
+        this.expenseBook.resetData(expenseBook);
         this.userPrefs = new UserPrefs(userPrefs);
         this.aliasMap = new AliasMap(aliasMap);
     }
@@ -118,6 +136,11 @@ public class ModelManager implements Model {
         updateFilteredBudgetList(PREDICATE_SHOW_ALL_BUDGETS);
     }
 
+    @Override
+    public void addExpenses(List<Expense> expenses) {
+        expenseBook.addExpenses(expenses);
+    }
+
     @Override
     public void setExpense(Expense target, Expense editedExpense) {
         requireAllNonNull(target, editedExpense);
@@ -219,6 +242,31 @@ public class ModelManager implements Model {
         expenseBook.updateFilteredExpenses(predicate);
     }
 
+    @Override
+    public Predicate<Expense> toIndexedPredicate(DescriptionContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return expenseBook.toIndexedPredicate(predicate);
+    }
+
+    @Override
+    public Predicate<Expense> toIndexedPredicate(DateMatchesPredicate predicate) {
+        requireNonNull(predicate);
+        return expenseBook.toIndexedPredicate(predicate);
+    }
+
+    @Override
+    public Predicate<Expense> toIndexedPredicate(AmountMatchesPredicate predicate) {
+        requireNonNull(predicate);
+        return expenseBook.toIndexedPredicate(predicate);
+    }
+
+    @Override
+    public List<Expense> findTopExpenses(int count, boolean isLargest, Optional<Tag> category,
+            DateRange dateRange) {
+        requireAllNonNull(category, dateRange);
+        return expenseBook.findTopExpenses(count, isLargest, category, dateRange);
+    }
+
     @Override
     public void updateFilteredBudgetList(Predicate<CategoryBudget> predicate) {
         requireNonNull(predicate);
@@ -232,7 +280,7 @@ public class ModelManager implements Model {
     public void updateExpenseBookCategory(Tag category) {
         requireNonNull(category);
         updateFilteredBudgetList(budget -> budget.getTag().equals(category));
-        updateFilteredExpenseList(expense -> expense.getTag().equals(category));
+        updateFilteredExpenseList(new CategoryMatchesPredicate(category));
     }
 
     /**
@@ -1,5 +1,7 @@
 package seedu.expense.model;
 
+import static seedu.expense.model.ExpenseBook.DEFAULT_TAG;
+
 import java.util.HashMap;
 
 import javafx.collections.FXCollections;
@@ -14,13 +16,16 @@ import javafx.scene.chart.PieChart;
 public class PieChartData implements ChartDataCollector {
 
     private final ReadOnlyExpenseBook expenseBook;
+    private final Statistics statistics;
 
     /**
-     * Creates instance of PieChartData using {@code ReadOnlyExpenseBook}
+     * Creates instance of PieChartData using {@code ReadOnlyExpenseBook} and its {@code Statistics}.
      * @param expenseBook ReadOnlyExpenseBook that contains stored data.
+     * @param statistics Statistics of the expense book, which provides the expense tallies of each category.
      */
-    public PieChartData(ReadOnlyExpenseBook expenseBook) {
+    public PieChartData(ReadOnlyExpenseBook expenseBook, Statistics statistics) {
         this.expenseBook = expenseBook;
+        this.statistics = statistics;
     }
 
     @Override
@@ -39,12 +44,9 @@ public class PieChartData implements ChartDataCollector {
      */
     private HashMap<String, Double> getDataAsMap() {
         HashMap<String, Double> map = new HashMap<>();
-        map.put("Default", 0.0);
-        expenseBook.getTags().forEach(tag -> map.put(tag.toString(), 0.0));
-        // map must now contain all existing tags. Assertion here?
-        expenseBook.getExpenseList().forEach(expense ->
-                map.put(expense.getTag().toString(), map.get(expense.getTag().toString())
-                        + expense.getAmount().getDollarAsDoubleValue()));
+        map.put(DEFAULT_TAG.toString(), statistics.tallyExpenses(DEFAULT_TAG).getDollarAsDoubleValue());
+        expenseBook.getTags().forEach(tag ->
+                map.put(tag.toString(), statistics.tallyExpenses(tag).getDollarAsDoubleValue()));
         return map;
     }
 
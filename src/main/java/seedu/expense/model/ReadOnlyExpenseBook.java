@@ -32,4 +32,10 @@ public interface ReadOnlyExpenseBook {
      * Returns the tags.
      */
     ObservableList<Tag> getTags();
+
+    /**
+     * Returns the number of changes made to the expenses, budgets and categories so far.
+     * Filtering the expense book does not count as a change.
+     */
+    long getModificationCount();
 }
@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getExpenseBookFilePath();
 
+    /**
+     * Returns true if the expense book file should be indented to be easier to read, at the cost of its size and the
+     * time taken to save it.
+     */
+    boolean isDataFilePrettyPrinted();
+
 }
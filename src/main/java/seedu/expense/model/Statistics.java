@@ -1,9 +1,16 @@
 package seedu.expense.model;
 
+import java.util.List;
+
 import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.rollup.Rollup;
+import seedu.expense.model.rollup.RollupPeriod;
+import seedu.expense.model.tag.Tag;
 
 /**
  * Statistical calculation of an expense book
+ * The tallies are kept as running totals, so they are cheap to retrieve after each command.
  */
 public interface Statistics {
 
@@ -14,6 +21,36 @@ public interface Statistics {
      */
     Amount tallyExpenses();
 
+    /**
+     * Returns the tallied total amount of all the expenses in the specified {@code category}
+     *
+     * @return tallied amount
+     */
+    Amount tallyExpenses(Tag category);
+
+    /**
+     * Returns the tallied total amount of all the expenses with a date in {@code dateRange}
+     *
+     * @return tallied amount
+     */
+    Amount tallyExpenses(DateRange dateRange);
+
+    /**
+     * Returns the tallied total amount of all the expenses in the specified {@code category} with a date in
+     * {@code dateRange}
+     *
+     * @return tallied amount
+     */
+    Amount tallyExpenses(Tag category, DateRange dateRange);
+
+    /**
+     * Returns the number of expenses and their total amount in each of {@code categories} over each {@code period}
+     * that overlaps {@code dateRange}, in date order
+     *
+     * @return rollups of the periods with expenses
+     */
+    List<Rollup> getRollups(RollupPeriod period, List<Tag> categories, DateRange dateRange);
+
     /**
      * Returns the tallied filtered budgets amount
      *
@@ -16,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path expenseBookFilePath = Paths.get("data", "expensebook.json");
     private Path aliasMapFilePath = Paths.get("data", "aliasmap.json");
+    private boolean isDataFilePrettyPrinted = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setExpenseBookFilePath(newUserPrefs.getExpenseBookFilePath());
+        setDataFilePrettyPrinted(newUserPrefs.isDataFilePrettyPrinted());
     }
 
     public GuiSettings getGuiSettings() {
@@ -62,6 +64,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.expenseBookFilePath = expenseBookFilePath;
     }
 
+    public boolean isDataFilePrettyPrinted() {
+        return isDataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean isDataFilePrettyPrinted) {
+        this.isDataFilePrettyPrinted = isDataFilePrettyPrinted;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -74,12 +84,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && expenseBookFilePath.equals(o.expenseBookFilePath);
+                && expenseBookFilePath.equals(o.expenseBookFilePath)
+                && isDataFilePrettyPrinted == o.isDataFilePrettyPrinted;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, expenseBookFilePath);
+        return Objects.hash(guiSettings, expenseBookFilePath, isDataFilePrettyPrinted);
     }
 
     @Override
@@ -87,6 +98,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + expenseBookFilePath);
+        sb.append("\nLocal data file pretty printed : " + isDataFilePrettyPrinted);
         return sb.toString();
     }
 
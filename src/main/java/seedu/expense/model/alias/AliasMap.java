@@ -52,6 +52,7 @@ public class AliasMap {
 
     // Maps String alias to String default_command
     private final HashMap<String, String> aliasMap;
+    private long modificationCount;
 
     /**
      * Constructs a new {@code AliasMap}.
@@ -78,6 +79,7 @@ public class AliasMap {
         for (AliasEntry e: aliases) {
             this.aliasMap.put(e.getKey(), e.getValue());
         }
+        modificationCount++;
     }
 
     /**
@@ -125,6 +127,7 @@ public class AliasMap {
      */
     public void addAlias(AliasEntry aliasEntry) {
         aliasMap.put(aliasEntry.getKey(), aliasEntry.getValue());
+        modificationCount++;
     }
 
     /**
@@ -163,6 +166,7 @@ public class AliasMap {
             throw new IllegalArgumentException(MESSAGE_TOO_LONG);
         }
         this.aliasMap.remove(prev.getKey());
+        modificationCount++;
         if (!RESERVED_KEYWORDS.contains(update.getKey())) {
             addAlias(update);
         }
@@ -182,10 +186,22 @@ public class AliasMap {
      */
     public void removeAlias(AliasEntry alias) {
         aliasMap.remove(alias.getKey());
+        modificationCount++;
     }
 
+    /**
+     * Removes all aliases from the alias map.
+     */
     public void removeAllAliases() {
         aliasMap.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of changes made to the alias map so far.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     public boolean isEmpty() {
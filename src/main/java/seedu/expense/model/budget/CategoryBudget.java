@@ -1,5 +1,8 @@
 package seedu.expense.model.budget;
 
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import seedu.expense.model.expense.Amount;
 import seedu.expense.model.tag.Tag;
 
@@ -7,19 +10,26 @@ import seedu.expense.model.tag.Tag;
  * Represents a category-budget in the expense book.
  */
 public class CategoryBudget implements Budget {
-    private Amount amount;
+    private final ObjectProperty<Amount> amount = new SimpleObjectProperty<>();
     private Tag tag;
 
     /**
      * Constructs a new category-budget with the specified {@code Tag} with zero amount.
      */
     public CategoryBudget(Tag tag) {
-        amount = new Amount(0);
+        amount.set(new Amount(0));
         this.tag = tag;
     }
 
     @Override
     public Amount getAmount() {
+        return amount.get();
+    }
+
+    /**
+     * Returns the amount of the category-budget as a property that can be observed for changes.
+     */
+    public ReadOnlyObjectProperty<Amount> amountProperty() {
         return amount;
     }
 
@@ -33,7 +43,7 @@ public class CategoryBudget implements Budget {
     @Override
     public void topupBudget(Amount toAdd) {
         assert toAdd.greaterThanEquals(Amount.zeroAmount());
-        amount = amount.add(toAdd);
+        amount.set(getAmount().add(toAdd));
     }
 
     /**
@@ -42,8 +52,8 @@ public class CategoryBudget implements Budget {
     @Override
     public void reduceBudget(Amount toSubtract) {
         assert toSubtract.greaterThanEquals(Amount.zeroAmount());
-        if (toSubtract.smallerThanEquals(amount)) {
-            amount = amount.subtract(toSubtract);
+        if (toSubtract.smallerThanEquals(getAmount())) {
+            amount.set(getAmount().subtract(toSubtract));
         } else {
             reset();
         }
@@ -54,7 +64,7 @@ public class CategoryBudget implements Budget {
      */
     @Override
     public void reset() {
-        amount = Amount.zeroAmount();
+        amount.set(Amount.zeroAmount());
     }
 
     /**
@@ -81,12 +91,12 @@ public class CategoryBudget implements Budget {
      */
     @Override
     public boolean hasAmount(Amount amount) {
-        return this.amount.greaterThanEquals(amount);
+        return getAmount().greaterThanEquals(amount);
     }
 
     @Override
     public String toString() {
-        return String.format("Budget: %s", amount.toString());
+        return String.format("Budget: %s", getAmount().toString());
     }
 
     @Override
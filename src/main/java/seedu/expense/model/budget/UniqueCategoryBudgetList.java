@@ -4,17 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.expense.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.expense.model.ExpenseBook.DEFAULT_TAG;
 
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javafx.beans.Observable;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.expense.model.budget.exceptions.CategoryBudgetNotFoundException;
 import seedu.expense.model.budget.exceptions.DuplicateCategoryBudgetException;
 import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.AmountTally;
 import seedu.expense.model.tag.Tag;
 
 /**
@@ -26,6 +31,9 @@ import seedu.expense.model.tag.Tag;
  * However, the removal of an expense uses Expense#equals(Object) so
  * as to ensure that the expense with exactly the same fields will be removed.
  * <p>
+ * The sum of the filtered category-budgets is kept as a running total, which is updated from the change events of the
+ * filtered list. The list observes the amount of each category-budget, so top-ups and reductions are tallied too.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see CategoryBudget#isSameCategoryBudget(CategoryBudget)
@@ -33,12 +41,24 @@ import seedu.expense.model.tag.Tag;
 public class UniqueCategoryBudgetList implements Budget, Iterable<CategoryBudget> {
 
     private final CategoryBudget defaultCategory = new CategoryBudget(DEFAULT_TAG);
-    private final ObservableList<CategoryBudget> internalList = FXCollections.observableArrayList();
+    private final ObservableList<CategoryBudget> internalList =
+        FXCollections.observableArrayList(budget -> new Observable[] {budget.amountProperty()});
     private final ObservableList<CategoryBudget> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
     private final FilteredList<CategoryBudget> filteredList =
         new FilteredList<>(asUnmodifiableObservableList());
 
+    private final AmountTally filteredTally = new AmountTally();
+    // amounts of the filtered category-budgets as they were last tallied
+    private final Map<CategoryBudget, Amount> talliedAmounts = new IdentityHashMap<>();
+
+    /**
+     * Constructs an empty {@code UniqueCategoryBudgetList}.
+     */
+    public UniqueCategoryBudgetList() {
+        filteredList.addListener(this::updateFilteredTally);
+    }
+
     /**
      * Returns true if the list contains an equivalent category-budget as the given argument.
      */
@@ -82,11 +102,7 @@ public class UniqueCategoryBudgetList implements Budget, Iterable<CategoryBudget
             ? defaultCategory.getAmount()
             : Amount.zeroAmount();
         assert sum.greaterThanEquals(Amount.zeroAmount());
-        Iterator<CategoryBudget> i = iterator();
-        while (i.hasNext()) {
-            sum = sum.add(i.next().getAmount());
-        }
-        return sum;
+        return sum.add(filteredTally.toAmount());
     }
 
     public void setBudgets(UniqueCategoryBudgetList replacement) {
@@ -218,6 +234,39 @@ public class UniqueCategoryBudgetList implements Budget, Iterable<CategoryBudget
         return getCategoryBudget(category).hasAmount(amount);
     }
 
+    /**
+     * Keeps {@code filteredTally} in sync with the category-budgets that are in the filtered list and their amounts.
+     */
+    private void updateFilteredTally(ListChangeListener.Change<? extends CategoryBudget> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasUpdated()) {
+                for (CategoryBudget updated : change.getList().subList(change.getFrom(), change.getTo())) {
+                    untally(updated);
+                    tally(updated);
+                }
+                continue;
+            }
+            change.getRemoved().forEach(this::untally);
+            change.getAddedSubList().forEach(this::tally);
+        }
+    }
+
+    private void tally(CategoryBudget categoryBudget) {
+        Amount amount = categoryBudget.getAmount();
+        talliedAmounts.put(categoryBudget, amount);
+        filteredTally.add(amount);
+    }
+
+    private void untally(CategoryBudget categoryBudget) {
+        Amount amount = talliedAmounts.remove(categoryBudget);
+        if (amount != null) {
+            filteredTally.subtract(amount);
+        }
+    }
+
     private boolean isAllDefaultCategory() {
         Tag defaultTag = new Tag("Default");
         return filteredList.stream().allMatch(budget -> budget.getTag().equals(defaultTag));
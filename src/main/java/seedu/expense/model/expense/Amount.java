@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.expense.commons.util.AppUtil.checkArgument;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 /**
  * Represents an Expense's amount in the expense book.
@@ -17,14 +16,21 @@ public class Amount implements Comparable<Amount> {
             + "Amount Format: should only contain numbers and 1 '.', and should be in the <dollars>.<cents> format.\n"
             + "    \".<cents>\" input is optional but <dollars> should contain at least 1 digit.\n"
             + "Value Restrictions: -10e9 to 10e9 inclusive";
-    public static final String VALIDATION_REGEX = "(?<dollars>\\-??\\d+)(.(?<cents>\\d{1,2}))?";
     public static final BigDecimal MAX_VALUE = new BigDecimal("10e9");
     public static final BigDecimal MIN_VALUE = new BigDecimal("-10e9");
-    private static final BigDecimal ZERO_VALUE = new BigDecimal("0");
-    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_EVEN;
+    public static final long MAX_CENTS = MAX_VALUE.movePointRight(2).longValueExact();
+    public static final long MIN_CENTS = MIN_VALUE.movePointRight(2).longValueExact();
+
+    private static final Amount ZERO_AMOUNT = new Amount(0L);
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int MAX_CENT_DIGITS = 2;
+    // more dollar digits than this cannot be within range, and might overflow a long while being parsed
+    private static final int MAX_DOLLAR_DIGITS = 15;
+    // returned by parseCents(String) for strings that are not valid amounts; it is out of the range of an Amount
+    private static final long INVALID_CENTS = Long.MIN_VALUE;
 
     // value in Amount stored as cents
-    protected final BigDecimal value;
+    private final long cents;
 
     /**
      * Constructs a {@code Amount}.
@@ -33,9 +39,9 @@ public class Amount implements Comparable<Amount> {
      */
     public Amount(String amount) throws IllegalArgumentException {
         requireNonNull(amount);
-        checkArgument(isValidAmount(amount), MESSAGE_CONSTRAINTS);
-
-        value = toCents(new BigDecimal(amount));
+        long parsedCents = parseCents(amount);
+        checkArgument(isWithinRange(parsedCents), MESSAGE_CONSTRAINTS);
+        cents = parsedCents;
     }
 
     /**
@@ -47,62 +53,104 @@ public class Amount implements Comparable<Amount> {
         this(String.valueOf(amount));
     }
 
-    /**
-     * Constructor for Amount that already comes in cents.
-     * @param minTermAmount value already comes in cents.
-     */
-    public Amount(BigDecimal minTermAmount) {
-        requireNonNull(minTermAmount);
-        checkArgument(isWithinMinTermRange(minTermAmount), MESSAGE_CONSTRAINTS);
-        this.value = minTermAmount;
-    }
-
-    /**
-     * Converts an amount (rounded to two decimal places) into cents.
-     */
-    private static BigDecimal toCents(BigDecimal amount) {
-        return amount.multiply(new BigDecimal("100"));
+    private Amount(long cents) {
+        this.cents = cents;
     }
 
     /**
-     * Converts an amount (in cents) into the format [dollars].[cents]
+     * Returns an {@code Amount} for a value that already comes in cents.
+     *
+     * @throws IllegalArgumentException if {@code cents} is out of the range of an {@code Amount}.
      */
-    private static BigDecimal toDollars(BigDecimal amount) {
-        return amount.divide(new BigDecimal("100"), ROUNDING_MODE);
+    public static Amount fromCents(long cents) {
+        checkArgument(isWithinRange(cents), MESSAGE_CONSTRAINTS);
+        return cents == 0 ? ZERO_AMOUNT : new Amount(cents);
     }
 
     /**
      * Returns true if a given string is a valid amount.
      */
     public static boolean isValidAmount(String test) {
-        return test.matches(VALIDATION_REGEX) && isWithinRange(new BigDecimal(test));
+        return isWithinRange(parseCents(test));
     }
 
-    private static boolean isWithinRange(BigDecimal value) {
-        return value.compareTo(MAX_VALUE) <= 0 && value.compareTo(MIN_VALUE) >= 0;
+    private static boolean isWithinRange(long cents) {
+        return cents <= MAX_CENTS && cents >= MIN_CENTS;
     }
 
-    private static boolean isWithinMinTermRange(BigDecimal value) {
-        return value.compareTo(MAX_VALUE.multiply(new BigDecimal("100"))) <= 0
-                && value.compareTo(MIN_VALUE.multiply(new BigDecimal("100"))) >= 0;
+    /**
+     * Parses an amount in the {@code <dollars>.<cents>} format into cents.
+     * Returns {@code INVALID_CENTS} if {@code amount} is not in that format.
+     */
+    private static long parseCents(String amount) {
+        int length = amount.length();
+        boolean isNegative = length > 0 && amount.charAt(0) == '-';
+        int i = isNegative ? 1 : 0;
+
+        int dollarsStart = i;
+        long dollars = 0;
+        while (i < length && isAsciiDigit(amount.charAt(i))) {
+            if (i - dollarsStart == MAX_DOLLAR_DIGITS) {
+                return INVALID_CENTS;
+            }
+            dollars = dollars * 10 + (amount.charAt(i) - '0');
+            i++;
+        }
+        if (i == dollarsStart) {
+            return INVALID_CENTS;
+        }
+
+        long cents = 0;
+        if (i < length) {
+            if (amount.charAt(i) != '.') {
+                return INVALID_CENTS;
+            }
+            i++;
+            int centDigits = length - i;
+            if (centDigits < 1 || centDigits > MAX_CENT_DIGITS) {
+                return INVALID_CENTS;
+            }
+            for (int centsPlace = CENTS_PER_DOLLAR / 10; i < length; i++, centsPlace /= 10) {
+                if (!isAsciiDigit(amount.charAt(i))) {
+                    return INVALID_CENTS;
+                }
+                cents += (amount.charAt(i) - '0') * centsPlace;
+            }
+        }
+
+        long totalCents = dollars * CENTS_PER_DOLLAR + cents;
+        return isNegative ? -totalCents : totalCents;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     /**
      * Returns a new {@code Amount} as the sum of the current {@code Amount} and the specified {@code Amount}.
-     * Uses the minTerm constructor so no need to divide the values by 100 beforehand.
+     *
+     * @throws IllegalArgumentException if the sum is out of the range of an {@code Amount}.
      */
     public Amount add(Amount other) {
         requireNonNull(other);
-        return new Amount(this.value.add(other.value));
+        return fromCents(Math.addExact(cents, other.cents));
     }
 
     /**
      * Returns a new {@code Amount} as the difference of the current {@code Amount} and the specified {@code Amount}.
-     * Uses the minTerm constructor so no need to divide the values by 100 beforehand.
+     *
+     * @throws IllegalArgumentException if the difference is out of the range of an {@code Amount}.
      */
     public Amount subtract(Amount other) {
         requireNonNull(other);
-        return new Amount(this.value.subtract(other.value));
+        return fromCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * Returns the value of the amount in cents.
+     */
+    public long getCents() {
+        return cents;
     }
 
     /**
@@ -110,53 +158,50 @@ public class Amount implements Comparable<Amount> {
      * Warning: use only if absolutely required due to precision loss.
      */
     public Double getDollarAsDoubleValue() {
-        return toDollars(value).doubleValue();
+        return (double) cents / CENTS_PER_DOLLAR;
     }
 
     public static Amount zeroAmount() {
-        return new Amount("0");
+        return ZERO_AMOUNT;
     }
 
     public boolean greaterThan(Amount other) {
-        return this.value.compareTo(other.value) > 0;
+        return cents > other.cents;
     }
 
     public boolean smallerThan(Amount other) {
-        return this.value.compareTo(other.value) < 0;
+        return cents < other.cents;
     }
 
     public boolean greaterThanEquals(Amount other) {
-        return this.value.compareTo(other.value) >= 0;
+        return cents >= other.cents;
     }
 
     public boolean smallerThanEquals(Amount other) {
-        return this.value.compareTo(other.value) <= 0;
+        return cents <= other.cents;
     }
 
     @Override
     public String toString() {
-        BigDecimal output = toDollars(this.value);
-        return output.setScale(2, ROUNDING_MODE).toString();
+        long absoluteCents = Math.abs(cents);
+        long centsPart = absoluteCents % CENTS_PER_DOLLAR;
+        return (cents < 0 ? "-" : "") + absoluteCents / CENTS_PER_DOLLAR + (centsPart < 10 ? ".0" : ".") + centsPart;
     }
 
-    /**
-     * Equality for Amount.
-     * Note that BigDecimal equality should be calculated irrespective of scale.
-     */
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Amount // instanceof handles nulls
-                && value.compareTo(((Amount) other).value) == 0); // state check
+                && cents == ((Amount) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(cents);
     }
 
     @Override
     public int compareTo(Amount o) {
-        return this.value.compareTo(o.value);
+        return Long.compare(cents, o.cents);
     }
 }
@@ -20,6 +20,11 @@ public class AmountComparator extends SortKeyComparator {
         return o1.getAmount().compareTo(o2.getAmount());
     }
 
+    @Override
+    public SortKey getSortKey() {
+        return SortKey.AMOUNT;
+    }
+
     @Override
     public String toString() {
         return this.isReverse() ? this.SORT_KEYWORD + " reversed" : this.SORT_KEYWORD;
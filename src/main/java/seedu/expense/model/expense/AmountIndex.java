@@ -0,0 +1,104 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * An index of expenses by their amounts, in order of amount, which answers the same queries as
+ * {@link AmountMatchesPredicate} without going through every expense, and finds the largest or smallest expenses
+ * without sorting them all.
+ */
+public class AmountIndex {
+
+    /**
+     * Orders expenses by amount, then by date, then by description. Expenses with the same identity are the only ones
+     * that are ordered the same, so the order of the expenses in an expense book is fully decided.
+     */
+    public static final Comparator<Expense> AMOUNT_ORDER = Comparator.comparing(Expense::getAmount)
+            .thenComparing(expense -> expense.getDate().value)
+            .thenComparing(expense -> expense.getDescription().fullDescription);
+
+    private final NavigableMap<Long, Set<Expense>> expensesByCents = new TreeMap<>();
+    private long modificationCount;
+
+    /**
+     * Adds {@code expense} to the index.
+     * No expense with the same identity may already be in the index.
+     */
+    public void add(Expense expense) {
+        requireNonNull(expense);
+        expensesByCents.computeIfAbsent(expense.getAmount().getCents(), unused -> new HashSet<>()).add(expense);
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code expense} from the index.
+     */
+    public void remove(Expense expense) {
+        requireNonNull(expense);
+        long cents = expense.getAmount().getCents();
+        Set<Expense> expenses = expensesByCents.get(cents);
+        if (expenses != null && expenses.remove(expense) && expenses.isEmpty()) {
+            expensesByCents.remove(cents);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the indexed expenses with an amount in any of {@code amountRanges}.
+     */
+    public Set<Expense> findExpenses(Collection<AmountRange> amountRanges) {
+        requireNonNull(amountRanges);
+        Set<Expense> matches = new HashSet<>();
+        for (AmountRange amountRange : amountRanges) {
+            expensesByCents.subMap(amountRange.min.getCents(), true, amountRange.max.getCents(), true).values()
+                    .forEach(matches::addAll);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that tests whether an expense has an amount in any of {@code amountRanges}, as with
+     * {@link #findExpenses(Collection)}. The predicate only tests expenses that are in the index, and stays in sync
+     * with the index.
+     */
+    public Predicate<Expense> toPredicate(Collection<AmountRange> amountRanges) {
+        requireNonNull(amountRanges);
+        return new IndexedPredicate(() -> findExpenses(amountRanges), () -> modificationCount);
+    }
+
+    /**
+     * Returns the first {@code count} indexed expenses that pass {@code filter}, largest first if {@code isLargest},
+     * or smallest first otherwise, in {@link #AMOUNT_ORDER}.
+     * The expenses are gone through in order of amount until enough have been found, so only the expenses that are
+     * ranked higher than the last one found are tested.
+     */
+    public List<Expense> findExtremes(int count, boolean isLargest, Predicate<Expense> filter) {
+        requireNonNull(filter);
+        Comparator<Expense> order = isLargest ? AMOUNT_ORDER.reversed() : AMOUNT_ORDER;
+        List<Expense> found = new ArrayList<>();
+        for (Set<Expense> sameAmount : (isLargest ? expensesByCents.descendingMap() : expensesByCents).values()) {
+            if (found.size() >= count) {
+                break;
+            }
+            // expenses of the same amount are few, so they are sorted to keep the result in a fixed order
+            List<Expense> ranked = new ArrayList<>(sameAmount);
+            ranked.sort(order);
+            for (Expense expense : ranked) {
+                if (found.size() < count && filter.test(expense)) {
+                    found.add(expense);
+                }
+            }
+        }
+        return found;
+    }
+}
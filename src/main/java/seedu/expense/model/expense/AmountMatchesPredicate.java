@@ -0,0 +1,57 @@
+package seedu.expense.model.expense;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests that an {@code Expense}'s {@code Amount} is within any of the amount ranges given.
+ */
+public class AmountMatchesPredicate implements Predicate<Expense> {
+    private final Set<AmountRange> amountRanges;
+
+    /**
+     * Constructor that takes in a list of strings representing amounts or amount ranges.
+     * It stores the strings that are valid amount ranges, as described in
+     * {@link AmountRange#isValidAmountRange(String)}.
+     */
+    public AmountMatchesPredicate(List<String> amountStrings) {
+        Set<AmountRange> temp = new HashSet<>();
+        for (String s: amountStrings) {
+            if (AmountRange.isValidAmountRange(s)) {
+                temp.add(new AmountRange(s));
+            }
+        }
+        this.amountRanges = temp;
+    }
+
+    public Set<AmountRange> getAmountRanges() {
+        return Collections.unmodifiableSet(amountRanges);
+    }
+
+    @Override
+    public boolean test(Expense expense) {
+        return amountRanges.stream().anyMatch(amountRange -> amountRange.contains(expense.getAmount()));
+    }
+
+    /**
+     * Returns true if there are no amounts to match in this predicate. Otherwise, return false.
+     */
+    public boolean isEmpty() {
+        return this.amountRanges.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AmountMatchesPredicate // instanceof handles nulls
+                && amountRanges.equals(((AmountMatchesPredicate) other).amountRanges)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return amountRanges.hashCode();
+    }
+}
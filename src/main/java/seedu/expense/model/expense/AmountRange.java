@@ -0,0 +1,107 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expense.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+/**
+ * Represents an inclusive range of amounts that expenses can be found by.
+ * Guarantees: immutable; the range is not empty; is valid as declared in {@link #isValidAmountRange(String)}
+ */
+public class AmountRange {
+
+    public static final String MESSAGE_CONSTRAINTS = "Amounts to find by should be in one of these formats:\n"
+            + "1. <amount>, for that exact amount.\n"
+            + "2. <min>:<max>, for the amounts from one amount to another, inclusive.\n"
+            + "   Either amount can be left out to find all amounts up to <max>, or from <min> upwards.\n"
+            + "Amounts are in the <dollars>.<cents> format, and <min> should not be more than <max>.";
+
+    public static final String RANGE_SEPARATOR = ":";
+
+    public final Amount min;
+    public final Amount max;
+
+    /**
+     * Constructs an {@code AmountRange}.
+     *
+     * @param amountRange A valid amount range, as a {@code String}.
+     */
+    public AmountRange(String amountRange) {
+        requireNonNull(amountRange);
+        checkArgument(isValidAmountRange(amountRange), MESSAGE_CONSTRAINTS);
+        AmountRange parsed = parse(amountRange);
+        min = parsed.min;
+        max = parsed.max;
+    }
+
+    /**
+     * Constructs an {@code AmountRange} from {@code min} to {@code max}, inclusive.
+     * {@code min} must not be more than {@code max}.
+     */
+    public AmountRange(Amount min, Amount max) {
+        requireNonNull(min);
+        requireNonNull(max);
+        checkArgument(!min.greaterThan(max), MESSAGE_CONSTRAINTS);
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Returns true if a given string is a valid amount range.
+     */
+    public static boolean isValidAmountRange(String test) {
+        return parse(test) != null;
+    }
+
+    /**
+     * Parses {@code amountRange}, or returns null if it is not a valid amount range.
+     */
+    private static AmountRange parse(String amountRange) {
+        int separatorIndex = amountRange.indexOf(RANGE_SEPARATOR);
+        if (separatorIndex < 0) {
+            if (!Amount.isValidAmount(amountRange)) {
+                return null;
+            }
+            Amount amount = new Amount(amountRange);
+            return new AmountRange(amount, amount);
+        }
+
+        String minString = amountRange.substring(0, separatorIndex);
+        String maxString = amountRange.substring(separatorIndex + RANGE_SEPARATOR.length());
+        boolean hasMin = !minString.isEmpty();
+        boolean hasMax = !maxString.isEmpty();
+        if ((!hasMin && !hasMax) || (hasMin && !Amount.isValidAmount(minString))
+                || (hasMax && !Amount.isValidAmount(maxString))) {
+            return null;
+        }
+        Amount min = hasMin ? new Amount(minString) : Amount.fromCents(Amount.MIN_CENTS);
+        Amount max = hasMax ? new Amount(maxString) : Amount.fromCents(Amount.MAX_CENTS);
+        return min.greaterThan(max) ? null : new AmountRange(min, max);
+    }
+
+    /**
+     * Returns true if {@code amount} is within this range.
+     */
+    public boolean contains(Amount amount) {
+        return amount.greaterThanEquals(min) && amount.smallerThanEquals(max);
+    }
+
+    @Override
+    public String toString() {
+        return min + RANGE_SEPARATOR + max;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AmountRange // instanceof handles nulls
+                && min.equals(((AmountRange) other).min)
+                && max.equals(((AmountRange) other).max)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(min, max);
+    }
+}
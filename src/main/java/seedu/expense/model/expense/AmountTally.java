@@ -0,0 +1,49 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A running total of {@code Amount}s that is updated as amounts are added to or removed from it.
+ * The total is kept in cents and is not range-checked while it is being updated, so that the running total stays
+ * consistent even if it goes out of the range of an {@code Amount} for a while.
+ */
+public class AmountTally {
+
+    private long total = 0;
+
+    /**
+     * Adds {@code amount} to the running total.
+     *
+     * @throws ArithmeticException if the running total overflows a {@code long}.
+     */
+    public void add(Amount amount) {
+        requireNonNull(amount);
+        total = Math.addExact(total, amount.getCents());
+    }
+
+    /**
+     * Subtracts {@code amount} from the running total.
+     *
+     * @throws ArithmeticException if the running total overflows a {@code long}.
+     */
+    public void subtract(Amount amount) {
+        requireNonNull(amount);
+        total = Math.subtractExact(total, amount.getCents());
+    }
+
+    /**
+     * Resets the running total to zero.
+     */
+    public void reset() {
+        total = 0;
+    }
+
+    /**
+     * Returns the running total as an {@code Amount}.
+     *
+     * @throws IllegalArgumentException if the running total is out of the range of an {@code Amount}.
+     */
+    public Amount toAmount() {
+        return Amount.fromCents(total);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.expense.model.expense;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The expenses of one category, together with the running total of their amounts and the total spent on each day.
+ */
+class CategoryBucket {
+
+    private final Set<Expense> expenses = new HashSet<>();
+    private final AmountTally tally = new AmountTally();
+    private final DailyAmountTree dailyAmounts = new DailyAmountTree();
+
+    /**
+     * Adds {@code expense} to the bucket.
+     * No expense with the same identity may already be in the bucket.
+     */
+    void add(Expense expense) {
+        expenses.add(expense);
+        tally.add(expense.getAmount());
+        dailyAmounts.add(expense.getDate().value, expense.getAmount());
+    }
+
+    /**
+     * Removes {@code expense} from the bucket.
+     */
+    void remove(Expense expense) {
+        if (expenses.remove(expense)) {
+            tally.subtract(expense.getAmount());
+            dailyAmounts.subtract(expense.getDate().value, expense.getAmount());
+        }
+    }
+
+    boolean isEmpty() {
+        return expenses.isEmpty();
+    }
+
+    Set<Expense> getExpenses() {
+        return Collections.unmodifiableSet(expenses);
+    }
+
+    Amount getTotal() {
+        return tally.toAmount();
+    }
+
+    Amount getTotal(DateRange dateRange) {
+        return dailyAmounts.total(dateRange);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Tests that an {@code Expense} belongs to the given category.
+ */
+public class CategoryMatchesPredicate implements Predicate<Expense> {
+    private final Tag category;
+
+    /**
+     * Creates a {@code CategoryMatchesPredicate} for the expenses in {@code category}.
+     */
+    public CategoryMatchesPredicate(Tag category) {
+        requireNonNull(category);
+        this.category = category;
+    }
+
+    public Tag getCategory() {
+        return category;
+    }
+
+    @Override
+    public boolean test(Expense expense) {
+        return expense.getTag().equals(category);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CategoryMatchesPredicate // instanceof handles nulls
+                && category.equals(((CategoryMatchesPredicate) other).category)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return category.hashCode();
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * The total amount spent on each day, kept in a Fenwick tree over the days so that the total spent over any range of
+ * days is found in time proportional to the log of the number of days covered, and is updated in the same time as
+ * amounts are added or removed.
+ * <p>
+ * The tree covers a window of consecutive days, which starts around the first date added and doubles in size when
+ * an amount is added on a date outside of it, up to {@code MAX_CAPACITY} days. The totals of days that the window
+ * cannot grow to cover, such as a mistyped date centuries away, are kept in a sorted map instead, so that one outlying
+ * date does not make the window, and every tree like it, millions of days long. If many days end up in the map, the
+ * window is moved to the span of days with the most amounts, e.g. when the first date added was the outlier.
+ */
+public class DailyAmountTree {
+
+    static final int INITIAL_CAPACITY = 512;
+    // about 90 years
+    static final int MAX_CAPACITY = 1 << 15;
+    static final int MIN_OUTLYING_DAYS_TO_MOVE_WINDOW = 1024;
+
+    // the epoch day of the first day in the window
+    private long firstDay;
+    // tree[i] is the total spent on the days (i - lowestOneBit(i), i] of the window, counting from 1
+    private long[] tree = new long[1];
+    // the total spent on each day that was outside the window when it was added to, if it is not zero
+    private final NavigableMap<Long, Long> outlyingTotals = new TreeMap<>();
+    private int outlyingDaysToMoveWindow = MIN_OUTLYING_DAYS_TO_MOVE_WINDOW;
+
+    /**
+     * Adds {@code amount} to the total spent on {@code date}.
+     *
+     * @throws ArithmeticException if a total overflows a {@code long}.
+     */
+    public void add(LocalDate date, Amount amount) {
+        requireNonNull(date);
+        requireNonNull(amount);
+        update(date.toEpochDay(), amount.getCents());
+    }
+
+    /**
+     * Subtracts {@code amount} from the total spent on {@code date}.
+     *
+     * @throws ArithmeticException if a total overflows a {@code long}.
+     */
+    public void subtract(LocalDate date, Amount amount) {
+        requireNonNull(date);
+        requireNonNull(amount);
+        update(date.toEpochDay(), Math.negateExact(amount.getCents()));
+    }
+
+    /**
+     * Returns the total spent on the dates in {@code dateRange}.
+     *
+     * @throws IllegalArgumentException if the total is out of the range of an {@code Amount}.
+     */
+    public Amount total(DateRange dateRange) {
+        requireNonNull(dateRange);
+        long total = 0;
+        long to = Math.min(dateRange.to.toEpochDay() - firstDay + 1, getCapacity());
+        long from = Math.max(dateRange.from.toEpochDay() - firstDay, 0);
+        if (from < to) {
+            total = prefixTotal((int) to) - prefixTotal((int) from);
+        }
+        for (long cents : outlyingTotals.subMap(dateRange.from.toEpochDay(), true, dateRange.to.toEpochDay(), true)
+                .values()) {
+            total += cents;
+        }
+        return Amount.fromCents(total);
+    }
+
+    /**
+     * Returns the number of days the window covers.
+     */
+    int getCapacity() {
+        return tree.length - 1;
+    }
+
+    private void update(long day, long cents) {
+        if (cents == 0) {
+            return;
+        }
+        if (!tryToCover(day)) {
+            outlyingTotals.merge(day, cents, DailyAmountTree::addUnlessZero);
+            if (outlyingTotals.size() > outlyingDaysToMoveWindow) {
+                moveWindow();
+            }
+            return;
+        }
+        for (int i = (int) (day - firstDay) + 1; i < tree.length; i += Integer.lowestOneBit(i)) {
+            tree[i] = Math.addExact(tree[i], cents);
+        }
+    }
+
+    /**
+     * Returns the total spent on the first {@code dayCount} days of the window.
+     */
+    private long prefixTotal(int dayCount) {
+        long total = 0;
+        for (int i = dayCount; i > 0; i -= Integer.lowestOneBit(i)) {
+            total += tree[i];
+        }
+        return total;
+    }
+
+    /**
+     * Grows the window so that it covers {@code day}, keeping the totals of the days already covered.
+     *
+     * @return false if the window would have to grow beyond {@code MAX_CAPACITY} days, in which case it is unchanged.
+     */
+    private boolean tryToCover(long day) {
+        int capacity = getCapacity();
+        if (capacity == 0) {
+            firstDay = day - INITIAL_CAPACITY / 2;
+            tree = new long[INITIAL_CAPACITY + 1];
+            return true;
+        }
+        long lastDay = firstDay + capacity - 1;
+        if (day >= firstDay && day <= lastDay) {
+            return true;
+        }
+
+        long newCapacity = capacity;
+        while (newCapacity < Math.max(lastDay, day) - Math.min(firstDay, day) + 1) {
+            newCapacity *= 2;
+            if (newCapacity > MAX_CAPACITY) {
+                return false;
+            }
+        }
+        // the room to grow is left on the side the window grew towards
+        long newFirstDay = day < firstDay ? lastDay - newCapacity + 1 : firstDay;
+
+        long[] newTotals = new long[(int) newCapacity];
+        System.arraycopy(toDailyTotals(), 0, newTotals, (int) (firstDay - newFirstDay), capacity);
+        setWindow(newFirstDay, newTotals);
+        return true;
+    }
+
+    /**
+     * Moves the window to the span of at most {@code MAX_CAPACITY} days that has the most days with amounts, and keeps
+     * the totals of the days outside it in {@code outlyingTotals}.
+     */
+    private void moveWindow() {
+        NavigableMap<Long, Long> totals = new TreeMap<>(outlyingTotals);
+        long[] dailyTotals = toDailyTotals();
+        for (int i = 0; i < dailyTotals.length; i++) {
+            if (dailyTotals[i] != 0) {
+                totals.merge(firstDay + i, dailyTotals[i], DailyAmountTree::addUnlessZero);
+            }
+        }
+        Long[] days = totals.keySet().toArray(new Long[0]);
+        int bestFrom = 0;
+        int bestTo = 0;
+        for (int from = 0, to = 0; from < days.length; from++) {
+            while (to < days.length && days[to] - days[from] < MAX_CAPACITY) {
+                to++;
+            }
+            if (to - from > bestTo - bestFrom) {
+                bestFrom = from;
+                bestTo = to;
+            }
+        }
+
+        long newFirstDay = days[bestFrom];
+        int newCapacity = INITIAL_CAPACITY;
+        while (newCapacity < days[bestTo - 1] - newFirstDay + 1) {
+            newCapacity *= 2;
+        }
+        long[] newTotals = new long[newCapacity];
+        outlyingTotals.clear();
+        for (Map.Entry<Long, Long> entry : totals.entrySet()) {
+            long offset = entry.getKey() - newFirstDay;
+            if (offset >= 0 && offset < newCapacity) {
+                newTotals[(int) offset] = entry.getValue();
+            } else {
+                outlyingTotals.put(entry.getKey(), entry.getValue());
+            }
+        }
+        setWindow(newFirstDay, newTotals);
+        // the window is only moved again once the days outside it have doubled
+        outlyingDaysToMoveWindow = Math.max(MIN_OUTLYING_DAYS_TO_MOVE_WINDOW, outlyingTotals.size() * 2);
+    }
+
+    /**
+     * Returns the sum of two totals of a day, or null if nothing is spent on the day, so that the day is dropped from
+     * the map it is merged into.
+     */
+    private static Long addUnlessZero(long total, long added) {
+        long newTotal = Math.addExact(total, added);
+        return newTotal == 0 ? null : newTotal;
+    }
+
+    /**
+     * Returns the total spent on each day of the window, by undoing the steps of the linear-time construction of the
+     * tree. The tree is left unusable.
+     */
+    private long[] toDailyTotals() {
+        int capacity = getCapacity();
+        for (int i = capacity; i > 0; i--) {
+            int parent = i + Integer.lowestOneBit(i);
+            if (parent <= capacity) {
+                tree[parent] -= tree[i];
+            }
+        }
+        long[] dailyTotals = new long[capacity];
+        System.arraycopy(tree, 1, dailyTotals, 0, capacity);
+        return dailyTotals;
+    }
+
+    /**
+     * Sets the window to start on {@code newFirstDay}, with {@code dailyTotals} spent on its days, in linear time.
+     */
+    private void setWindow(long newFirstDay, long[] dailyTotals) {
+        long[] newTree = new long[dailyTotals.length + 1];
+        System.arraycopy(dailyTotals, 0, newTree, 1, dailyTotals.length);
+        for (int i = 1; i < newTree.length; i++) {
+            int parent = i + Integer.lowestOneBit(i);
+            if (parent < newTree.length) {
+                newTree[parent] += newTree[i];
+            }
+        }
+        firstDay = newFirstDay;
+        tree = newTree;
+    }
+}
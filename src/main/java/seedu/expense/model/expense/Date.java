@@ -6,6 +6,7 @@ import static seedu.expense.commons.util.AppUtil.checkArgument;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
 
 /**
  * Represents the date of an expense in the expense book.
@@ -21,6 +22,8 @@ public class Date {
 
     // dd-MM-yyyy
     public static final String VALIDATION_REGEX = "^(0[1-9]|[12][0-9]|3[01])-(0[1-9]|1[012])-\\d{4}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
 
     public final LocalDate value;
 
@@ -32,7 +35,11 @@ public class Date {
     public Date(String date) {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        value = LocalDate.parse(date, DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+        value = LocalDate.parse(date, FORMATTER);
+    }
+
+    private Date(LocalDate date) {
+        value = date;
     }
 
     /**
@@ -43,6 +50,14 @@ public class Date {
         value = LocalDate.now();
     }
 
+    /**
+     * Returns a {@code Date} for a date that is already parsed.
+     */
+    public static Date fromLocalDate(LocalDate date) {
+        requireNonNull(date);
+        return new Date(date);
+    }
+
     /**
      * Factory method returns {@code Date} using current Date.
      */
@@ -54,11 +69,10 @@ public class Date {
      * Returns if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        if (test.matches(VALIDATION_REGEX)) {
+        if (VALIDATION_PATTERN.matcher(test).matches()) {
             try {
-                DateTimeFormatter format = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-                LocalDate date = LocalDate.parse(test, format);
-                if (date.format(format).equals(test)) {
+                LocalDate date = LocalDate.parse(test, FORMATTER);
+                if (date.format(FORMATTER).equals(test)) {
                     return true;
                 }
                 return false;
@@ -71,7 +85,7 @@ public class Date {
 
     @Override
     public String toString() {
-        return value.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+        return value.format(FORMATTER);
     }
 
     @Override
@@ -24,6 +24,11 @@ public class DateComparator extends SortKeyComparator {
         return s1.compareTo(s2);
     }
 
+    @Override
+    public SortKey getSortKey() {
+        return SortKey.DATE;
+    }
+
     @Override
     public String toString() {
         return this.isReverse() ? this.SORT_KEYWORD + " reversed" : this.SORT_KEYWORD;
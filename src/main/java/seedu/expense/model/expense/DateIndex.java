@@ -0,0 +1,67 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * An index of expenses by their dates, in date order, which answers the same queries as {@link DateMatchesPredicate}
+ * without going through every expense. The expenses in a range of dates are found in time proportional to the log of
+ * the number of distinct dates, plus the number of expenses found.
+ */
+public class DateIndex {
+
+    private final NavigableMap<LocalDate, Set<Expense>> expensesByDate = new TreeMap<>();
+    private long modificationCount;
+
+    /**
+     * Adds {@code expense} to the index.
+     * No expense with the same identity may already be in the index.
+     */
+    public void add(Expense expense) {
+        requireNonNull(expense);
+        expensesByDate.computeIfAbsent(expense.getDate().value, unused -> new HashSet<>()).add(expense);
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code expense} from the index.
+     */
+    public void remove(Expense expense) {
+        requireNonNull(expense);
+        LocalDate date = expense.getDate().value;
+        Set<Expense> expenses = expensesByDate.get(date);
+        if (expenses != null && expenses.remove(expense) && expenses.isEmpty()) {
+            expensesByDate.remove(date);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the indexed expenses with a date in any of {@code dateRanges}.
+     */
+    public Set<Expense> findExpenses(Collection<DateRange> dateRanges) {
+        requireNonNull(dateRanges);
+        Set<Expense> matches = new HashSet<>();
+        for (DateRange dateRange : dateRanges) {
+            expensesByDate.subMap(dateRange.from, true, dateRange.to, true).values().forEach(matches::addAll);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that tests whether an expense has a date in any of {@code dateRanges}, as with
+     * {@link #findExpenses(Collection)}. The predicate only tests expenses that are in the index, and stays in sync
+     * with the index.
+     */
+    public Predicate<Expense> toPredicate(Collection<DateRange> dateRanges) {
+        requireNonNull(dateRanges);
+        return new IndexedPredicate(() -> findExpenses(dateRanges), () -> modificationCount);
+    }
+}
@@ -1,49 +1,56 @@
 package seedu.expense.model.expense;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
 /**
- * Tests that any of an {@code Expense}'s {@code Dates} matches any of the keywords given.
+ * Tests that an {@code Expense}'s {@code Date} is within any of the date ranges given.
  */
 public class DateMatchesPredicate implements Predicate<Expense> {
-    private final Set<Date> dates;
+    private final Set<DateRange> dateRanges;
 
     /**
-     * Constructor that takes in a list of strings representing dates.
-     * It stores parsable strings into the dates HashSet.
+     * Constructor that takes in a list of strings representing dates or date ranges.
+     * It stores the strings that are valid date ranges, as described in {@link DateRange#isValidDateRange(String)}.
      */
     public DateMatchesPredicate(List<String> dateStrings) {
-        Set<Date> temp = new HashSet<>();
+        Set<DateRange> temp = new HashSet<>();
         for (String s: dateStrings) {
-            if (Date.isValidDate(s)) {
-                temp.add(new Date(s));
+            if (DateRange.isValidDateRange(s)) {
+                temp.add(new DateRange(s));
             }
         }
-        this.dates = temp;
+        this.dateRanges = temp;
+    }
+
+    public Set<DateRange> getDateRanges() {
+        return Collections.unmodifiableSet(dateRanges);
     }
 
     @Override
     public boolean test(Expense expense) {
-        if (this.isEmpty()) {
-            return false;
-        }
-        return this.dates.contains(expense.getDate());
+        return dateRanges.stream().anyMatch(dateRange -> dateRange.contains(expense.getDate().value));
     }
 
     /**
      * Returns true if there are no dates to match in this predicate. Otherwise, return false.
      */
     public boolean isEmpty() {
-        return this.dates.isEmpty();
+        return this.dateRanges.isEmpty();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DateMatchesPredicate // instanceof handles nulls
-                && dates.equals(((DateMatchesPredicate) other).dates)); // state check
+                && dateRanges.equals(((DateMatchesPredicate) other).dateRanges)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return dateRanges.hashCode();
     }
 }
@@ -0,0 +1,131 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expense.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents an inclusive range of dates that expenses can be found by.
+ * Guarantees: immutable; the range is not empty; is valid as declared in {@link #isValidDateRange(String)}
+ */
+public class DateRange {
+
+    public static final String MESSAGE_CONSTRAINTS = "Dates to find by should be in one of these formats:\n"
+            + "1. dd-MM-yyyy, for a single date.\n"
+            + "2. MM-yyyy, for a whole month.\n"
+            + "3. yyyy, for a whole year.\n"
+            + "4. <from>:<to>, for the dates from one date to another, inclusive, "
+            + "where <from> and <to> are dates in the dd-MM-yyyy format.\n"
+            + "   Either date can be left out to find all dates up to <to>, or from <from> onwards.\n"
+            + "<from> should not be after <to>.";
+
+    public static final String RANGE_SEPARATOR = ":";
+
+    public static final DateRange ALL_DATES = new DateRange(LocalDate.MIN, LocalDate.MAX);
+
+    private static final Pattern MONTH_PATTERN = Pattern.compile("(0[1-9]|1[012])-(\\d{4})");
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\d{4}");
+
+    public final LocalDate from;
+    public final LocalDate to;
+
+    /**
+     * Constructs a {@code DateRange}.
+     *
+     * @param dateRange A valid date range, as a {@code String}.
+     */
+    public DateRange(String dateRange) {
+        requireNonNull(dateRange);
+        checkArgument(isValidDateRange(dateRange), MESSAGE_CONSTRAINTS);
+        DateRange parsed = parse(dateRange);
+        from = parsed.from;
+        to = parsed.to;
+    }
+
+    /**
+     * Constructs a {@code DateRange} from {@code from} to {@code to}, inclusive.
+     * {@code from} must not be after {@code to}.
+     */
+    public DateRange(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        checkArgument(!from.isAfter(to), MESSAGE_CONSTRAINTS);
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns true if a given string is a valid date range.
+     */
+    public static boolean isValidDateRange(String test) {
+        return parse(test) != null;
+    }
+
+    /**
+     * Parses {@code dateRange}, or returns null if it is not a valid date range.
+     */
+    private static DateRange parse(String dateRange) {
+        int separatorIndex = dateRange.indexOf(RANGE_SEPARATOR);
+        if (separatorIndex >= 0) {
+            String fromString = dateRange.substring(0, separatorIndex);
+            String toString = dateRange.substring(separatorIndex + RANGE_SEPARATOR.length());
+            boolean hasFrom = !fromString.isEmpty();
+            boolean hasTo = !toString.isEmpty();
+            if ((!hasFrom && !hasTo) || (hasFrom && !Date.isValidDate(fromString))
+                    || (hasTo && !Date.isValidDate(toString))) {
+                return null;
+            }
+            LocalDate from = hasFrom ? new Date(fromString).value : LocalDate.MIN;
+            LocalDate to = hasTo ? new Date(toString).value : LocalDate.MAX;
+            return from.isAfter(to) ? null : new DateRange(from, to);
+        }
+
+        if (Date.isValidDate(dateRange)) {
+            LocalDate date = new Date(dateRange).value;
+            return new DateRange(date, date);
+        }
+        Matcher monthMatcher = MONTH_PATTERN.matcher(dateRange);
+        if (monthMatcher.matches()) {
+            YearMonth month = YearMonth.of(Integer.parseInt(monthMatcher.group(2)),
+                    Integer.parseInt(monthMatcher.group(1)));
+            return new DateRange(month.atDay(1), month.atEndOfMonth());
+        }
+        if (YEAR_PATTERN.matcher(dateRange).matches()) {
+            Year year = Year.of(Integer.parseInt(dateRange));
+            return new DateRange(year.atDay(1), year.atMonth(12).atEndOfMonth());
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code date} is within this range.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    @Override
+    public String toString() {
+        return (from.equals(LocalDate.MIN) ? "" : Date.fromLocalDate(from).toString()) + RANGE_SEPARATOR
+                + (to.equals(LocalDate.MAX) ? "" : Date.fromLocalDate(to).toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DateRange // instanceof handles nulls
+                && from.equals(((DateRange) other).from)
+                && to.equals(((DateRange) other).to)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+}
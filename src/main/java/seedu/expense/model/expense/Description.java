@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.expense.commons.core.Messages.MESSAGE_INPUT_OVERLIMIT;
 import static seedu.expense.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Expense's description in the expense book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDescription(String)}
@@ -20,6 +22,7 @@ public class Description {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullDescription;
 
@@ -47,7 +50,7 @@ public class Description {
      * Returns true if a given string is a valid description.
      */
     public static boolean isValidDescription(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -23,6 +23,11 @@ public class DescriptionComparator extends SortKeyComparator {
         return s1.compareToIgnoreCase(s2);
     }
 
+    @Override
+    public SortKey getSortKey() {
+        return SortKey.DESCRIPTION;
+    }
+
     @Override
     public String toString() {
         return this.isReverse() ? this.SORT_KEYWORD + " reversed" : this.SORT_KEYWORD;
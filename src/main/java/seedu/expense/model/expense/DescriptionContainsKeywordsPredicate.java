@@ -1,5 +1,6 @@
 package seedu.expense.model.expense;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -17,6 +18,10 @@ public class DescriptionContainsKeywordsPredicate implements Predicate<Expense>
         this.keywords = new HashSet<>(keywords);
     }
 
+    public Set<String> getKeywords() {
+        return Collections.unmodifiableSet(keywords);
+    }
+
     @Override
     public boolean test(Expense expense) {
         return keywords.stream()
@@ -31,6 +36,11 @@ public class DescriptionContainsKeywordsPredicate implements Predicate<Expense>
                 && keywords.equals(((DescriptionContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     /**
      * Returns true if there are no valid keywords in this predicate. Otherwise, return false.
      */
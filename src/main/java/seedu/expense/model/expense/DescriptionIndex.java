@@ -0,0 +1,279 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * An inverted index from the words in the descriptions of expenses to the expenses, which answers the same queries as
+ * {@link DescriptionContainsKeywordsPredicate} without scanning every description.
+ * <p>
+ * A keyword matches an expense if one of the words of its description contains the keyword, ignoring case. To find
+ * those words without going through every word, the index keeps a suffix array of the distinct words: every suffix of
+ * every word, as the word's id and the offset the suffix starts at packed into a {@code long}, sorted by the text of
+ * the suffix. The words that contain a keyword are the ones with a suffix that starts with the keyword, and those
+ * suffixes are next to each other in the array. No string or set is created per suffix.
+ * <p>
+ * The suffixes of new words are collected unsorted, and sorted and merged into the array by the next lookup, so that
+ * adding many expenses at once does not shift the array for every word. The suffixes of removed words are skipped by
+ * lookups, and dropped by the next merge, or by the next lookup once they make up half of the array.
+ */
+public class DescriptionIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> wordIds = new HashMap<>();
+    // the word with each id, in lower case, kept after the word is removed until its suffixes are dropped
+    private final List<String> words = new ArrayList<>();
+    // the expenses whose description has the word with each id, or null if the word was removed
+    private final List<Set<Expense>> postings = new ArrayList<>();
+    // ids whose suffixes have been dropped, which can be given to new words
+    private final List<Integer> freeIds = new ArrayList<>();
+    // ids of removed words whose suffixes might still be in the suffix arrays
+    private final List<Integer> removedIds = new ArrayList<>();
+
+    private long[] suffixes = new long[0];
+    private int suffixCount;
+    private long[] newSuffixes = new long[16];
+    private int newSuffixCount;
+    private int removedSuffixCount;
+    private long modificationCount;
+
+    /**
+     * Adds {@code expense} to the index.
+     * No expense with the same identity may already be in the index.
+     */
+    public void add(Expense expense) {
+        requireNonNull(expense);
+        for (String word : getWords(expense)) {
+            Integer id = wordIds.get(word);
+            postings.get(id == null ? addWord(word) : id).add(expense);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code expense} from the index.
+     */
+    public void remove(Expense expense) {
+        requireNonNull(expense);
+        for (String word : getWords(expense)) {
+            Integer id = wordIds.get(word);
+            if (id == null) {
+                continue;
+            }
+            Set<Expense> expenses = postings.get(id);
+            if (!expenses.remove(expense) || !expenses.isEmpty()) {
+                continue;
+            }
+            wordIds.remove(word);
+            postings.set(id, null);
+            removedIds.add(id);
+            removedSuffixCount += word.length();
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the indexed expenses with a description word that contains any of {@code keywords}, ignoring case.
+     * Blank keywords match nothing.
+     */
+    public Set<Expense> findExpenses(Collection<String> keywords) {
+        requireNonNull(keywords);
+        updateSuffixes();
+        BitSet matchedIds = new BitSet();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase();
+            if (preppedKeyword.isEmpty()) {
+                continue;
+            }
+            for (int i = findFirstSuffixNotBefore(preppedKeyword); i < suffixCount; i++) {
+                int id = getWordId(suffixes[i]);
+                if (!words.get(id).startsWith(preppedKeyword, getOffset(suffixes[i]))) {
+                    break;
+                }
+                if (postings.get(id) != null) {
+                    matchedIds.set(id);
+                }
+            }
+        }
+
+        Set<Expense> matches = new HashSet<>();
+        matchedIds.stream().forEach(id -> matches.addAll(postings.get(id)));
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that tests whether an expense is matched by any of {@code keywords}, as with
+     * {@link #findExpenses(Collection)}. The predicate only tests expenses that are in the index. It stays in sync
+     * with the index, and only looks up the keywords again after the index has changed.
+     */
+    public Predicate<Expense> toPredicate(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return new IndexedPredicate(() -> findExpenses(keywords), () -> modificationCount);
+    }
+
+    /**
+     * Gives {@code word} an id and queues its suffixes to be merged into the suffix array.
+     */
+    private int addWord(String word) {
+        int id;
+        if (freeIds.isEmpty()) {
+            id = words.size();
+            words.add(word);
+            postings.add(new HashSet<>());
+        } else {
+            id = freeIds.remove(freeIds.size() - 1);
+            words.set(id, word);
+            postings.set(id, new HashSet<>());
+        }
+        wordIds.put(word, id);
+
+        if (newSuffixCount + word.length() > newSuffixes.length) {
+            newSuffixes = Arrays.copyOf(newSuffixes, Math.max(newSuffixes.length * 2, newSuffixCount + word.length()));
+        }
+        for (int offset = 0; offset < word.length(); offset++) {
+            newSuffixes[newSuffixCount++] = toSuffix(id, offset);
+        }
+        return id;
+    }
+
+    /**
+     * Merges the new suffixes into the suffix array, dropping the suffixes of removed words, if there are new
+     * suffixes or the removed ones make up half of the array.
+     */
+    private void updateSuffixes() {
+        if (newSuffixCount == 0 && removedSuffixCount * 2 <= suffixCount) {
+            return;
+        }
+
+        sortSuffixes(newSuffixes, 0, newSuffixCount, new long[newSuffixCount]);
+        long[] merged = new long[suffixCount + newSuffixCount - removedSuffixCount];
+        int mergedCount = 0;
+        int i = 0;
+        int j = 0;
+        while (i < suffixCount || j < newSuffixCount) {
+            long suffix;
+            if (j == newSuffixCount
+                    || i < suffixCount && compareSuffixes(suffixes[i], newSuffixes[j]) <= 0) {
+                suffix = suffixes[i++];
+            } else {
+                suffix = newSuffixes[j++];
+            }
+            if (postings.get(getWordId(suffix)) != null) {
+                merged[mergedCount++] = suffix;
+            }
+        }
+
+        suffixes = merged;
+        suffixCount = mergedCount;
+        newSuffixCount = 0;
+        removedSuffixCount = 0;
+        for (int id : removedIds) {
+            words.set(id, null);
+            freeIds.add(id);
+        }
+        removedIds.clear();
+    }
+
+    /**
+     * Returns the index of the first suffix in the suffix array that is not ordered before {@code keyword}.
+     */
+    private int findFirstSuffixNotBefore(String keyword) {
+        int low = 0;
+        int high = suffixCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long suffix = suffixes[mid];
+            if (compare(words.get(getWordId(suffix)), getOffset(suffix), keyword, 0) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts {@code array} from {@code from} (inclusive) to {@code to} (exclusive) by the text of the suffixes, using
+     * {@code buffer} of at least the same length as working space.
+     */
+    private void sortSuffixes(long[] array, int from, int to, long[] buffer) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sortSuffixes(array, from, mid, buffer);
+        sortSuffixes(array, mid, to, buffer);
+        if (compareSuffixes(array[mid - 1], array[mid]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(array, from, buffer, from, to - from);
+        int i = from;
+        int j = mid;
+        int k = from;
+        while (i < mid && j < to) {
+            array[k++] = compareSuffixes(buffer[i], buffer[j]) <= 0 ? buffer[i++] : buffer[j++];
+        }
+        System.arraycopy(buffer, i, array, k, mid - i);
+        System.arraycopy(buffer, j, array, k + mid - i, to - j);
+    }
+
+    private int compareSuffixes(long first, long second) {
+        return compare(words.get(getWordId(first)), getOffset(first), words.get(getWordId(second)), getOffset(second));
+    }
+
+    /**
+     * Compares the text of {@code first} from {@code firstOffset} with that of {@code second} from
+     * {@code secondOffset}, as {@link String#compareTo(String)} would compare the substrings.
+     */
+    private static int compare(String first, int firstOffset, String second, int secondOffset) {
+        int firstLength = first.length() - firstOffset;
+        int secondLength = second.length() - secondOffset;
+        int length = Math.min(firstLength, secondLength);
+        for (int i = 0; i < length; i++) {
+            char firstChar = first.charAt(firstOffset + i);
+            char secondChar = second.charAt(secondOffset + i);
+            if (firstChar != secondChar) {
+                return firstChar - secondChar;
+            }
+        }
+        return firstLength - secondLength;
+    }
+
+    private static long toSuffix(int wordId, int offset) {
+        return (long) wordId << Integer.SIZE | offset;
+    }
+
+    private static int getWordId(long suffix) {
+        return (int) (suffix >>> Integer.SIZE);
+    }
+
+    private static int getOffset(long suffix) {
+        return (int) suffix;
+    }
+
+    /**
+     * Returns the distinct words of the description of {@code expense}, in lower case.
+     */
+    private static Set<String> getWords(Expense expense) {
+        Set<String> words = new HashSet<>();
+        for (String word : WORD_SEPARATOR.split(expense.getDescription().fullDescription.toLowerCase())) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -3,8 +3,6 @@ package seedu.expense.model.expense;
 import static seedu.expense.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.expense.model.ExpenseBook.DEFAULT_TAG;
 
-import java.util.Objects;
-
 import seedu.expense.model.ExpenseBook;
 import seedu.expense.model.tag.Tag;
 
@@ -14,6 +12,8 @@ import seedu.expense.model.tag.Tag;
  */
 public class Expense {
 
+    private static final int HASH_MULTIPLIER = 0x9E3779B1;
+
     // Identity fields
     private final Description description;
     private final Amount amount;
@@ -105,10 +105,17 @@ public class Expense {
                 && otherExpense.getDate().equals(getDate());
     }
 
+    /**
+     * Hashes the identity fields of the expense.
+     * Amounts and dates have small hash codes, so combining them with {@code Objects#hash} makes many distinct
+     * expenses collide. Each field is spread with a large odd multiplier instead.
+     */
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(description, amount, date);
+        int hash = description.hashCode();
+        hash = hash * HASH_MULTIPLIER + amount.hashCode();
+        hash = hash * HASH_MULTIPLIER + date.hashCode();
+        return hash;
     }
 
     @Override
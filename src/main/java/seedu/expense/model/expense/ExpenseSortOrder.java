@@ -0,0 +1,89 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An order of expenses by one or more sort keys, each of which may be reversed. Expenses are compared by the first key,
+ * and then by each later key among the expenses that the earlier keys order the same.
+ * <p>
+ * Unlike a chain of comparators, the keys of the order can be read back, so that an {@link ExpenseSorter} can sort by
+ * them without comparing expenses. Orders with the same sort keys, each reversed or not in the same way, are equal, so
+ * that work done for one order can be kept for the next order like it.
+ */
+public class ExpenseSortOrder implements Comparator<Expense> {
+
+    private final List<SortKeyComparator> keys;
+
+    /**
+     * Creates an order by the active comparators in {@code sortKeyComparators}, in order of their sort index.
+     * At least one of the comparators must be active.
+     */
+    public ExpenseSortOrder(List<SortKeyComparator> sortKeyComparators) {
+        requireNonNull(sortKeyComparators);
+        List<SortKeyComparator> activeKeys = new ArrayList<>();
+        for (SortKeyComparator sortKeyComparator : sortKeyComparators) {
+            if (sortKeyComparator.isActive()) {
+                activeKeys.add(sortKeyComparator);
+            }
+        }
+        activeKeys.sort(Comparator.comparingInt(SortKeyComparator::getSortIndex));
+        if (activeKeys.isEmpty()) {
+            throw new IllegalArgumentException("An expense sort order needs at least one active sort key.");
+        }
+        keys = activeKeys;
+    }
+
+    /**
+     * Returns the comparators that this order compares by, from the most significant.
+     */
+    public List<SortKeyComparator> getKeys() {
+        return Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public int compare(Expense first, Expense second) {
+        for (SortKeyComparator key : keys) {
+            int comparison = key.compare(first, second);
+            if (comparison != 0) {
+                return key.isReverse() ? Integer.compare(0, comparison) : comparison;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ExpenseSortOrder)) {
+            return false;
+        }
+        List<SortKeyComparator> otherKeys = ((ExpenseSortOrder) other).keys;
+        if (keys.size() != otherKeys.size()) {
+            return false;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i).getSortKey() != otherKeys.get(i).getSortKey()
+                    || keys.get(i).isReverse() != otherKeys.get(i).isReverse()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (SortKeyComparator key : keys) {
+            hash = 31 * hash + Objects.hash(key.getSortKey(), key.isReverse());
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,298 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Works out the permutation that sorts a list of expenses by an {@link ExpenseSortOrder}, without comparing the
+ * expenses.
+ * <p>
+ * Each expense is given a rank for each sort key, from a primitive key of the expense: the epoch day of its date, its
+ * amount in cents, or the rank of its description in case-insensitive order. Ranking the expenses by a key takes a
+ * sort of primitive values, in {@code O(n log n)} time, and is done once for each key. The ranks by the keys of an
+ * order are then combined into a single rank for each expense, with a stable counting sort by each key from the least
+ * significant, which is done once for each order. All the ranks are kept until the expenses change.
+ * <p>
+ * Once an order has been ranked, sorting by it is a single counting sort of the positions in the list by the ranks of
+ * the expenses at them, which takes time linear in the number of expenses. Reordering the expenses does not change
+ * their ranks, so switching back to an order that has been sorted by before is linear as well.
+ */
+public class ExpenseSorter {
+
+    // the expenses that the ranks are for, numbered by their position in this list; null if there are no ranks
+    private List<Expense> rankedExpenses;
+    // the number of each expense, only worked out when the list is not in the order that it was last sorted in
+    private Map<Expense, Integer> expenseNumbers;
+    // the numbers of the expenses in the order of the last sort, which the list is expected to have been put in
+    private int[] sortedNumbers;
+    private final Map<SortKey, Ranking> keyRankings = new EnumMap<>(SortKey.class);
+    private final Map<ExpenseSortOrder, Ranking> orderRankings = new HashMap<>();
+
+    /**
+     * Discards the ranks of the expenses. Must be called whenever an expense is added to, removed from or replaced in
+     * the list that is sorted.
+     */
+    public void invalidate() {
+        rankedExpenses = null;
+        expenseNumbers = null;
+        sortedNumbers = null;
+        keyRankings.clear();
+        orderRankings.clear();
+    }
+
+    /**
+     * Returns the permutation that sorts {@code expenses} by {@code order}, as the index in {@code expenses} of the
+     * expense that goes at each position of the sorted list. Expenses that {@code order} orders the same keep their
+     * order in {@code expenses}.
+     * The ranks from earlier sorts are used if they have not been invalidated since, and are worked out again if
+     * {@code expenses} turns out to hold other expenses. The expenses are found by their position in the last sort
+     * if {@code expenses} has been put in that order, and are only looked up by identity otherwise.
+     */
+    public int[] sort(List<Expense> expenses, ExpenseSortOrder order) {
+        requireNonNull(expenses);
+        requireNonNull(order);
+        int[] numbers = getNumbers(expenses);
+        Ranking ranking = orderRankings.computeIfAbsent(order, this::rankByOrder);
+
+        int[] positions = new int[numbers.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        int[] sourceIndexes = sortByRank(positions, position -> ranking.getRank(numbers[position], false),
+                ranking.rankCount);
+        sortedNumbers = new int[numbers.length];
+        for (int i = 0; i < sourceIndexes.length; i++) {
+            sortedNumbers[i] = numbers[sourceIndexes[i]];
+        }
+        return sourceIndexes;
+    }
+
+    /**
+     * Returns the number of the expense at each position of {@code expenses}, ranking {@code expenses} afresh if they
+     * are not the expenses that are ranked.
+     */
+    private int[] getNumbers(List<Expense> expenses) {
+        if (rankedExpenses == null) {
+            rankedExpenses = new ArrayList<>(expenses);
+            sortedNumbers = new int[expenses.size()];
+            for (int i = 0; i < sortedNumbers.length; i++) {
+                sortedNumbers[i] = i;
+            }
+        }
+        if (isInSortedOrder(expenses)) {
+            return sortedNumbers;
+        }
+
+        if (expenseNumbers == null) {
+            expenseNumbers = new IdentityHashMap<>(rankedExpenses.size());
+            for (int i = 0; i < rankedExpenses.size(); i++) {
+                expenseNumbers.put(rankedExpenses.get(i), i);
+            }
+        }
+        int[] numbers = new int[expenses.size()];
+        for (int i = 0; i < numbers.length; i++) {
+            Integer number = expenseNumbers.get(expenses.get(i));
+            if (number == null || numbers.length != rankedExpenses.size()) {
+                // the expenses changed without the ranks being invalidated, so they are ranked again
+                invalidate();
+                return getNumbers(expenses);
+            }
+            numbers[i] = number;
+        }
+        return numbers;
+    }
+
+    /**
+     * Returns true if {@code expenses} holds the ranked expenses in the order of the last sort.
+     */
+    private boolean isInSortedOrder(List<Expense> expenses) {
+        if (expenses.size() != sortedNumbers.length) {
+            return false;
+        }
+        for (int i = 0; i < sortedNumbers.length; i++) {
+            if (expenses.get(i) != rankedExpenses.get(sortedNumbers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ranks the expenses by {@code order}, where expenses that the order orders the same share a rank.
+     */
+    private Ranking rankByOrder(ExpenseSortOrder order) {
+        int[] sequence = new int[rankedExpenses.size()];
+        for (int i = 0; i < sequence.length; i++) {
+            sequence[i] = i;
+        }
+        List<SortKeyComparator> keys = order.getKeys();
+        Ranking[] rankings = new Ranking[keys.size()];
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            SortKeyComparator key = keys.get(i);
+            Ranking ranking = keyRankings.computeIfAbsent(key.getSortKey(), this::rank);
+            rankings[i] = ranking;
+            sequence = sortByRank(sequence, number -> ranking.getRank(number, key.isReverse()), ranking.rankCount);
+        }
+
+        int[] ranks = new int[sequence.length];
+        int rank = -1;
+        for (int i = 0; i < sequence.length; i++) {
+            if (i == 0 || !isRankedTheSame(rankings, sequence[i - 1], sequence[i])) {
+                rank++;
+            }
+            ranks[sequence[i]] = rank;
+        }
+        return new Ranking(ranks, rank + 1);
+    }
+
+    private static boolean isRankedTheSame(Ranking[] rankings, int firstNumber, int secondNumber) {
+        for (Ranking ranking : rankings) {
+            if (ranking.ranks[firstNumber] != ranking.ranks[secondNumber]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code sequence} stably sorted by the rank that {@code toRank} gives each of its values, where the
+     * ranks run from 0 to one less than {@code rankCount}.
+     */
+    private static int[] sortByRank(int[] sequence, IntUnaryOperator toRank, int rankCount) {
+        int[] starts = new int[rankCount + 1];
+        for (int value : sequence) {
+            starts[toRank.applyAsInt(value) + 1]++;
+        }
+        for (int i = 1; i < starts.length; i++) {
+            starts[i] += starts[i - 1];
+        }
+        int[] sorted = new int[sequence.length];
+        for (int value : sequence) {
+            sorted[starts[toRank.applyAsInt(value)]++] = value;
+        }
+        return sorted;
+    }
+
+    private Ranking rank(SortKey sortKey) {
+        switch (sortKey) {
+        case DATE:
+            return rankByLong(expense -> expense.getDate().value.toEpochDay());
+        case AMOUNT:
+            return rankByLong(expense -> expense.getAmount().getCents());
+        case DESCRIPTION:
+            return rankDescriptions();
+        default:
+            throw new AssertionError("Unknown sort key: " + sortKey);
+        }
+    }
+
+    /**
+     * Ranks the expenses by the primitive key given by {@code toKey}, where expenses with the same key share a rank.
+     * When the keys fit, each key is packed with the number of its expense into a {@code long}, so that the expenses
+     * are ordered by a sort of primitive values.
+     */
+    private Ranking rankByLong(ToLongFunction<Expense> toKey) {
+        int count = rankedExpenses.size();
+        long[] keys = new long[count];
+        long minKey = Long.MAX_VALUE;
+        long maxKey = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            keys[i] = toKey.applyAsLong(rankedExpenses.get(i));
+            minKey = Math.min(minKey, keys[i]);
+            maxKey = Math.max(maxKey, keys[i]);
+        }
+        int[] ranks = new int[count];
+        if (count == 0) {
+            return new Ranking(ranks, 0);
+        }
+
+        int numberBits = Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(count - 1));
+        long keyRange = maxKey - minKey;
+        if (keyRange < 0 || Long.SIZE - Long.numberOfLeadingZeros(keyRange) + numberBits >= Long.SIZE) {
+            return rankBySort(keys);
+        }
+        long[] packed = new long[count];
+        for (int i = 0; i < count; i++) {
+            packed[i] = (keys[i] - minKey) << numberBits | i;
+        }
+        Arrays.sort(packed);
+        long numberMask = (1L << numberBits) - 1;
+        int rank = -1;
+        long previousKey = -1;
+        for (long entry : packed) {
+            long key = entry >>> numberBits;
+            if (rank < 0 || key != previousKey) {
+                rank++;
+                previousKey = key;
+            }
+            ranks[(int) (entry & numberMask)] = rank;
+        }
+        return new Ranking(ranks, rank + 1);
+    }
+
+    /**
+     * Ranks the expenses by {@code keys} with a sort of the distinct keys, for keys that are too far apart to pack.
+     */
+    private static Ranking rankBySort(long[] keys) {
+        long[] distinctKeys = Arrays.stream(keys).distinct().sorted().toArray();
+        int[] ranks = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            ranks[i] = Arrays.binarySearch(distinctKeys, keys[i]);
+        }
+        return new Ranking(ranks, distinctKeys.length);
+    }
+
+    /**
+     * Ranks the expenses by their descriptions in case-insensitive order, where descriptions that differ only in case
+     * share a rank. Only the distinct descriptions are compared.
+     */
+    private Ranking rankDescriptions() {
+        String[] descriptions = rankedExpenses.stream()
+                .map(expense -> expense.getDescription().fullDescription)
+                .collect(HashSet<String>::new, HashSet::add, HashSet::addAll)
+                .toArray(new String[0]);
+        Arrays.sort(descriptions, String.CASE_INSENSITIVE_ORDER);
+        Map<String, Integer> descriptionRanks = new HashMap<>(descriptions.length * 2);
+        int rank = -1;
+        for (int i = 0; i < descriptions.length; i++) {
+            if (i == 0 || String.CASE_INSENSITIVE_ORDER.compare(descriptions[i - 1], descriptions[i]) != 0) {
+                rank++;
+            }
+            descriptionRanks.put(descriptions[i], rank);
+        }
+
+        int[] ranks = new int[rankedExpenses.size()];
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = descriptionRanks.get(rankedExpenses.get(i).getDescription().fullDescription);
+        }
+        return new Ranking(ranks, rank + 1);
+    }
+
+    /**
+     * The rank of each expense by a sort key or an order, where the ranks run from 0 to one less than the number of
+     * ranks.
+     */
+    private static class Ranking {
+        private final int[] ranks;
+        private final int rankCount;
+
+        Ranking(int[] ranks, int rankCount) {
+            this.ranks = ranks;
+            this.rankCount = rankCount;
+        }
+
+        int getRank(int number, boolean isReverse) {
+            return isReverse ? rankCount - 1 - ranks[number] : ranks[number];
+        }
+    }
+}
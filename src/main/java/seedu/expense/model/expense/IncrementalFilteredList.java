@@ -0,0 +1,373 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expense.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.expense.commons.core.Config;
+
+/**
+ * A filtered view of a source list, like {@code FilteredList}, that can be refiltered without testing every element
+ * of the source.
+ * <p>
+ * When a new predicate is known to only match elements that the current one matches, {@link #narrowPredicate}
+ * only tests the elements that are in this list. The results of the last {@code MAX_CACHED_RESULTS} predicates are
+ * also kept, keyed on the equality of the predicates, so going back to one of them tests no elements at all. The
+ * kept results are dropped whenever the source list changes.
+ * <p>
+ * A new predicate only fires the removals and additions between the old result and the new one, rather than a
+ * replacement of the whole list.
+ * <p>
+ * A source list of at least {@link #getParallelThreshold()} elements is filtered in parallel: a snapshot of the
+ * source is split between the threads of a fork/join pool, which test their part of it, and the matches are then
+ * shown in a single change. A predicate that is used on such a list must be safe to test from several threads at
+ * once. A {@link PreparablePredicate} is prepared on the calling thread before the other threads start, so any work
+ * that is not safe to share between threads, such as looking up matches in an index, is done there.
+ */
+public class IncrementalFilteredList<E> extends TransformationList<E, E> {
+
+    public static final String MESSAGE_PARALLEL_THRESHOLD_CONSTRAINTS = "The parallel threshold must be positive.";
+
+    static final int MAX_CACHED_RESULTS = 8;
+    // the number of elements that a thread tests without splitting them further
+    static final int PARALLEL_CHUNK_SIZE = 4096;
+
+    private final int parallelThreshold;
+    // the source indexes of the elements in this list, in ascending order
+    private int[] filtered;
+    private int size;
+    private Predicate<? super E> predicate = unused -> true;
+    // the source indexes that each recent predicate matches, from the least recently used
+    private final Map<Predicate<? super E>, int[]> cachedResults = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Predicate<? super E>, int[]> eldest) {
+            return size() > MAX_CACHED_RESULTS;
+        }
+    };
+
+    /**
+     * Creates an {@code IncrementalFilteredList} that shows every element of {@code source}, and filters it in
+     * parallel from {@code Config.DEFAULT_PARALLEL_FILTER_THRESHOLD} elements.
+     */
+    public IncrementalFilteredList(ObservableList<E> source) {
+        this(source, Config.DEFAULT_PARALLEL_FILTER_THRESHOLD);
+    }
+
+    /**
+     * Creates an {@code IncrementalFilteredList} that shows every element of {@code source}, and filters it in
+     * parallel from {@code parallelThreshold} elements. Use {@code Integer.MAX_VALUE} to always filter on the calling
+     * thread.
+     */
+    public IncrementalFilteredList(ObservableList<E> source, int parallelThreshold) {
+        super(source);
+        checkArgument(isValidParallelThreshold(parallelThreshold), MESSAGE_PARALLEL_THRESHOLD_CONSTRAINTS);
+        this.parallelThreshold = parallelThreshold;
+        filtered = filterSource(predicate);
+        size = filtered.length;
+    }
+
+    /**
+     * Returns true if {@code threshold} is a valid smallest size of source list to filter in parallel.
+     */
+    public static boolean isValidParallelThreshold(int threshold) {
+        return threshold > 0;
+    }
+
+    /**
+     * Returns the smallest size of source list that is filtered in parallel.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Filters the source list with {@code predicate}, testing every element of the source unless the result of an
+     * equal predicate is kept.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        int[] result = cachedResults.get(predicate);
+        showResult(predicate, result == null ? filterSource(predicate) : result);
+    }
+
+    /**
+     * Filters the source list with {@code predicate}, which must only match elements that the current predicate
+     * matches. Only the elements in this list are tested, unless the result of an equal predicate is kept.
+     */
+    public void narrowPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        int[] result = cachedResults.get(predicate);
+        showResult(predicate, result == null ? filterResult(predicate) : result);
+    }
+
+    /**
+     * Returns the indexes of the elements of the source list that {@code predicate} matches.
+     */
+    private int[] filterSource(Predicate<? super E> predicate) {
+        if (getSource().size() >= parallelThreshold) {
+            return filterInParallel(getSource().toArray(), predicate, ForkJoinPool.commonPool());
+        }
+        int[] result = new int[getSource().size()];
+        int count = 0;
+        int index = 0;
+        for (E element : getSource()) {
+            if (predicate.test(element)) {
+                result[count++] = index;
+            }
+            index++;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns the indexes of the elements of {@code snapshot} that {@code predicate} matches, which are tested by the
+     * threads of {@code pool}.
+     */
+    static <E> int[] filterInParallel(Object[] snapshot, Predicate<? super E> predicate, ForkJoinPool pool) {
+        if (snapshot.length == 0) {
+            return new int[0];
+        }
+        if (predicate instanceof PreparablePredicate) {
+            PreparablePredicate<? super E> preparablePredicate = (PreparablePredicate<? super E>) predicate;
+            preparablePredicate.prepare();
+        }
+        boolean[] isMatched = new boolean[snapshot.length];
+        pool.invoke(new FilterTask<>(snapshot, 0, snapshot.length, predicate, isMatched));
+
+        int count = 0;
+        for (boolean matched : isMatched) {
+            if (matched) {
+                count++;
+            }
+        }
+        int[] result = new int[count];
+        count = 0;
+        for (int i = 0; i < isMatched.length; i++) {
+            if (isMatched[i]) {
+                result[count++] = i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indexes of the elements of this list that {@code predicate} matches.
+     */
+    private int[] filterResult(Predicate<? super E> predicate) {
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(getSource().get(filtered[i]))) {
+                result[count++] = filtered[i];
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Shows the elements at the source indexes in {@code result}, which {@code predicate} matches, and fires the
+     * elements that left and joined this list.
+     */
+    private void showResult(Predicate<? super E> predicate, int[] result) {
+        cachedResults.put(predicate, result);
+        int[] oldFiltered = filtered;
+        int oldSize = size;
+        // the result is shared with the cache, which is cleared before the source indexes are next changed
+        filtered = result;
+        size = result.length;
+        this.predicate = predicate;
+
+        beginChange();
+        int oldPosition = 0;
+        int position = 0;
+        while (oldPosition < oldSize || position < size) {
+            if (position == size || (oldPosition < oldSize && oldFiltered[oldPosition] < filtered[position])) {
+                nextRemove(position, getSource().get(oldFiltered[oldPosition]));
+                oldPosition++;
+            } else if (oldPosition == oldSize || filtered[position] < oldFiltered[oldPosition]) {
+                nextAdd(position, position + 1);
+                position++;
+            } else {
+                oldPosition++;
+                position++;
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        cachedResults.clear();
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    private void permute(Change<? extends E> change) {
+        int from = findPosition(change.getFrom());
+        int to = findPosition(change.getTo());
+        if (from == to) {
+            return;
+        }
+        // each moved element is packed as its new source index followed by its old position in this list
+        long[] moved = new long[to - from];
+        for (int i = from; i < to; i++) {
+            moved[i - from] = ((long) change.getPermutation(filtered[i]) << Integer.SIZE) | i;
+        }
+        Arrays.sort(moved);
+        int[] permutation = new int[to - from];
+        for (int i = 0; i < moved.length; i++) {
+            permutation[(int) moved[i] - from] = from + i;
+            filtered[from + i] = (int) (moved[i] >>> Integer.SIZE);
+        }
+        nextPermutation(from, to, permutation);
+    }
+
+    private void update(Change<? extends E> change) {
+        for (int sourceIndex = change.getFrom(); sourceIndex < change.getTo(); sourceIndex++) {
+            E element = getSource().get(sourceIndex);
+            int position = findPosition(sourceIndex);
+            boolean wasShown = position < size && filtered[position] == sourceIndex;
+            boolean isShown = predicate.test(element);
+            if (wasShown && isShown) {
+                nextUpdate(position);
+            } else if (wasShown) {
+                System.arraycopy(filtered, position + 1, filtered, position, size - position - 1);
+                size--;
+                nextRemove(position, element);
+            } else if (isShown) {
+                ensureCapacity(size + 1);
+                System.arraycopy(filtered, position, filtered, position + 1, size - position);
+                filtered[position] = sourceIndex;
+                size++;
+                nextAdd(position, position + 1);
+            }
+        }
+    }
+
+    private void addRemove(Change<? extends E> change) {
+        int from = findPosition(change.getFrom());
+        int to = findPosition(change.getFrom() + change.getRemovedSize());
+        List<? extends E> removed = change.getRemoved();
+        for (int i = from; i < to; i++) {
+            nextRemove(from, removed.get(filtered[i] - change.getFrom()));
+        }
+
+        List<? extends E> added = change.getAddedSubList();
+        int[] shown = new int[added.size()];
+        int shownCount = 0;
+        for (int i = 0; i < added.size(); i++) {
+            if (predicate.test(added.get(i))) {
+                shown[shownCount++] = change.getFrom() + i;
+            }
+        }
+
+        int newSize = size - (to - from) + shownCount;
+        int shift = change.getAddedSize() - change.getRemovedSize();
+        ensureCapacity(newSize);
+        System.arraycopy(filtered, to, filtered, from + shownCount, size - to);
+        for (int i = from + shownCount; i < newSize; i++) {
+            filtered[i] += shift;
+        }
+        System.arraycopy(shown, 0, filtered, from, shownCount);
+        size = newSize;
+        if (shownCount > 0) {
+            nextAdd(from, from + shownCount);
+        }
+    }
+
+    /**
+     * Returns the first position in this list whose source index is at least {@code sourceIndex}.
+     */
+    private int findPosition(int sourceIndex) {
+        int position = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (filtered.length < capacity) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 2));
+        }
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(filtered, 0, size, index);
+        return position >= 0 ? position : -1;
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tests a range of the elements of a snapshot, splitting it in halves between threads until it is at most
+     * {@code PARALLEL_CHUNK_SIZE} elements long. Each element's result is written to its own slot in
+     * {@code isMatched}, so the threads never write to the same slot.
+     */
+    private static class FilterTask<E> extends RecursiveAction {
+        private final Object[] snapshot;
+        private final int from;
+        private final int to;
+        private final Predicate<? super E> predicate;
+        private final boolean[] isMatched;
+
+        FilterTask(Object[] snapshot, int from, int to, Predicate<? super E> predicate, boolean[] isMatched) {
+            this.snapshot = snapshot;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.isMatched = isMatched;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    isMatched[i] = predicate.test((E) snapshot[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FilterTask<>(snapshot, from, middle, predicate, isMatched),
+                    new FilterTask<>(snapshot, middle, to, predicate, isMatched));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.expense.model.expense;
+
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A predicate over the expenses in an index, which looks up the matching expenses in the index once and then tests
+ * each expense by a set lookup. It stays in sync with the index, and only looks the matches up again after the index
+ * has changed.
+ * <p>
+ * Looking the matches up may change the index, e.g. a {@code DescriptionIndex} sorts in the words added since its last
+ * lookup, so it must not be done from several threads at once. Once {@link #prepare()} has looked them up, the
+ * predicate can be tested from several threads at once while the index does not change.
+ */
+class IndexedPredicate implements PreparablePredicate<Expense> {
+
+    private final Supplier<Set<Expense>> matchFinder;
+    private final LongSupplier indexModificationCount;
+    private volatile Matches matches;
+
+    /**
+     * Creates an {@code IndexedPredicate} that is true for the expenses returned by {@code matchFinder}.
+     *
+     * @param indexModificationCount the number of times the index has changed.
+     */
+    IndexedPredicate(Supplier<Set<Expense>> matchFinder, LongSupplier indexModificationCount) {
+        this.matchFinder = matchFinder;
+        this.indexModificationCount = indexModificationCount;
+    }
+
+    @Override
+    public void prepare() {
+        getMatches();
+    }
+
+    @Override
+    public boolean test(Expense expense) {
+        return getMatches().expenses.contains(expense);
+    }
+
+    /**
+     * Returns the matches for the current state of the index, looking them up if the index has changed since they
+     * were last looked up.
+     */
+    private Matches getMatches() {
+        long modificationCount = indexModificationCount.getAsLong();
+        Matches current = matches;
+        if (current == null || current.modificationCount != modificationCount) {
+            current = new Matches(matchFinder.get(), modificationCount);
+            matches = current;
+        }
+        return current;
+    }
+
+    /**
+     * The expenses that matched when the index had changed {@code modificationCount} times.
+     */
+    private static class Matches {
+        private final Set<Expense> expenses;
+        private final long modificationCount;
+
+        Matches(Set<Expense> expenses, long modificationCount) {
+            this.expenses = expenses;
+            this.modificationCount = modificationCount;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Tests that an {@code Expense} matches every one of a number of terms, as the details of a find command do.
+ * <p>
+ * Each term is identified by a key, such as a {@code DateMatchesPredicate}, and is tested by a predicate that is
+ * equivalent to it for the expenses being filtered, such as one answered from an index. Two
+ * {@code MatchesAllPredicate}s are equal if their terms have equal keys, and one that has every term of another only
+ * matches expenses that the other matches.
+ * <p>
+ * An expense that fails a term is not tested against the later terms, so preparing this predicate prepares each of
+ * its terms, rather than relying on a test to reach them.
+ */
+public class MatchesAllPredicate implements PreparablePredicate<Expense> {
+    private final Map<Predicate<Expense>, Predicate<Expense>> terms;
+
+    /**
+     * Creates a {@code MatchesAllPredicate} with no terms, which matches every expense.
+     */
+    public MatchesAllPredicate() {
+        this(Collections.emptyMap());
+    }
+
+    private MatchesAllPredicate(Map<Predicate<Expense>, Predicate<Expense>> terms) {
+        this.terms = terms;
+    }
+
+    /**
+     * Returns a predicate with the terms of this one and a term identified by {@code key}, which is tested by
+     * {@code test}. {@code test} must match the same expenses as {@code key} does.
+     */
+    public MatchesAllPredicate and(Predicate<Expense> key, Predicate<Expense> test) {
+        requireNonNull(key);
+        requireNonNull(test);
+        Map<Predicate<Expense>, Predicate<Expense>> newTerms = new LinkedHashMap<>(terms);
+        newTerms.put(key, test);
+        return new MatchesAllPredicate(newTerms);
+    }
+
+    /**
+     * Returns true if this predicate has every term of {@code other}, so that it only matches expenses that
+     * {@code other} matches.
+     */
+    public boolean isNarrowerThan(MatchesAllPredicate other) {
+        requireNonNull(other);
+        return terms.keySet().containsAll(other.terms.keySet());
+    }
+
+    @Override
+    public void prepare() {
+        for (Predicate<Expense> term : terms.values()) {
+            if (term instanceof PreparablePredicate) {
+                PreparablePredicate<Expense> preparableTerm = (PreparablePredicate<Expense>) term;
+                preparableTerm.prepare();
+            }
+        }
+    }
+
+    @Override
+    public boolean test(Expense expense) {
+        for (Predicate<Expense> term : terms.values()) {
+            if (!term.test(expense)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MatchesAllPredicate // instanceof handles nulls
+                && terms.keySet().equals(((MatchesAllPredicate) other).terms.keySet())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.keySet().hashCode();
+    }
+}
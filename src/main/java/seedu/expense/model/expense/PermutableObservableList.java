@@ -0,0 +1,161 @@
+package seedu.expense.model.expense;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expense.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.UnaryOperator;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list backed by an {@code ArrayList}, like {@code FXCollections.observableArrayList()}, that can be
+ * reordered by a permutation worked out elsewhere.
+ * <p>
+ * {@link #permute(int[])} moves every element to its new position in a single pass and fires a single permutation
+ * change, without comparing any elements. Sorting with a comparator works out the permutation with a stable sort of
+ * the positions, and applies it in the same way.
+ * <p>
+ * Adding or removing a range of elements shifts the backing list once and fires a single change, rather than one
+ * shift for each element. Replacing elements through {@link #replaceAll} also fires a single change.
+ */
+public class PermutableObservableList<E> extends ModifiableObservableListBase<E> implements RandomAccess {
+
+    public static final String MESSAGE_PERMUTATION_CONSTRAINTS =
+            "The source indexes must hold each index of the list exactly once.";
+
+    private List<E> elements = new ArrayList<>();
+
+    /**
+     * Reorders the list so that the element at each index {@code i} is the one that was at index
+     * {@code sourceIndexes[i]}, and fires a single permutation change if any element moved.
+     * {@code sourceIndexes} must hold each index of the list exactly once.
+     */
+    public void permute(int[] sourceIndexes) {
+        requireNonNull(sourceIndexes);
+        checkArgument(sourceIndexes.length == elements.size(), MESSAGE_PERMUTATION_CONSTRAINTS);
+        // the new index of the element at each old index, as a permutation change reports it
+        int[] permutation = new int[sourceIndexes.length];
+        Arrays.fill(permutation, -1);
+        boolean isMoved = false;
+        for (int i = 0; i < sourceIndexes.length; i++) {
+            int sourceIndex = sourceIndexes[i];
+            checkArgument(sourceIndex >= 0 && sourceIndex < permutation.length && permutation[sourceIndex] < 0,
+                    MESSAGE_PERMUTATION_CONSTRAINTS);
+            permutation[sourceIndex] = i;
+            isMoved |= sourceIndex != i;
+        }
+        if (!isMoved) {
+            return;
+        }
+
+        List<E> permuted = new ArrayList<>(elements.size());
+        for (int sourceIndex : sourceIndexes) {
+            permuted.add(elements.get(sourceIndex));
+        }
+        elements = permuted;
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+
+    /**
+     * Sorts the list with {@code comparator}, keeping the order of elements that it orders the same, and fires a
+     * single permutation change if any element moved.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        Integer[] sourceIndexes = new Integer[elements.size()];
+        for (int i = 0; i < sourceIndexes.length; i++) {
+            sourceIndexes[i] = i;
+        }
+        Arrays.sort(sourceIndexes, (first, second) -> comparator.compare(elements.get(first), elements.get(second)));
+        permute(Arrays.stream(sourceIndexes).mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Replaces each element with the result of {@code operator}, and fires the elements that were replaced with
+     * another as a single change, rather than one change for each.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        requireNonNull(operator);
+        beginChange();
+        for (int i = 0; i < elements.size(); i++) {
+            E element = elements.get(i);
+            E replacement = operator.apply(element);
+            if (replacement != element) {
+                elements.set(i, replacement);
+                nextSet(i, element);
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        return addAll(elements.size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        if (index < 0 || index > elements.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+        int addedCount = toAdd.size();
+        elements.addAll(index, toAdd);
+        modCount++;
+        beginChange();
+        nextAdd(index, index + addedCount);
+        endChange();
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        List<E> range = elements.subList(fromIndex, toIndex);
+        List<E> removed = new ArrayList<>(range);
+        range.clear();
+        modCount++;
+        beginChange();
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
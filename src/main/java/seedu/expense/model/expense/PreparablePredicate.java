@@ -0,0 +1,19 @@
+package seedu.expense.model.expense;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate that does some work before it can answer its tests, such as looking up its matches in an index, and
+ * that can do that work up front.
+ * <p>
+ * The work may not be safe to do from several threads at once, so an {@link IncrementalFilteredList} prepares a
+ * predicate on the calling thread before testing it from other threads.
+ */
+public interface PreparablePredicate<T> extends Predicate<T> {
+
+    /**
+     * Does the work that testing this predicate needs, so that it can then be tested from several threads at once
+     * until whatever it depends on changes.
+     */
+    void prepare();
+}
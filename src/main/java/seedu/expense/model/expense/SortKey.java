@@ -0,0 +1,8 @@
+package seedu.expense.model.expense;
+
+/**
+ * The fields of an expense that the expenses can be sorted by.
+ */
+public enum SortKey {
+    DESCRIPTION, DATE, AMOUNT
+}
@@ -41,4 +41,9 @@ public abstract class SortKeyComparator implements Comparator<Expense> {
     public boolean isReverse() {
         return this.reverse;
     }
+
+    /**
+     * Returns the field of an expense that this compares expenses by.
+     */
+    public abstract SortKey getSortKey();
 }
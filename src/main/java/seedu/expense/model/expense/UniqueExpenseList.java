@@ -3,17 +3,26 @@ package seedu.expense.model.expense;
 import static java.util.Objects.requireNonNull;
 import static seedu.expense.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
+import seedu.expense.commons.core.Config;
 import seedu.expense.model.expense.exceptions.DuplicateExpenseException;
 import seedu.expense.model.expense.exceptions.ExpenseNotFoundException;
+import seedu.expense.model.tag.Tag;
 
 /**
  * A list of expenses that enforces uniqueness between its elements and does not allow nulls.
@@ -23,42 +32,123 @@ import seedu.expense.model.expense.exceptions.ExpenseNotFoundException;
  * However, the removal of an expense uses Expense#equals(Object) so
  * as to ensure that the expense with exactly the same fields will be removed.
  * <p>
+ * Identity checks are answered by a hash index over the expenses in the list, description searches by an inverted
+ * index of the description words, date and amount searches by indexes in date and amount order, and the expenses of
+ * each category are kept in a bucket with the running total of their amounts. The sum of the filtered list is kept as
+ * a running total, and the totals spent on each day, overall and in each category, are kept in trees that sum any
+ * range of dates. All of them are kept in sync with the backing list through its change events.
+ * <p>
+ * Once the expenses have been sorted, the list keeps them in that order: expenses are inserted and moved by binary
+ * search as they are added and edited, so each change is a small insertion or removal rather than a new sort.
+ * <p>
+ * The filtered list only tests the expenses it already shows when a find adds terms to the current one, and keeps the
+ * results of recent filters until the list next changes.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Expense#isSameExpense(Expense)
  */
 public class UniqueExpenseList implements Iterable<Expense> {
 
-    private final ObservableList<Expense> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Expense> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
-    private final FilteredList<Expense> filteredList =
-            new FilteredList<>(asUnmodifiableObservableList());
+    private final PermutableObservableList<Expense> internalList = new PermutableObservableList<>();
+    private final ObservableList<Expense> internalUnmodifiableList;
+    private final IncrementalFilteredList<Expense> filteredList;
+
+    // Expense#equals and Expense#hashCode are defined over the identity fields (description, amount and date),
+    // so this set answers Expense#isSameExpense lookups.
+    private final Set<Expense> identityIndex = new HashSet<>();
+    private final Map<Tag, CategoryBucket> categoryBuckets = new HashMap<>();
+    private final DescriptionIndex descriptionIndex = new DescriptionIndex();
+    private final DateIndex dateIndex = new DateIndex();
+    private final AmountIndex amountIndex = new AmountIndex();
+    private final DailyAmountTree dailyAmounts = new DailyAmountTree();
+    private final AmountTally filteredTally = new AmountTally();
+    private final ExpenseSorter sorter = new ExpenseSorter();
+    // the order the expenses are kept in, or null while they are kept in the order they were added
+    private Comparator<Expense> order;
+
+    /**
+     * Constructs an empty {@code UniqueExpenseList}, whose filtered list is filtered in parallel from
+     * {@code Config.DEFAULT_PARALLEL_FILTER_THRESHOLD} expenses.
+     */
+    public UniqueExpenseList() {
+        this(Config.DEFAULT_PARALLEL_FILTER_THRESHOLD);
+    }
+
+    /**
+     * Constructs an empty {@code UniqueExpenseList}, whose filtered list is filtered in parallel from
+     * {@code parallelFilterThreshold} expenses.
+     */
+    public UniqueExpenseList(int parallelFilterThreshold) {
+        // the indexes are updated before the filtered list hears of a change, as its predicate may use them
+        internalList.addListener(this::updateIndexes);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        filteredList = new IncrementalFilteredList<>(internalUnmodifiableList, parallelFilterThreshold);
+        filteredList.addListener(this::updateFilteredTally);
+    }
 
     /**
      * Returns true if the list contains an equivalent expense as the given argument.
      */
     public boolean contains(Expense toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameExpense);
+        return identityIndex.contains(toCheck);
     }
 
     /**
      * Adds a expense to the list.
      * The expense must not already exist in the list.
+     * If the expenses have been sorted, the expense is inserted where it belongs in the sort order.
      */
     public void add(Expense toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateExpenseException();
         }
-        internalList.add(toAdd);
+        internalList.add(findInsertionIndex(toAdd, 0), toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list as a single change.
+     * If the expenses have been sorted, the expenses are instead inserted where they belong in the sort order, as one
+     * change for each place that expenses are inserted at.
+     * None of the expenses may already exist in the list, and {@code toAdd} must not contain duplicate expenses.
+     */
+    public void addAll(List<Expense> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Expense> duplicates = findDuplicateExpenses(toAdd);
+        toAdd.stream().filter(this::contains).forEach(duplicates::add);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateExpenseException(duplicates);
+        }
+
+        if (order == null) {
+            internalList.addAll(toAdd);
+            return;
+        }
+        List<Expense> sortedToAdd = new ArrayList<>(toAdd);
+        sortedToAdd.sort(order);
+        int from = 0;
+        int start = 0;
+        while (start < sortedToAdd.size()) {
+            int index = findInsertionIndex(sortedToAdd.get(start), from);
+            // the expenses that are ordered before the expense already at the index all go in there together
+            int end = start + 1;
+            while (end < sortedToAdd.size() && (index == internalList.size()
+                    || order.compare(sortedToAdd.get(end), internalList.get(index)) < 0)) {
+                end++;
+            }
+            internalList.addAll(index, sortedToAdd.subList(start, end));
+            from = index + end - start;
+            start = end;
+        }
     }
 
     /**
      * Replaces the expense {@code target} in the list with {@code editedExpense}.
      * {@code target} must exist in the list.
      * The expense identity of {@code editedExpense} must not be the same as another existing expense in the list.
+     * If the expenses have been sorted, {@code editedExpense} is moved to where it belongs in the sort order.
      */
     public void setExpense(Expense target, Expense editedExpense) {
         requireAllNonNull(target, editedExpense);
@@ -72,17 +162,29 @@ public class UniqueExpenseList implements Iterable<Expense> {
             throw new DuplicateExpenseException();
         }
 
-        internalList.set(index, editedExpense);
+        if (isInOrderAt(index, editedExpense)) {
+            internalList.set(index, editedExpense);
+            return;
+        }
+        internalList.remove(index);
+        internalList.add(findInsertionIndex(editedExpense, 0), editedExpense);
     }
 
     /**
-     * Resets the category tag of expenses that passes the {@code predicate} to Default tag
-     * @param predicate condition for the expenses to be met
+     * Resets the category tag of the expenses in {@code category} to the Default tag.
      */
-    public void resetExpenseCategory(Predicate<Expense> predicate) {
-        requireNonNull(predicate);
-        internalList.stream().filter(predicate).forEach(expense ->
-            setExpense(expense, expense.resetTag()));
+    public void resetExpenseCategory(Tag category) {
+        requireNonNull(category);
+        if (!categoryBuckets.containsKey(category)) {
+            return;
+        }
+        // resetting the tag keeps the identity of an expense, so each expense can be replaced where it is, and all of
+        // them are replaced as one change so that the indexes and the filtered list only hear of it once
+        internalList.replaceAll(expense -> expense.getTag().equals(category) ? expense.resetTag() : expense);
+        // no sort key of an ExpenseSortOrder reads the category, so only another comparator can be broken by the reset
+        if (order != null && !(order instanceof ExpenseSortOrder)) {
+            internalList.sort(order);
+        }
     }
 
     /**
@@ -96,22 +198,28 @@ public class UniqueExpenseList implements Iterable<Expense> {
         }
     }
 
+    /**
+     * Replaces the contents of this list with the expenses in {@code replacement}.
+     * If the expenses have been sorted, the expenses are kept in the sort order of this list.
+     */
     public void setExpenses(UniqueExpenseList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.setAll(toSortOrder(replacement.internalList));
     }
 
     /**
      * Replaces the contents of this list with {@code expenses}.
      * {@code expenses} must not contain duplicate expenses.
+     * If the expenses have been sorted, the expenses are kept in the sort order of this list.
      */
     public void setExpenses(List<Expense> expenses) {
         requireAllNonNull(expenses);
-        if (!expensesAreUnique(expenses)) {
-            throw new DuplicateExpenseException();
+        List<Expense> duplicates = findDuplicateExpenses(expenses);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateExpenseException(duplicates);
         }
 
-        internalList.setAll(expenses);
+        internalList.setAll(toSortOrder(expenses));
     }
 
     /**
@@ -120,8 +228,9 @@ public class UniqueExpenseList implements Iterable<Expense> {
      */
     public void setFilteredExpenses(List<Expense> expenses) {
         requireAllNonNull(expenses);
-        if (!expensesAreUnique(expenses)) {
-            throw new DuplicateExpenseException();
+        List<Expense> duplicates = findDuplicateExpenses(expenses);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateExpenseException(duplicates);
         }
 
         filteredList.setAll(expenses);
@@ -136,32 +245,145 @@ public class UniqueExpenseList implements Iterable<Expense> {
 
     /**
      * Filters the contents of this list's filtered list with {@code predicate}.
+     * If both {@code predicate} and the current predicate are {@code MatchesAllPredicate}s, and {@code predicate} has
+     * every term of the current one, only the expenses in the filtered list are tested.
      */
     public void filterExpenses(Predicate<Expense> predicate) {
         requireAllNonNull(predicate);
-        filteredList.setPredicate(predicate);
+        Predicate<? super Expense> currentPredicate = filteredList.getPredicate();
+        if (predicate instanceof MatchesAllPredicate && currentPredicate instanceof MatchesAllPredicate
+                && ((MatchesAllPredicate) predicate).isNarrowerThan((MatchesAllPredicate) currentPredicate)) {
+            filteredList.narrowPredicate(predicate);
+        } else {
+            filteredList.setPredicate(predicate);
+        }
     }
 
     /**
-     * Calculates the sum of the expenses in the expense list.
+     * Returns the sum of the expenses in the filtered expense list.
      * @return sum of expenses.
      */
     public Amount tallyExpenses() {
-        Amount sum = new Amount("0");
-        Iterator<Expense> i = iterator();
-        while (i.hasNext()) {
-            sum = sum.add(i.next().getAmount());
+        return filteredTally.toAmount();
+    }
+
+    /**
+     * Returns the sum of all the expenses in the expense list that belong to {@code category}.
+     */
+    public Amount tallyExpenses(Tag category) {
+        requireNonNull(category);
+        CategoryBucket bucket = categoryBuckets.get(category);
+        return bucket == null ? Amount.zeroAmount() : bucket.getTotal();
+    }
+
+    /**
+     * Returns the sum of all the expenses in the expense list with a date in {@code dateRange}.
+     */
+    public Amount tallyExpenses(DateRange dateRange) {
+        requireNonNull(dateRange);
+        return dailyAmounts.total(dateRange);
+    }
+
+    /**
+     * Returns the sum of all the expenses in the expense list that belong to {@code category} and have a date in
+     * {@code dateRange}.
+     */
+    public Amount tallyExpenses(Tag category, DateRange dateRange) {
+        requireAllNonNull(category, dateRange);
+        CategoryBucket bucket = categoryBuckets.get(category);
+        return bucket == null ? Amount.zeroAmount() : bucket.getTotal(dateRange);
+    }
+
+    /**
+     * Returns the expenses in the expense list that belong to {@code category}, in no particular order.
+     */
+    public Set<Expense> getExpenses(Tag category) {
+        requireNonNull(category);
+        CategoryBucket bucket = categoryBuckets.get(category);
+        return bucket == null ? Collections.emptySet() : bucket.getExpenses();
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} for the expenses in this list, but is answered from
+     * an index of the description words instead of by scanning each description.
+     */
+    public Predicate<Expense> toIndexedPredicate(DescriptionContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return descriptionIndex.toPredicate(predicate.getKeywords());
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} for the expenses in this list, but is answered from
+     * an index of the expenses in date order instead of by checking every expense.
+     */
+    public Predicate<Expense> toIndexedPredicate(DateMatchesPredicate predicate) {
+        requireNonNull(predicate);
+        return dateIndex.toPredicate(predicate.getDateRanges());
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} for the expenses in this list, but is answered from
+     * an index of the expenses in order of amount instead of by checking every expense.
+     */
+    public Predicate<Expense> toIndexedPredicate(AmountMatchesPredicate predicate) {
+        requireNonNull(predicate);
+        return amountIndex.toPredicate(predicate.getAmountRanges());
+    }
+
+    /**
+     * Returns the {@code count} largest expenses in the expense list if {@code isLargest}, or the {@code count}
+     * smallest otherwise, out of those in {@code category} if it is present, and with a date in {@code dateRange}.
+     * The expenses are ranked in {@link AmountIndex#AMOUNT_ORDER}, from the most extreme.
+     */
+    public List<Expense> findTopExpenses(int count, boolean isLargest, Optional<Tag> category, DateRange dateRange) {
+        requireAllNonNull(category, dateRange);
+        Predicate<Expense> isInRange = expense -> dateRange.contains(expense.getDate().value);
+        if (category.isEmpty()) {
+            return amountIndex.findExtremes(count, isLargest, isInRange);
         }
-        return sum;
+
+        // the expenses of a category can be ranked from its bucket with a heap that holds at most count expenses,
+        // instead of going through the expenses of every other category in the amount index
+        CategoryBucket bucket = categoryBuckets.get(category.get());
+        if (bucket == null || count <= 0) {
+            return new ArrayList<>();
+        }
+        Comparator<Expense> order = isLargest ? AmountIndex.AMOUNT_ORDER.reversed() : AmountIndex.AMOUNT_ORDER;
+        // the head of the heap is the least extreme expense kept
+        PriorityQueue<Expense> heap = new PriorityQueue<>(count + 1, order.reversed());
+        for (Expense expense : bucket.getExpenses()) {
+            if (isInRange.test(expense)) {
+                heap.add(expense);
+                if (heap.size() > count) {
+                    heap.poll();
+                }
+            }
+        }
+        List<Expense> found = new ArrayList<>(heap);
+        found.sort(order);
+        return found;
     }
 
     /**
-     * Sort expenses in Expense List according to comparator provided.
-     * @param comparator
+     * Sorts the expenses in the list with {@code comparator}, and keeps them in that order from then on: expenses
+     * that are added or edited later are inserted where they belong, instead of the list being sorted again.
+     * Expenses that are ordered the same keep their relative order.
+     * The sorting is a single permutation of the list, so the indexes of the list are not rebuilt.
+     * <p>
+     * An {@link ExpenseSortOrder} is sorted by from the ranks of the expenses that {@code sorter} keeps, without
+     * comparing the expenses, and the permutation it works out is applied to the list directly. Other comparators
+     * are sorted by with a comparison sort.
      */
     public void sortExpenses(Comparator<Expense> comparator) {
-        internalList.setAll(new SortedList<Expense>(this.internalList, comparator));
+        requireNonNull(comparator);
+        order = comparator;
+        if (comparator instanceof ExpenseSortOrder) {
+            internalList.permute(sorter.sort(internalList, (ExpenseSortOrder) comparator));
+        } else {
+            internalList.sort(comparator);
+        }
     }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -172,7 +394,7 @@ public class UniqueExpenseList implements Iterable<Expense> {
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
-    public FilteredList<Expense> getFilteredList() {
+    public IncrementalFilteredList<Expense> getFilteredList() {
         return filteredList;
     }
 
@@ -194,16 +416,114 @@ public class UniqueExpenseList implements Iterable<Expense> {
     }
 
     /**
-     * Returns true if {@code expenses} contains only unique expenses.
+     * Keeps {@code identityIndex}, {@code categoryBuckets}, {@code descriptionIndex}, {@code dateIndex},
+     * {@code amountIndex} and {@code dailyAmounts} in sync with every structural change made to the backing list, and
+     * discards the sort ranks of {@code sorter}. Permutations leave the set of expenses unchanged, so only removed and
+     * added expenses are processed.
      */
-    private boolean expensesAreUnique(List<Expense> expenses) {
-        for (int i = 0; i < expenses.size() - 1; i++) {
-            for (int j = i + 1; j < expenses.size(); j++) {
-                if (expenses.get(i).isSameExpense(expenses.get(j))) {
-                    return false;
+    private void updateIndexes(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            sorter.invalidate();
+            for (Expense removed : change.getRemoved()) {
+                identityIndex.remove(removed);
+                CategoryBucket bucket = categoryBuckets.get(removed.getTag());
+                bucket.remove(removed);
+                if (bucket.isEmpty()) {
+                    categoryBuckets.remove(removed.getTag());
                 }
+                descriptionIndex.remove(removed);
+                dateIndex.remove(removed);
+                amountIndex.remove(removed);
+                dailyAmounts.subtract(removed.getDate().value, removed.getAmount());
+            }
+            for (Expense added : change.getAddedSubList()) {
+                identityIndex.add(added);
+                categoryBuckets.computeIfAbsent(added.getTag(), unused -> new CategoryBucket()).add(added);
+                descriptionIndex.add(added);
+                dateIndex.add(added);
+                amountIndex.add(added);
+                dailyAmounts.add(added.getDate().value, added.getAmount());
+            }
+        }
+    }
+
+    /**
+     * Keeps {@code filteredTally} in sync with the expenses that are in the filtered list.
+     */
+    private void updateFilteredTally(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Expense removed : change.getRemoved()) {
+                filteredTally.subtract(removed.getAmount());
+            }
+            for (Expense added : change.getAddedSubList()) {
+                filteredTally.add(added.getAmount());
+            }
+        }
+    }
+
+    /**
+     * Returns the index at or after {@code from} that {@code expense} should be inserted at to keep the list in its
+     * sort order, which is after the expenses that are ordered the same as it. The index is found by binary search.
+     * Returns the end of the list if the list has not been sorted.
+     */
+    private int findInsertionIndex(Expense expense, int from) {
+        if (order == null) {
+            return internalList.size();
+        }
+        int low = from;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(internalList.get(middle), expense) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if the list stays in its sort order when the expense at {@code index} is replaced with
+     * {@code expense}, which is always the case if the list has not been sorted.
+     */
+    private boolean isInOrderAt(int index, Expense expense) {
+        return order == null
+                || ((index == 0 || order.compare(internalList.get(index - 1), expense) <= 0)
+                && (index == internalList.size() - 1 || order.compare(expense, internalList.get(index + 1)) <= 0));
+    }
+
+    /**
+     * Returns {@code expenses} in the sort order of the list, or {@code expenses} itself if the list has not been
+     * sorted.
+     */
+    private List<Expense> toSortOrder(List<Expense> expenses) {
+        if (order == null) {
+            return expenses;
+        }
+        List<Expense> sorted = new ArrayList<>(expenses);
+        sorted.sort(order);
+        return sorted;
+    }
+
+    /**
+     * Returns the expenses in {@code expenses} that share their identity with an earlier expense in the list.
+     * The returned list is empty if {@code expenses} contains only unique expenses.
+     */
+    private static List<Expense> findDuplicateExpenses(List<Expense> expenses) {
+        Set<Expense> seen = new HashSet<>(expenses.size() * 2);
+        List<Expense> duplicates = new ArrayList<>();
+        for (Expense expense : expenses) {
+            if (!seen.add(expense)) {
+                duplicates.add(expense);
             }
         }
-        return true;
+        return duplicates;
     }
 }
@@ -1,5 +1,9 @@
 package seedu.expense.model.expense.exceptions;
 
+import java.util.List;
+
+import seedu.expense.model.expense.Expense;
+
 /**
  * Signals that the operation will result in duplicate Expenses
  * (Expenses are considered duplicates if they have the same identity).
@@ -8,4 +12,11 @@ public class DuplicateExpenseException extends RuntimeException {
     public DuplicateExpenseException() {
         super("Operation would result in duplicate expenses");
     }
+
+    /**
+     * Constructs a {@code DuplicateExpenseException} that reports the offending {@code duplicates}.
+     */
+    public DuplicateExpenseException(List<Expense> duplicates) {
+        super("Operation would result in duplicate expenses: " + duplicates);
+    }
 }
@@ -0,0 +1,132 @@
+package seedu.expense.model.rollup;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expense.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * The number of expenses and the total amount spent in each category over each day, week and month, kept up to date
+ * as expenses are added and removed so that reports never have to go through the expenses.
+ * <p>
+ * Each addition or removal updates one rollup of each length of period. A report of the rollups over a range of dates
+ * takes time proportional to the number of rollups reported, plus the log of the number of periods of each category.
+ */
+public class ExpenseRollups {
+
+    private final Map<RollupPeriod, Map<Tag, NavigableMap<LocalDate, Tally>>> rollups =
+            new EnumMap<>(RollupPeriod.class);
+
+    /**
+     * Constructs an empty {@code ExpenseRollups}.
+     */
+    public ExpenseRollups() {
+        for (RollupPeriod period : RollupPeriod.values()) {
+            rollups.put(period, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code expense} to the rollups of its category.
+     */
+    public void add(Expense expense) {
+        requireNonNull(expense);
+        LocalDate date = expense.getDate().value;
+        for (RollupPeriod period : RollupPeriod.values()) {
+            rollups.get(period).computeIfAbsent(expense.getTag(), unused -> new TreeMap<>())
+                    .computeIfAbsent(period.startOf(date), unused -> new Tally()).add(expense.getAmount());
+        }
+    }
+
+    /**
+     * Removes {@code expense} from the rollups of its category.
+     * {@code expense} must have been added before.
+     */
+    public void remove(Expense expense) {
+        requireNonNull(expense);
+        LocalDate date = expense.getDate().value;
+        for (RollupPeriod period : RollupPeriod.values()) {
+            Map<Tag, NavigableMap<LocalDate, Tally>> rollupsByCategory = rollups.get(period);
+            NavigableMap<LocalDate, Tally> categoryRollups = rollupsByCategory.get(expense.getTag());
+            LocalDate start = period.startOf(date);
+            Tally tally = categoryRollups.get(start);
+            tally.subtract(expense.getAmount());
+            if (tally.count == 0) {
+                categoryRollups.remove(start);
+            }
+            if (categoryRollups.isEmpty()) {
+                rollupsByCategory.remove(expense.getTag());
+            }
+        }
+    }
+
+    /**
+     * Keeps the rollups in sync with a change to a list of expenses. Permutations leave the set of expenses
+     * unchanged, so only removed and added expenses are processed.
+     */
+    public void update(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns the rollups over {@code period}s of the expenses in {@code categories}, for the periods that overlap
+     * {@code dateRange}. Periods without expenses are left out. The rollups are in date order, and the rollups of the
+     * same period are in the order of {@code categories}.
+     */
+    public List<Rollup> getRollups(RollupPeriod period, List<Tag> categories, DateRange dateRange) {
+        requireAllNonNull(period, categories, dateRange);
+        // the first period may start before the range
+        LocalDate from = dateRange.from.equals(LocalDate.MIN) ? LocalDate.MIN : period.startOf(dateRange.from);
+
+        List<Rollup> found = new ArrayList<>();
+        for (Tag category : categories) {
+            NavigableMap<LocalDate, Tally> categoryRollups = rollups.get(period).get(category);
+            if (categoryRollups == null) {
+                continue;
+            }
+            categoryRollups.subMap(from, true, dateRange.to, true).forEach((start, tally) ->
+                    found.add(new Rollup(period, start, category, tally.count, Amount.fromCents(tally.cents))));
+        }
+        // the sort is stable, so the rollups of each period stay in the order of the categories
+        found.sort(Comparator.comparing(Rollup::getStart));
+        return found;
+    }
+
+    /**
+     * The number of expenses in a rollup and the total of their amounts, in cents.
+     */
+    private static class Tally {
+        private int count;
+        private long cents;
+
+        void add(Amount amount) {
+            count++;
+            cents = Math.addExact(cents, amount.getCents());
+        }
+
+        void subtract(Amount amount) {
+            count--;
+            cents = Math.subtractExact(cents, amount.getCents());
+        }
+    }
+}
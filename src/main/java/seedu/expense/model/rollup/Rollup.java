@@ -0,0 +1,92 @@
+package seedu.expense.model.rollup;
+
+import static seedu.expense.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.expense.model.expense.Amount;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * The number of expenses in a category over one period, and the total amount spent on them.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class Rollup {
+
+    private final RollupPeriod period;
+    private final LocalDate start;
+    private final Tag category;
+    private final int count;
+    private final Amount total;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Rollup(RollupPeriod period, LocalDate start, Tag category, int count, Amount total) {
+        requireAllNonNull(period, start, category, total);
+        this.period = period;
+        this.start = start;
+        this.category = category;
+        this.count = count;
+        this.total = total;
+    }
+
+    public RollupPeriod getPeriod() {
+        return period;
+    }
+
+    /**
+     * Returns the first day of the period.
+     */
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public Tag getCategory() {
+        return category;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public Amount getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns a description of the period, e.g. "02-2020" for February 2020.
+     */
+    public String describePeriod() {
+        return period.describe(start);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Rollup)) {
+            return false;
+        }
+
+        Rollup otherRollup = (Rollup) other;
+        return otherRollup.period == period
+                && otherRollup.start.equals(start)
+                && otherRollup.category.equals(category)
+                && otherRollup.count == count
+                && otherRollup.total.equals(total);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(period, start, category, count, total);
+    }
+
+    @Override
+    public String toString() {
+        return describePeriod() + " " + category + ": " + count + " expenses, $" + total;
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.expense.model.rollup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * The lengths of the periods that expenses are rolled up over.
+ * Weeks start on Monday.
+ */
+public enum RollupPeriod {
+    DAY("day", "daily"),
+    WEEK("week", "weekly"),
+    MONTH("month", "monthly");
+
+    public static final String MESSAGE_CONSTRAINTS = "Periods should be one of: day, week, month";
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MM-yyyy");
+
+    private final String keyword;
+    private final String adjective;
+
+    RollupPeriod(String keyword, String adjective) {
+        this.keyword = keyword;
+        this.adjective = adjective;
+    }
+
+    /**
+     * Returns true if {@code test} is the keyword of a period.
+     */
+    public static boolean isValidPeriod(String test) {
+        requireNonNull(test);
+        for (RollupPeriod period : values()) {
+            if (period.keyword.equals(test)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the period with the keyword {@code keyword}.
+     *
+     * @throws IllegalArgumentException if {@code keyword} is not the keyword of a period.
+     */
+    public static RollupPeriod fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (RollupPeriod period : values()) {
+            if (period.keyword.equals(keyword)) {
+                return period;
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns the first day of the period that {@code date} is in.
+     */
+    public LocalDate startOf(LocalDate date) {
+        requireNonNull(date);
+        switch (this) {
+        case WEEK:
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        case MONTH:
+            return date.withDayOfMonth(1);
+        default:
+            return date;
+        }
+    }
+
+    /**
+     * Returns a description of the period that starts on {@code start}.
+     */
+    public String describe(LocalDate start) {
+        requireNonNull(start);
+        switch (this) {
+        case WEEK:
+            return "Week of " + start.format(DAY_FORMATTER);
+        case MONTH:
+            return start.format(MONTH_FORMATTER);
+        default:
+            return start.format(DAY_FORMATTER);
+        }
+    }
+
+    /**
+     * Returns the word for something that happens once every period, e.g. "monthly".
+     */
+    public String getAdjective() {
+        return adjective;
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.expense.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.expense.model.ExpenseBook.DEFAULT_TAG;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -117,8 +120,9 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DefaultTagException();
         }
 
-        if (!tagsAreUnique(tags)) {
-            throw new DuplicateTagException();
+        List<Tag> duplicates = findDuplicateTags(tags);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateTagException(duplicates);
         }
 
         internalList.setAll(tags);
@@ -149,16 +153,17 @@ public class UniqueTagList implements Iterable<Tag> {
     }
 
     /**
-     * Returns true if {@code tags} contains only unique tags.
+     * Returns the tags in {@code tags} that are equal to an earlier tag in the list.
+     * The returned list is empty if {@code tags} contains only unique tags.
      */
-    private boolean tagsAreUnique(List<Tag> tags) {
-        for (int i = 0; i < tags.size() - 1; i++) {
-            for (int j = i + 1; j < tags.size(); j++) {
-                if (tags.get(i).equals(tags.get(j))) {
-                    return false;
-                }
+    private static List<Tag> findDuplicateTags(List<Tag> tags) {
+        Set<Tag> seen = new HashSet<>();
+        List<Tag> duplicates = new ArrayList<>();
+        for (Tag tag : tags) {
+            if (!seen.add(tag)) {
+                duplicates.add(tag);
             }
         }
-        return true;
+        return duplicates;
     }
 }
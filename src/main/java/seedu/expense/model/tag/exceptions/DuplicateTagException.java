@@ -1,5 +1,9 @@
 package seedu.expense.model.tag.exceptions;
 
+import java.util.List;
+
+import seedu.expense.model.tag.Tag;
+
 /**
  * Signals that the operation will result in duplicate Tags
  * (Tags are considered duplicates if they have the same identity).
@@ -8,4 +12,11 @@ public class DuplicateTagException extends RuntimeException {
     public DuplicateTagException() {
         super("Operation would result in duplicate tags");
     }
+
+    /**
+     * Constructs a {@code DuplicateTagException} that reports the offending {@code duplicates}.
+     */
+    public DuplicateTagException(List<Tag> duplicates) {
+        super("Operation would result in duplicate tags: " + duplicates);
+    }
 }
@@ -0,0 +1,477 @@
+package seedu.expense.storage;
+
+import static seedu.expense.commons.core.Messages.MESSAGE_INPUT_OVERLIMIT;
+import static seedu.expense.storage.BinaryExpenseBookStorage.FORMAT_VERSION;
+import static seedu.expense.storage.BinaryExpenseBookStorage.MAGIC;
+import static seedu.expense.storage.JsonSerializableExpenseBook.MESSAGE_DUPLICATE_CATEGORY;
+import static seedu.expense.storage.JsonSerializableExpenseBook.MESSAGE_DUPLICATE_EXPENSE;
+import static seedu.expense.storage.JsonSerializableExpenseBook.MESSAGE_INVALID_CATEGORY;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.expense.commons.exceptions.DataConversionException;
+import seedu.expense.commons.exceptions.IllegalValueException;
+import seedu.expense.commons.exceptions.UncheckedDataConversionException;
+import seedu.expense.model.ExpenseBook;
+import seedu.expense.model.ReadOnlyExpenseBook;
+import seedu.expense.model.budget.CategoryBudget;
+import seedu.expense.model.budget.UniqueCategoryBudgetList;
+import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.Date;
+import seedu.expense.model.expense.Description;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.expense.Remark;
+import seedu.expense.model.expense.exceptions.DuplicateExpenseException;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Reads an expense book in the format described in {@link BinaryExpenseBookStorage} from a buffer, which is typically
+ * mapped from the file.
+ * <p>
+ * {@link #open()} decodes everything but the expenses. It checks the checksum over the whole buffer, reads the
+ * dictionary, categories and budgets, and finds where each expense column starts by skipping over the column before
+ * it. That is one pass over the buffer, linear in its size, but no object is created per expense. The expenses are
+ * decoded and validated in order as they are first read from the returned book, so a caller can take them in batches
+ * as the model is filled.
+ * <p>
+ * The strings in the dictionary are only decoded when an expense refers to them. Each is decoded and validated once,
+ * however many expenses share it, and the expenses that share it share the same {@code Description} or
+ * {@code Remark}.
+ */
+class BinaryExpenseBookReader {
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "File is not in the binary expense book format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary expense book format version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary expense book file is corrupted.";
+
+    // a variable-length long takes at most 10 bytes of 7 bits
+    private static final int MAX_VAR_LONG_BYTES = 10;
+
+    private final ByteBuffer buffer;
+
+    // the position and length in bytes of each string in the dictionary
+    private int[] stringOffsets;
+    private int[] stringLengths;
+    private Description[] descriptions;
+    private Remark[] remarks;
+    private final List<Tag> tags = new ArrayList<>();
+    // whether each tag in the tag table is a category of the expense book
+    private boolean[] isCategory;
+
+    /**
+     * Creates a {@code BinaryExpenseBookReader} that reads the bytes between the position and the limit of
+     * {@code buffer}, which is not changed.
+     */
+    public BinaryExpenseBookReader(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+    }
+
+    /**
+     * Reads the expense book and converts it into the model's {@code ExpenseBook} object, decoding every expense.
+     *
+     * @throws IllegalValueException if the file is not in the expected format, is corrupted or cut short, or there
+     *                               were any data constraints violated.
+     */
+    public ExpenseBook read() throws IllegalValueException {
+        OpenedExpenseBook openedExpenseBook = openExpenseBook();
+        ExpenseBook expenseBook = new ExpenseBook(openedExpenseBook.categoriesAndBudgets);
+        openedExpenseBook.expenses.decodeUpTo(openedExpenseBook.expenses.size());
+        try {
+            expenseBook.setExpenses(openedExpenseBook.expenses);
+        } catch (DuplicateExpenseException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EXPENSE);
+        }
+        return expenseBook;
+    }
+
+    /**
+     * Opens the expense book, leaving its expenses to be decoded as they are read.
+     * Reading an expense from the returned book throws an {@link UncheckedDataConversionException} if it, or an
+     * expense before it, violates any data constraints. The expenses are not checked for duplicates.
+     *
+     * @throws IllegalValueException if the file is not in the expected format, is corrupted or cut short, or the
+     *                               categories or budgets violate any data constraints.
+     */
+    public ReadOnlyExpenseBook open() throws IllegalValueException {
+        return openExpenseBook();
+    }
+
+    private OpenedExpenseBook openExpenseBook() throws IllegalValueException {
+        try {
+            return readHeader();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Reads everything but the expenses, and finds where each expense column starts.
+     */
+    private OpenedExpenseBook readHeader() throws IllegalValueException {
+        byte[] magic = new byte[MAGIC.length];
+        if (buffer.remaining() < magic.length || !Arrays.equals(readBytes(magic), MAGIC)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        verifyChecksum();
+        int version = readVarInt(buffer);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int stringCount = readCount();
+        stringOffsets = new int[stringCount];
+        stringLengths = new int[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            stringLengths[i] = readCount();
+            stringOffsets[i] = buffer.position();
+            buffer.position(stringOffsets[i] + stringLengths[i]);
+        }
+        descriptions = new Description[stringCount];
+        remarks = new Remark[stringCount];
+        int tagCount = readCount();
+        for (int i = 0; i < tagCount; i++) {
+            int length = readCount();
+            String tagName = decodeString(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            tags.add(toModelType(Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS, tagName, Tag::new));
+        }
+
+        ExpenseBook categoriesAndBudgets = new ExpenseBook();
+        int categoryCount = readCount();
+        for (int i = 0; i < categoryCount; i++) {
+            Tag category = readTag(buffer);
+            if (category.equals(ExpenseBook.DEFAULT_TAG) || categoriesAndBudgets.getTags().contains(category)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_CATEGORY);
+            }
+            categoriesAndBudgets.addCategory(category);
+        }
+        isCategory = new boolean[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            isCategory[i] = categoriesAndBudgets.containsCategory(tags.get(i));
+        }
+        categoriesAndBudgets.setBudgets(readBudgets());
+
+        int expenseCount = readCount();
+        ExpenseColumns expenses = new ExpenseColumns(expenseCount, findColumn(expenseCount),
+                findColumn(expenseCount), findColumn(expenseCount), findColumn(expenseCount),
+                findColumn(expenseCount));
+        if (buffer.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return new OpenedExpenseBook(categoriesAndBudgets, expenses);
+    }
+
+    private UniqueCategoryBudgetList readBudgets() throws IllegalValueException {
+        UniqueCategoryBudgetList budgets = new UniqueCategoryBudgetList();
+        budgets.topupBudget(readBudgetAmount());
+        int categoryBudgetCount = readCount();
+        for (int i = 0; i < categoryBudgetCount; i++) {
+            CategoryBudget categoryBudget = new CategoryBudget(readTag(buffer));
+            categoryBudget.topupBudget(readBudgetAmount());
+            if (budgets.contains(categoryBudget)) {
+                throw new IllegalValueException(JsonAdaptedBudgetList.MESSAGE_DUPLICATE_CATEGORY_BUDGET);
+            }
+            budgets.add(categoryBudget);
+        }
+        return budgets;
+    }
+
+    private Amount readBudgetAmount() throws IllegalValueException {
+        Amount amount = readAmount(buffer);
+        if (amount.smallerThan(Amount.zeroAmount())) {
+            throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+        }
+        return amount;
+    }
+
+    /**
+     * Returns the column of {@code count} numbers that starts at the position of the buffer, and moves the buffer past
+     * it. The numbers are skipped over without being decoded.
+     */
+    private ByteBuffer findColumn(int count) throws IllegalValueException {
+        int start = buffer.position();
+        for (int i = 0; i < count; i++) {
+            int length = 1;
+            while ((buffer.get() & 0x80) != 0) {
+                if (++length > MAX_VAR_LONG_BYTES) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+            }
+        }
+        return buffer.duplicate().position(start).limit(buffer.position());
+    }
+
+    private Description readDescription(ByteBuffer in) throws IllegalValueException {
+        int index = readIndex(in, stringOffsets.length);
+        if (descriptions[index] == null) {
+            descriptions[index] = toModelType(test -> Description.isValidDescription(test)
+                    && Description.isValidLength(test), Description.MESSAGE_CONSTRAINTS, decodeString(index),
+                    Description::new);
+        }
+        return descriptions[index];
+    }
+
+    private Remark readRemark(ByteBuffer in) throws IllegalValueException {
+        int index = readIndex(in, stringOffsets.length);
+        if (remarks[index] == null) {
+            remarks[index] = toModelType(Remark::isValidLength, String.format(MESSAGE_INPUT_OVERLIMIT,
+                    Remark.CLASS_NAME, Remark.MAX_CHARACTERS), decodeString(index), Remark::new);
+        }
+        return remarks[index];
+    }
+
+    private Tag readTag(ByteBuffer in) throws IllegalValueException {
+        return tags.get(readIndex(in, tags.size()));
+    }
+
+    /**
+     * Reads the tag of an expense, which has to be a category of the expense book.
+     */
+    private Tag readCategory(ByteBuffer in) throws IllegalValueException {
+        int index = readIndex(in, tags.size());
+        if (!isCategory[index]) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CATEGORY, tags.get(index)));
+        }
+        return tags.get(index);
+    }
+
+    private static Amount readAmount(ByteBuffer in) throws IllegalValueException {
+        long cents = readSignedVarLong(in);
+        if (cents < Amount.MIN_CENTS || cents > Amount.MAX_CENTS) {
+            throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+        }
+        return Amount.fromCents(cents);
+    }
+
+    /**
+     * Returns {@code constructor} applied to {@code value}, if {@code value} is valid.
+     */
+    private static <T> T toModelType(Predicate<String> isValid, String messageConstraints, String value,
+                                     Function<String, T> constructor) throws IllegalValueException {
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(messageConstraints);
+        }
+        return constructor.apply(value);
+    }
+
+    /**
+     * Checks the checksum at the end of the buffer, and leaves it out of what is left to read.
+     */
+    private void verifyChecksum() throws IllegalValueException {
+        int checksumPosition = buffer.limit() - Integer.BYTES;
+        if (checksumPosition < buffer.position()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().position(0).limit(checksumPosition));
+        if (buffer.getInt(checksumPosition) != (int) checksum.getValue()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        buffer.limit(checksumPosition);
+    }
+
+    private byte[] readBytes(byte[] bytes) {
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private String decodeString(int index) {
+        return decodeString(stringOffsets[index], stringLengths[index]);
+    }
+
+    private String decodeString(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.duplicate().position(offset).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the number of entries or bytes that follow, which cannot be more than the bytes left, as each entry takes
+     * at least one byte.
+     */
+    private int readCount() throws IllegalValueException {
+        int count = readVarInt(buffer);
+        if (count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    /**
+     * Reads an index into a dictionary of {@code size} entries.
+     */
+    private static int readIndex(ByteBuffer in, int size) throws IllegalValueException {
+        int index = readVarInt(in);
+        if (index >= size) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return index;
+    }
+
+    private static int readVarInt(ByteBuffer in) throws IllegalValueException {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(ByteBuffer in) throws IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED);
+    }
+
+    private static long readSignedVarLong(ByteBuffer in) throws IllegalValueException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * The expenses of an opened expense book, decoded from their columns in order as they are first read.
+     * Reading an expense decodes every expense before it that has not been decoded yet, and keeps them all.
+     * Reads may come from any thread.
+     */
+    private class ExpenseColumns extends AbstractList<Expense> implements RandomAccess {
+
+        private final int size;
+        private final ByteBuffer descriptionColumn;
+        private final ByteBuffer amountColumn;
+        private final ByteBuffer dateColumn;
+        private final ByteBuffer remarkColumn;
+        private final ByteBuffer tagColumn;
+
+        private Expense[] decoded;
+        private int decodedCount;
+        private long epochDay;
+        // the error that stopped the decoding, which every later read of an expense after it throws again
+        private IllegalValueException decodingError;
+
+        ExpenseColumns(int size, ByteBuffer descriptionColumn, ByteBuffer amountColumn, ByteBuffer dateColumn,
+                       ByteBuffer remarkColumn, ByteBuffer tagColumn) {
+            this.size = size;
+            this.descriptionColumn = descriptionColumn;
+            this.amountColumn = amountColumn;
+            this.dateColumn = dateColumn;
+            this.remarkColumn = remarkColumn;
+            this.tagColumn = tagColumn;
+        }
+
+        @Override
+        public synchronized Expense get(int index) {
+            Objects.checkIndex(index, size);
+            if (index >= decodedCount) {
+                try {
+                    decodeUpTo(index + 1);
+                } catch (IllegalValueException ive) {
+                    throw new UncheckedDataConversionException(new DataConversionException(ive));
+                }
+            }
+            return decoded[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Decodes the first {@code count} expenses, if they have not been decoded yet.
+         */
+        synchronized void decodeUpTo(int count) throws IllegalValueException {
+            if (decodingError != null) {
+                throw decodingError;
+            }
+            if (decoded == null) {
+                decoded = new Expense[size];
+            }
+            try {
+                for (int i = decodedCount; i < count; i++) {
+                    decoded[i] = decodeNext();
+                    decodedCount = i + 1;
+                }
+            } catch (IllegalValueException ive) {
+                decodingError = ive;
+                throw ive;
+            } catch (BufferUnderflowException e) {
+                decodingError = new IllegalValueException(MESSAGE_CORRUPTED);
+                throw decodingError;
+            }
+        }
+
+        private Expense decodeNext() throws IllegalValueException {
+            Description description = readDescription(descriptionColumn);
+            Amount amount = readAmount(amountColumn);
+            epochDay += readSignedVarLong(dateColumn);
+            Date date;
+            try {
+                date = Date.fromLocalDate(LocalDate.ofEpochDay(epochDay));
+            } catch (DateTimeException e) {
+                throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+            }
+            return new Expense(description, amount, date, readRemark(remarkColumn), readCategory(tagColumn));
+        }
+    }
+
+    /**
+     * An expense book whose expenses are decoded as they are read.
+     */
+    private static class OpenedExpenseBook implements ReadOnlyExpenseBook {
+
+        private final ExpenseBook categoriesAndBudgets;
+        private final ExpenseColumns expenses;
+        private final ObservableList<Expense> expenseList;
+
+        OpenedExpenseBook(ExpenseBook categoriesAndBudgets, ExpenseColumns expenses) {
+            this.categoriesAndBudgets = categoriesAndBudgets;
+            this.expenses = expenses;
+            expenseList = FXCollections.unmodifiableObservableList(FXCollections.observableList(expenses));
+        }
+
+        @Override
+        public ObservableList<Expense> getExpenseList() {
+            return expenseList;
+        }
+
+        @Override
+        public ObservableList<CategoryBudget> getBudgetList() {
+            return categoriesAndBudgets.getBudgetList();
+        }
+
+        @Override
+        public UniqueCategoryBudgetList getBudgets() {
+            return categoriesAndBudgets.getBudgets();
+        }
+
+        @Override
+        public ObservableList<Tag> getTags() {
+            return categoriesAndBudgets.getTags();
+        }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+    }
+}
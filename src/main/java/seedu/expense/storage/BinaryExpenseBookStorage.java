@@ -0,0 +1,192 @@
+package seedu.expense.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.expense.commons.core.LogsCenter;
+import seedu.expense.commons.exceptions.DataConversionException;
+import seedu.expense.commons.exceptions.IllegalValueException;
+import seedu.expense.commons.exceptions.UncheckedDataConversionException;
+import seedu.expense.commons.util.FileUtil;
+import seedu.expense.model.ReadOnlyExpenseBook;
+
+/**
+ * A class to access ExpenseBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file is faster to load than a json file, as amounts and dates are stored as numbers, and each distinct string
+ * is stored and validated once. It holds, in order:
+ * <ol>
+ *     <li>a header: the bytes of {@code MAGIC}, then the format version;</li>
+ *     <li>a string dictionary of the descriptions and remarks, and a tag table of the tag names;</li>
+ *     <li>the categories, as indices into the tag table;</li>
+ *     <li>the budgets: the default budget in cents, then each category budget as a tag index and an amount in
+ *     cents;</li>
+ *     <li>the expense count, followed by one column per field: description indices, amounts in cents, dates as the
+ *     difference in days from the previous expense's date, remark indices and tag indices;</li>
+ *     <li>the CRC32 of everything before it, as a 4-byte int.</li>
+ * </ol>
+ * All other numbers are variable-length integers, 7 bits per byte, with signed numbers zigzag-encoded.
+ * Strings are stored as their UTF-8 byte count followed by the bytes.
+ * <p>
+ * The file is read through a memory mapping, and the expenses are decoded straight from the mapped columns without
+ * being copied through a stream first. Opening the file is a single pass over all of it, which checks the checksum
+ * and skips over each column to find where the next one starts, so it takes time linear in the size of the file, but
+ * creates no object per expense. The expenses are then decoded in order as they are first read from the expense book
+ * returned, which {@code MainApp} does in batches on its loading thread.
+ */
+public class BinaryExpenseBookStorage implements ExpenseBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int FORMAT_VERSION = 1;
+
+    static final byte[] MAGIC = "EXPB".getBytes(StandardCharsets.US_ASCII);
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryExpenseBookStorage.class);
+    // a file that is mapped cannot be replaced on Windows until the mapping is garbage collected
+    private static final boolean CAN_MAP_FILES = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private Path filePath;
+
+    public BinaryExpenseBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getExpenseBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is meant to be in the binary format, going by its extension.
+     */
+    public static boolean isBinaryFilePath(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyExpenseBook> readExpenseBook() throws DataConversionException {
+        return readExpenseBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readExpenseBook()}.
+     * The whole file is checksummed and the expense columns are found here, but only the categories and budgets are
+     * decoded. The expenses are decoded in order as they are first read from the returned expense book, and reading
+     * one throws an {@link UncheckedDataConversionException} if it is not valid.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file, and each of its backups, is not in the correct format.
+     */
+    public Optional<ReadOnlyExpenseBook> readExpenseBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return FileUtil.readWithBackupFallback(filePath, FileUtil.DEFAULT_BACKUP_COUNT, this::readExpenseBookFile);
+    }
+
+    /**
+     * Returns the expense book in the file at {@code filePath}, without falling back to its backups.
+     */
+    private Optional<ReadOnlyExpenseBook> readExpenseBookFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        long startTime = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ReadOnlyExpenseBook expenseBook = new BinaryExpenseBookReader(readFully(channel)).open();
+            logger.info(String.format("Opened %d expenses from %s in %d ms", expenseBook.getExpenseList().size(),
+                    filePath, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+            return Optional.of(expenseBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the content of {@code channel}, mapped into memory if the platform allows it.
+     */
+    private static ByteBuffer readFully(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Binary file is too large: " + size + " bytes");
+        }
+        if (CAN_MAP_FILES) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // reads until the buffer is full or the file ends
+        }
+        return buffer.flip();
+    }
+
+    @Override
+    public void saveExpenseBook(ReadOnlyExpenseBook expenseBook) throws IOException {
+        saveExpenseBook(expenseBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveExpenseBook(ReadOnlyExpenseBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveExpenseBook(ReadOnlyExpenseBook expenseBook, Path filePath) throws IOException {
+        requireNonNull(expenseBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> new BinaryExpenseBookWriter().write(expenseBook, out),
+                FileUtil.DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Converts the json expense book at {@code jsonFilePath} into a binary expense book at {@code binaryFilePath}.
+     *
+     * @return false if there is no file at {@code jsonFilePath}.
+     * @throws DataConversionException if the json file is not in the correct format.
+     */
+    public static boolean convertFromJson(Path jsonFilePath, Path binaryFilePath) throws DataConversionException,
+            IOException {
+        Optional<ReadOnlyExpenseBook> expenseBook = new JsonExpenseBookStorage(jsonFilePath).readExpenseBook();
+        if (expenseBook.isEmpty()) {
+            return false;
+        }
+        new BinaryExpenseBookStorage(binaryFilePath).saveExpenseBook(expenseBook.get());
+        return true;
+    }
+
+    /**
+     * Converts the binary expense book at {@code binaryFilePath} into a json expense book at {@code jsonFilePath}.
+     *
+     * @param isPrettyPrinted whether the json file is indented.
+     * @return false if there is no file at {@code binaryFilePath}.
+     * @throws DataConversionException if the binary file is not in the correct format.
+     */
+    public static boolean convertToJson(Path binaryFilePath, Path jsonFilePath, boolean isPrettyPrinted)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyExpenseBook> expenseBook = new BinaryExpenseBookStorage(binaryFilePath).readExpenseBook();
+        if (expenseBook.isEmpty()) {
+            return false;
+        }
+        try {
+            new JsonExpenseBookStorage(jsonFilePath, isPrettyPrinted).saveExpenseBook(expenseBook.get());
+        } catch (UncheckedDataConversionException e) {
+            throw e.getCause();
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,147 @@
+package seedu.expense.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expense.storage.BinaryExpenseBookStorage.FORMAT_VERSION;
+import static seedu.expense.storage.BinaryExpenseBookStorage.MAGIC;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.expense.model.ReadOnlyExpenseBook;
+import seedu.expense.model.budget.CategoryBudget;
+import seedu.expense.model.budget.UniqueCategoryBudgetList;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Writes an expense book in the format described in {@link BinaryExpenseBookStorage}.
+ * A writer builds its dictionaries for a single expense book, so a new writer is needed for each one.
+ */
+class BinaryExpenseBookWriter {
+
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIndices = new HashMap<>();
+    private final List<Tag> tags = new ArrayList<>();
+    private final Map<Tag, Integer> tagIndices = new HashMap<>();
+
+    /**
+     * Writes {@code expenseBook} to {@code out}, which is left open.
+     */
+    public void write(ReadOnlyExpenseBook expenseBook, OutputStream out) throws IOException {
+        requireNonNull(expenseBook);
+        List<Expense> expenses = expenseBook.getExpenseList();
+        UniqueCategoryBudgetList budgets = expenseBook.getBudgets();
+
+        // the dictionaries are collected first, as they are written before the columns that refer to them
+        for (Expense expense : expenses) {
+            indexOfString(expense.getDescription().fullDescription);
+            indexOfString(expense.getRemark().value);
+            indexOfTag(expense.getTag());
+        }
+        expenseBook.getTags().forEach(this::indexOfTag);
+        budgets.getCategoryBudgets().forEach(categoryBudget -> indexOfTag(categoryBudget.getTag()));
+
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(out, checksum)));
+        data.write(MAGIC);
+        writeVarInt(data, FORMAT_VERSION);
+
+        writeVarInt(data, strings.size());
+        for (String string : strings) {
+            writeString(data, string);
+        }
+        writeVarInt(data, tags.size());
+        for (Tag tag : tags) {
+            writeString(data, tag.tagName);
+        }
+
+        writeVarInt(data, expenseBook.getTags().size());
+        for (Tag category : expenseBook.getTags()) {
+            writeVarInt(data, indexOfTag(category));
+        }
+
+        writeSignedVarLong(data, budgets.getDefaultCategory().getAmount().getCents());
+        writeVarInt(data, budgets.getCategoryBudgets().size());
+        for (CategoryBudget categoryBudget : budgets.getCategoryBudgets()) {
+            writeVarInt(data, indexOfTag(categoryBudget.getTag()));
+            writeSignedVarLong(data, categoryBudget.getAmount().getCents());
+        }
+
+        writeVarInt(data, expenses.size());
+        for (Expense expense : expenses) {
+            writeVarInt(data, indexOfString(expense.getDescription().fullDescription));
+        }
+        for (Expense expense : expenses) {
+            writeSignedVarLong(data, expense.getAmount().getCents());
+        }
+        long previousEpochDay = 0;
+        for (Expense expense : expenses) {
+            long epochDay = expense.getDate().value.toEpochDay();
+            writeSignedVarLong(data, epochDay - previousEpochDay);
+            previousEpochDay = epochDay;
+        }
+        for (Expense expense : expenses) {
+            writeVarInt(data, indexOfString(expense.getRemark().value));
+        }
+        for (Expense expense : expenses) {
+            writeVarInt(data, indexOfTag(expense.getTag()));
+        }
+
+        data.flush();
+        // the checksum is not part of what it checks, so it is written past the checked stream
+        new DataOutputStream(out).writeInt((int) checksum.getValue());
+        out.flush();
+    }
+
+    private int indexOfString(String string) {
+        return stringIndices.computeIfAbsent(string, unused -> {
+            strings.add(string);
+            return strings.size() - 1;
+        });
+    }
+
+    private int indexOfTag(Tag tag) {
+        return tagIndices.computeIfAbsent(tag, unused -> {
+            tags.add(tag);
+            return tags.size() - 1;
+        });
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(data, bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Writes a non-negative {@code value} in as few bytes as needed, 7 bits at a time, lowest bits first.
+     */
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        assert value >= 0;
+        writeVarLong(data, value);
+    }
+
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            data.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    /**
+     * Writes {@code value} zigzag-encoded, so that small negative values also take few bytes.
+     */
+    private static void writeSignedVarLong(DataOutputStream data, long value) throws IOException {
+        writeVarLong(data, (value << 1) ^ (value >> 63));
+    }
+}
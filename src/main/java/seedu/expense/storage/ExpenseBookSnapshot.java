@@ -0,0 +1,66 @@
+package seedu.expense.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.expense.model.ReadOnlyExpenseBook;
+import seedu.expense.model.budget.CategoryBudget;
+import seedu.expense.model.budget.UniqueCategoryBudgetList;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * An immutable copy of a {@code ReadOnlyExpenseBook}, which can be saved while the original is being changed.
+ * Expenses and tags are immutable, so only the lists holding them are copied. Category-budgets are mutable, so they
+ * are copied too.
+ */
+class ExpenseBookSnapshot implements ReadOnlyExpenseBook {
+
+    private final ObservableList<Expense> expenses;
+    private final ObservableList<Tag> tags;
+    private final UniqueCategoryBudgetList budgets = new UniqueCategoryBudgetList();
+    private final long modificationCount;
+
+    /**
+     * Creates a snapshot of the current state of {@code source}.
+     */
+    public ExpenseBookSnapshot(ReadOnlyExpenseBook source) {
+        requireNonNull(source);
+        expenses = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getExpenseList()));
+        tags = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getTags()));
+        budgets.topupBudget(source.getBudgets().getDefaultCategory().getAmount());
+        for (CategoryBudget categoryBudget : source.getBudgets().getCategoryBudgets()) {
+            CategoryBudget copy = new CategoryBudget(categoryBudget.getTag());
+            copy.copyAmount(categoryBudget.getAmount());
+            budgets.add(copy);
+        }
+        modificationCount = source.getModificationCount();
+    }
+
+    @Override
+    public ObservableList<Expense> getExpenseList() {
+        return expenses;
+    }
+
+    @Override
+    public ObservableList<CategoryBudget> getBudgetList() {
+        return budgets.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public UniqueCategoryBudgetList getBudgets() {
+        return budgets;
+    }
+
+    @Override
+    public ObservableList<Tag> getTags() {
+        return tags;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+}
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.expense.commons.exceptions.DataConversionException;
+import seedu.expense.commons.exceptions.UncheckedDataConversionException;
 import seedu.expense.model.ExpenseBook;
 import seedu.expense.model.ReadOnlyExpenseBook;
 
@@ -21,6 +22,8 @@ public interface ExpenseBookStorage {
     /**
      * Returns ExpenseBook data as a {@link ReadOnlyExpenseBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
+     * The expenses may be converted as they are read from the returned expense book, in which case reading an expense
+     * that is not in the expected format throws an {@link UncheckedDataConversionException}.
      *
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException             if there was any problem when reading from the storage.
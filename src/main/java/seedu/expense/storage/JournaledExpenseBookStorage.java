@@ -0,0 +1,283 @@
+package seedu.expense.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.expense.commons.core.LogsCenter;
+import seedu.expense.commons.exceptions.DataConversionException;
+import seedu.expense.commons.exceptions.IllegalValueException;
+import seedu.expense.commons.util.FileUtil;
+import seedu.expense.commons.util.JsonUtil;
+import seedu.expense.model.ExpenseBook;
+import seedu.expense.model.ReadOnlyExpenseBook;
+import seedu.expense.model.expense.Expense;
+
+/**
+ * A class to access ExpenseBook data stored as a json snapshot and an append-only journal on the hard disk.
+ * <p>
+ * The snapshot is in the same format as the file of a {@link JsonExpenseBookStorage}. Instead of rewriting the
+ * snapshot on every save, the difference from the last saved expense book is appended to the journal as a single
+ * line, and nothing is written if nothing changed. The journal is folded into a new snapshot every
+ * {@code SNAPSHOT_INTERVAL} entries, or when a change touches too many expenses (e.g. sorting the expenses).
+ * Reading the expense book replays the journal over the snapshot.
+ * <p>
+ * Snapshots replace the previous snapshot atomically. The first entry of a journal records the checksum of the snapshot
+ * it follows, so that a journal left behind by a snapshot that was replaced just before the app stopped is ignored.
+ */
+public class JournaledExpenseBookStorage implements ExpenseBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final int SNAPSHOT_INTERVAL = 100;
+    public static final int MAX_JOURNALED_EXPENSES = 32;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledExpenseBookStorage.class);
+
+    private Path filePath;
+    private final JsonExpenseBookWriter snapshotWriter;
+
+    // the expense book as it was last read or saved, which the next journal entry is relative to
+    private Path persistedFilePath;
+    private List<Expense> persistedExpenses;
+    private String persistedCategories;
+    private String persistedBudget;
+    private long snapshotChecksum;
+    private int journalEntryCount;
+    // set if the journal must not be appended to, e.g. if it ends with an incomplete entry
+    private boolean isJournalClosed;
+
+    public JournaledExpenseBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournaledExpenseBookStorage} for the snapshot at {@code filePath}, which is indented if
+     * {@code isPrettyPrinted}. Journal entries are never indented, as each has to fit on one line.
+     */
+    public JournaledExpenseBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        snapshotWriter = new JsonExpenseBookWriter(isPrettyPrinted);
+    }
+
+    public Path getExpenseBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyExpenseBook> readExpenseBook() throws DataConversionException, IOException {
+        return readExpenseBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readExpenseBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or its journal, and each backup of the snapshot, is not in the
+     *                                 correct format.
+     */
+    public Optional<ReadOnlyExpenseBook> readExpenseBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        return FileUtil.readWithBackupFallback(filePath, FileUtil.DEFAULT_BACKUP_COUNT, this::readExpenseBookFile);
+    }
+
+    /**
+     * Returns the expense book in the snapshot at {@code filePath}, without falling back to its backups.
+     */
+    private Optional<ReadOnlyExpenseBook> readExpenseBookFile(Path filePath) throws DataConversionException,
+            IOException {
+        persistedFilePath = null;
+        isJournalClosed = false;
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            JsonExpenseBookReader snapshot;
+            try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+                snapshot = new JsonExpenseBookReader(in);
+                // the checksum covers the whole file, including anything after the expense book
+                in.transferTo(OutputStream.nullOutputStream());
+                snapshotChecksum = in.getChecksum().getValue();
+            } catch (IOException e) {
+                logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+                throw new DataConversionException(e);
+            }
+
+            int entryCount = 0;
+            List<JsonAdaptedJournalEntry> entries = readJournal(getJournalFilePath(filePath));
+            if (!entries.isEmpty() && !entries.get(0).followsSnapshot(snapshotChecksum)) {
+                logger.warning("Ignoring journal file that belongs to an older snapshot than " + filePath);
+                entries.clear();
+                isJournalClosed = true;
+            }
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyTo(snapshot.getExpenses());
+                if (entry.getCategories().isPresent()) {
+                    snapshot.setCategories(entry.getCategories().get());
+                }
+                entry.getBudget().ifPresent(snapshot::setBudget);
+                entryCount++;
+            }
+
+            ExpenseBook expenseBook = snapshot.toModelType();
+            setPersisted(expenseBook, filePath, isJournalClosed ? SNAPSHOT_INTERVAL : entryCount);
+            return Optional.of(expenseBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the entries in the journal at {@code journalFilePath}, or no entries if there is no journal.
+     * An unreadable last line is assumed to be an entry that was being appended when the app stopped, and is ignored.
+     */
+    private List<JsonAdaptedJournalEntry> readJournal(Path journalFilePath) throws DataConversionException,
+            IOException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!Files.exists(journalFilePath)) {
+            return entries;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isEmpty()) {
+                continue;
+            }
+            try {
+                entries.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Ignoring incomplete last entry of journal file " + journalFilePath);
+                isJournalClosed = true;
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public void saveExpenseBook(ReadOnlyExpenseBook expenseBook) throws IOException {
+        saveExpenseBook(expenseBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveExpenseBook(ReadOnlyExpenseBook)}.
+     * Appends the changes since the last save to the journal, or writes a new snapshot if needed.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveExpenseBook(ReadOnlyExpenseBook expenseBook, Path filePath) throws IOException {
+        requireNonNull(expenseBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(persistedFilePath) || journalEntryCount >= SNAPSHOT_INTERVAL) {
+            saveSnapshot(expenseBook, filePath);
+            return;
+        }
+
+        List<Expense> expenses = expenseBook.getExpenseList();
+        int commonLength = Math.min(persistedExpenses.size(), expenses.size());
+        int prefixLength = 0;
+        while (prefixLength < commonLength
+                && isUnchanged(persistedExpenses.get(prefixLength), expenses.get(prefixLength))) {
+            prefixLength++;
+        }
+        int suffixLength = 0;
+        while (suffixLength < commonLength - prefixLength
+                && isUnchanged(persistedExpenses.get(persistedExpenses.size() - 1 - suffixLength),
+                        expenses.get(expenses.size() - 1 - suffixLength))) {
+            suffixLength++;
+        }
+        int removeCount = persistedExpenses.size() - prefixLength - suffixLength;
+        List<Expense> inserted = expenses.subList(prefixLength, expenses.size() - suffixLength);
+
+        String categories = JsonUtil.toCompactJsonString(toJsonAdaptedCategories(expenseBook));
+        String budget = JsonUtil.toCompactJsonString(new JsonAdaptedBudgetList(expenseBook.getBudgets()));
+        boolean isCategoriesChanged = !categories.equals(persistedCategories);
+        boolean isBudgetChanged = !budget.equals(persistedBudget);
+
+        if (removeCount == 0 && inserted.isEmpty() && !isCategoriesChanged && !isBudgetChanged) {
+            logger.fine("No changes to write to data file: " + filePath);
+            return;
+        }
+        if (removeCount + inserted.size() > MAX_JOURNALED_EXPENSES) {
+            saveSnapshot(expenseBook, filePath);
+            return;
+        }
+
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(
+                journalEntryCount == 0 ? snapshotChecksum : null, prefixLength, removeCount,
+                inserted.stream().map(JsonAdaptedExpense::new).collect(Collectors.toList()),
+                isCategoriesChanged ? toJsonAdaptedCategories(expenseBook) : null,
+                isBudgetChanged ? new JsonAdaptedBudgetList(expenseBook.getBudgets()) : null);
+        try {
+            FileUtil.appendToFile(getJournalFilePath(filePath), JsonUtil.toCompactJsonString(entry) + "\n");
+        } catch (IOException ioe) {
+            // the entry might have been partly written, so the next save has to write a new snapshot
+            persistedFilePath = null;
+            throw ioe;
+        }
+        setPersisted(expenseBook, filePath, journalEntryCount + 1);
+    }
+
+    /**
+     * Writes {@code expenseBook} as a new snapshot at {@code filePath} and clears its journal.
+     */
+    private void saveSnapshot(ReadOnlyExpenseBook expenseBook, Path filePath) throws IOException {
+        persistedFilePath = null;
+        CRC32 checksum = new CRC32();
+        FileUtil.writeToFileAtomically(filePath, out -> snapshotWriter.write(expenseBook,
+                new CheckedOutputStream(out, checksum)), FileUtil.DEFAULT_BACKUP_COUNT);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        snapshotChecksum = checksum.getValue();
+        setPersisted(expenseBook, filePath, 0);
+    }
+
+    private void setPersisted(ReadOnlyExpenseBook expenseBook, Path filePath, int journalEntryCount)
+            throws IOException {
+        persistedExpenses = new ArrayList<>(expenseBook.getExpenseList());
+        persistedCategories = JsonUtil.toCompactJsonString(toJsonAdaptedCategories(expenseBook));
+        persistedBudget = JsonUtil.toCompactJsonString(new JsonAdaptedBudgetList(expenseBook.getBudgets()));
+        persistedFilePath = filePath;
+        this.journalEntryCount = journalEntryCount;
+    }
+
+    private static List<JsonAdaptedTag> toJsonAdaptedCategories(ReadOnlyExpenseBook expenseBook) {
+        return expenseBook.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code saved} and {@code current} have the same fields, including the non-identity ones.
+     */
+    private static boolean isUnchanged(Expense saved, Expense current) {
+        return saved == current
+                || (saved.equals(current)
+                && saved.getRemark().equals(current.getRemark())
+                && saved.getTag().equals(current.getTag()));
+    }
+
+}
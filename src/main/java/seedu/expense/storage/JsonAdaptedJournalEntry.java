@@ -0,0 +1,89 @@
+package seedu.expense.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.expense.commons.exceptions.IllegalValueException;
+import seedu.expense.model.expense.Expense;
+
+/**
+ * Jackson-friendly version of one change to an expense book, as recorded in the journal of a
+ * {@link JournaledExpenseBookStorage}.
+ * The expenses in the range [{@code from}, {@code from + removeCount}) are replaced with {@code expenses}.
+ * Categories and budgets are only recorded if they were changed, in full, as they are small.
+ * The first entry of a journal also records the checksum of the snapshot that the journal follows.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry replaces expenses %d to %d of an expense book"
+            + " with %d expenses.";
+
+    private final Long snapshotChecksum;
+    private final int from;
+    private final int removeCount;
+    private final List<JsonAdaptedExpense> expenses = new ArrayList<>();
+    private final List<JsonAdaptedTag> categories;
+    private final JsonAdaptedBudgetList budget;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change.
+     * {@code categories} and {@code budget} are null if they were not changed, and {@code snapshotChecksum} is null
+     * if this is not the first entry of the journal.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("snapshotChecksum") Long snapshotChecksum,
+                                   @JsonProperty("from") int from, @JsonProperty("removeCount") int removeCount,
+                                   @JsonProperty("expenses") List<JsonAdaptedExpense> expenses,
+                                   @JsonProperty("categories") List<JsonAdaptedTag> categories,
+                                   @JsonProperty("budget") JsonAdaptedBudgetList budget) {
+        this.snapshotChecksum = snapshotChecksum;
+        this.from = from;
+        this.removeCount = removeCount;
+        if (expenses != null) {
+            this.expenses.addAll(expenses);
+        }
+        this.categories = categories;
+        this.budget = budget;
+    }
+
+    /**
+     * Replaces the expenses recorded in this entry in {@code expenseList}.
+     *
+     * @throws IllegalValueException if the replaced range is not within {@code expenseList}, or there were any data
+     *                               constraints violated in the recorded expenses.
+     */
+    public void applyTo(List<Expense> expenseList) throws IllegalValueException {
+        if (from < 0 || removeCount < 0 || from > expenseList.size() - removeCount) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, from, from + removeCount,
+                    expenseList.size()));
+        }
+        List<Expense> insertedExpenses = new ArrayList<>();
+        for (JsonAdaptedExpense jsonAdaptedExpense : expenses) {
+            insertedExpenses.add(jsonAdaptedExpense.toModelType());
+        }
+        List<Expense> replaced = expenseList.subList(from, from + removeCount);
+        replaced.clear();
+        replaced.addAll(insertedExpenses);
+    }
+
+    /**
+     * Returns false if this entry records that it follows a snapshot with a different checksum.
+     */
+    public boolean followsSnapshot(long checksum) {
+        return snapshotChecksum == null || snapshotChecksum == checksum;
+    }
+
+    public Optional<List<JsonAdaptedTag>> getCategories() {
+        return Optional.ofNullable(categories);
+    }
+
+    public Optional<JsonAdaptedBudgetList> getBudget() {
+        return Optional.ofNullable(budget);
+    }
+}
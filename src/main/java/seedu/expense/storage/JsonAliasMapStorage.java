@@ -39,11 +39,17 @@ public class JsonAliasMapStorage {
      * Read and create an Optional of AliasMap from JSON at specified filepath.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if the file, and each of its backups, is not in the correct format.
      */
     public Optional<AliasMap> readAliasMap(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
+        return FileUtil.readWithBackupFallback(filePath, FileUtil.DEFAULT_BACKUP_COUNT, this::readAliasMapFile);
+    }
 
+    /**
+     * Returns the alias map in the file at {@code filePath}, without falling back to its backups.
+     */
+    private Optional<AliasMap> readAliasMapFile(Path filePath) throws DataConversionException {
         Optional<JsonSerializableAliasMap> jsonAliasMap = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAliasMap.class);
         if (!jsonAliasMap.isPresent()) {
@@ -71,8 +77,8 @@ public class JsonAliasMapStorage {
         requireNonNull(aliasMap);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAliasMap(aliasMap), filePath);
+        JsonUtil.saveJsonFileAtomically(new JsonSerializableAliasMap(aliasMap), filePath,
+                FileUtil.DEFAULT_BACKUP_COUNT);
     }
 
 }
@@ -0,0 +1,146 @@
+package seedu.expense.storage;
+
+import static seedu.expense.storage.JsonSerializableExpenseBook.MESSAGE_DUPLICATE_CATEGORY;
+import static seedu.expense.storage.JsonSerializableExpenseBook.MESSAGE_DUPLICATE_EXPENSE;
+import static seedu.expense.storage.JsonSerializableExpenseBook.MESSAGE_INVALID_CATEGORY;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.expense.commons.exceptions.IllegalValueException;
+import seedu.expense.commons.util.JsonUtil;
+import seedu.expense.model.ExpenseBook;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.expense.exceptions.DuplicateExpenseException;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Reads an expense book in the format of {@link JsonSerializableExpenseBook} one expense at a time.
+ * Each expense is converted into the model's {@code Expense} as soon as it is read, so that the whole file and its
+ * Jackson-friendly expenses are never held in memory at the same time.
+ */
+class JsonExpenseBookReader {
+
+    private final List<Expense> expenses = new ArrayList<>();
+    private final List<Tag> categories = new ArrayList<>();
+    private JsonAdaptedBudgetList budget;
+
+    /**
+     * Reads the expense book from {@code in}, which is left open.
+     *
+     * @throws IOException           if {@code in} could not be read, or does not contain a JSON object.
+     * @throws IllegalValueException if there were any data constraints violated in the expenses or categories.
+     */
+    public JsonExpenseBookReader(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expense book should be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (fieldName) {
+                case "expenses":
+                    readExpenses(parser, value);
+                    break;
+                case "budget":
+                case "budgets": // the name saved files use, as it is the name of the field
+                    budget = parser.readValueAs(JsonAdaptedBudgetList.class);
+                    break;
+                case "categories":
+                    readCategories(parser, value);
+                    break;
+                default:
+                    // unknown fields are ignored, as with JsonUtil#readJsonFile
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private void readExpenses(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (value != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expenses should be a JSON array");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expenses.add(parser.readValueAs(JsonAdaptedExpense.class).toModelType());
+        }
+    }
+
+    private void readCategories(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (value != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Categories should be a JSON array");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            addCategory(parser.readValueAs(JsonAdaptedTag.class));
+        }
+    }
+
+    private void addCategory(JsonAdaptedTag jsonAdaptedTag) throws IllegalValueException {
+        Tag category = jsonAdaptedTag.toModelType();
+        if (category.equals(ExpenseBook.DEFAULT_TAG) || categories.contains(category)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CATEGORY);
+        }
+        categories.add(category);
+    }
+
+    /**
+     * Returns the expenses read, which can be changed before they are converted with {@link #toModelType()}.
+     */
+    public List<Expense> getExpenses() {
+        return expenses;
+    }
+
+    /**
+     * Replaces the categories read with {@code categories}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the categories.
+     */
+    public void setCategories(List<JsonAdaptedTag> categories) throws IllegalValueException {
+        this.categories.clear();
+        for (JsonAdaptedTag jsonAdaptedTag : categories) {
+            addCategory(jsonAdaptedTag);
+        }
+    }
+
+    public void setBudget(JsonAdaptedBudgetList budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Converts the expense book read into the model's {@code ExpenseBook} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ExpenseBook toModelType() throws IllegalValueException {
+        ExpenseBook expenseBook = new ExpenseBook();
+        categories.forEach(expenseBook::addCategory);
+
+        for (Expense expense : expenses) {
+            if (!expenseBook.containsCategory(expense.getTag())) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_CATEGORY, expense.getTag()));
+            }
+        }
+        try {
+            expenseBook.setExpenses(expenses);
+        } catch (DuplicateExpenseException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EXPENSE);
+        }
+
+        expenseBook.setBudgets(budget.toModelType());
+        return expenseBook;
+    }
+}
@@ -3,15 +3,18 @@ package seedu.expense.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import seedu.expense.commons.core.LogsCenter;
 import seedu.expense.commons.exceptions.DataConversionException;
 import seedu.expense.commons.exceptions.IllegalValueException;
 import seedu.expense.commons.util.FileUtil;
-import seedu.expense.commons.util.JsonUtil;
+import seedu.expense.model.ExpenseBook;
 import seedu.expense.model.ReadOnlyExpenseBook;
 
 /**
@@ -22,9 +25,19 @@ public class JsonExpenseBookStorage implements ExpenseBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonExpenseBookStorage.class);
 
     private Path filePath;
+    private final JsonExpenseBookWriter writer;
 
     public JsonExpenseBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonExpenseBookStorage} for the file at {@code filePath}, which is indented if
+     * {@code isPrettyPrinted}.
+     */
+    public JsonExpenseBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        writer = new JsonExpenseBookWriter(isPrettyPrinted);
     }
 
     public Path getExpenseBookFilePath() {
@@ -40,19 +53,31 @@ public class JsonExpenseBookStorage implements ExpenseBookStorage {
      * Similar to {@link #readExpenseBook()}.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if the file, and each of its backups, is not in the correct format.
      */
     public Optional<ReadOnlyExpenseBook> readExpenseBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
+        return FileUtil.readWithBackupFallback(filePath, FileUtil.DEFAULT_BACKUP_COUNT, this::readExpenseBookFile);
+    }
 
-        Optional<JsonSerializableExpenseBook> jsonExpenseBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableExpenseBook.class);
-        if (!jsonExpenseBook.isPresent()) {
+    /**
+     * Returns the expense book in the file at {@code filePath}, without falling back to its backups.
+     */
+    private Optional<ReadOnlyExpenseBook> readExpenseBookFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonExpenseBook.get().toModelType());
+        long startTime = System.nanoTime();
+        try (InputStream in = Files.newInputStream(filePath)) {
+            ExpenseBook expenseBook = new JsonExpenseBookReader(in).toModelType();
+            logger.info(String.format("Loaded %d expenses from %s in %d ms", expenseBook.getExpenseList().size(),
+                    filePath, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+            return Optional.of(expenseBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +98,7 @@ public class JsonExpenseBookStorage implements ExpenseBookStorage {
         requireNonNull(expenseBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableExpenseBook(expenseBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> writer.write(expenseBook, out), FileUtil.DEFAULT_BACKUP_COUNT);
     }
 
 }
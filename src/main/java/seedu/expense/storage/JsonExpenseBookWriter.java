@@ -0,0 +1,57 @@
+package seedu.expense.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.expense.commons.util.JsonUtil;
+import seedu.expense.model.ReadOnlyExpenseBook;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Writes an expense book in the format of {@link JsonSerializableExpenseBook} one expense at a time.
+ * Each expense is converted into its Jackson-friendly version just before it is written, so that the memory used does
+ * not grow with the size of the expense book.
+ */
+class JsonExpenseBookWriter {
+
+    private final boolean isPrettyPrinted;
+
+    /**
+     * Creates a {@code JsonExpenseBookWriter} that indents its output if {@code isPrettyPrinted}.
+     */
+    public JsonExpenseBookWriter(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Writes {@code expenseBook} to {@code out}, which is left open.
+     */
+    public void write(ReadOnlyExpenseBook expenseBook, OutputStream out) throws IOException {
+        requireNonNull(expenseBook);
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("expenses");
+            for (Expense expense : expenseBook.getExpenseList()) {
+                generator.writeObject(new JsonAdaptedExpense(expense));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("categories");
+            for (Tag category : expenseBook.getTags()) {
+                generator.writeObject(new JsonAdaptedTag(category));
+            }
+            generator.writeEndArray();
+
+            generator.writeFieldName("budgets");
+            generator.writeObject(new JsonAdaptedBudgetList(expenseBook.getBudgets()));
+
+            generator.writeEndObject();
+        }
+    }
+}
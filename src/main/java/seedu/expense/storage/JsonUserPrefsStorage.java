@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.expense.commons.exceptions.DataConversionException;
+import seedu.expense.commons.util.FileUtil;
 import seedu.expense.commons.util.JsonUtil;
 import seedu.expense.model.ReadOnlyUserPrefs;
 import seedu.expense.model.UserPrefs;
@@ -34,15 +35,16 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
      * Similar to {@link #readUserPrefs()}
      *
      * @param prefsFilePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file format is not as expected.
+     * @throws DataConversionException if the file format, and that of each of its backups, is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        return FileUtil.readWithBackupFallback(prefsFilePath, FileUtil.DEFAULT_BACKUP_COUNT,
+            file -> JsonUtil.readJsonFile(file, UserPrefs.class));
     }
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFileAtomically(userPrefs, filePath, FileUtil.DEFAULT_BACKUP_COUNT);
     }
 
 }
@@ -39,4 +39,16 @@ public interface Storage extends ExpenseBookStorage, UserPrefsStorage {
     void saveAliasMap(AliasMap aliasMap) throws IOException;
 
     void saveAliasMap(AliasMap aliasMap, Path filePath) throws IOException;
+
+    /**
+     * Blocks until all saves so far are written.
+     *
+     * @throws IOException if a save failed after its save method had returned.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Throws the failure of a save that failed after its save method had returned, if it has not been thrown before.
+     */
+    void checkSaveFailure() throws IOException;
 }
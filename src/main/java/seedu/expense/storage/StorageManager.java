@@ -109,4 +109,20 @@ public class StorageManager implements Storage {
         aliasMapStorage.saveAliasMap(aliasMap, filePath);
     }
 
+    // ================ Background writing methods ==============================
+
+    /**
+     * Does nothing, as all saves are written before the save methods return.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Does nothing, as failed saves are thrown by the save methods.
+     */
+    @Override
+    public void checkSaveFailure() {
+    }
+
 }
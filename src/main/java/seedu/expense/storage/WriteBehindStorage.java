@@ -0,0 +1,236 @@
+package seedu.expense.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.expense.commons.core.LogsCenter;
+import seedu.expense.commons.exceptions.DataConversionException;
+import seedu.expense.model.ReadOnlyExpenseBook;
+import seedu.expense.model.ReadOnlyUserPrefs;
+import seedu.expense.model.UserPrefs;
+import seedu.expense.model.alias.AliasMap;
+
+/**
+ * A {@code Storage} that saves the expense book and alias map in the background, so that a slow disk does not hold up
+ * the caller.
+ * <p>
+ * Each save takes a snapshot of the data and hands it to a dedicated writer thread. Saves to a file that is still
+ * waiting to be written replace the waiting snapshot, so a burst of saves results in a single write of the latest
+ * data. A failed write is kept and thrown by the next call to {@link #checkSaveFailure()} or {@link #flush()}.
+ * User prefs are rarely saved, and are saved synchronously.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final Executor writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // snapshots waiting to be written, by the file they are to be written to
+    private final Map<Path, ReadOnlyExpenseBook> pendingExpenseBooks = new LinkedHashMap<>();
+    private final Map<Path, AliasMap> pendingAliasMaps = new LinkedHashMap<>();
+    private boolean isWriting;
+    private IOException saveFailure;
+    private long coalescedSaveCount;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes with the given {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ ExpenseBook methods ==============================
+
+    @Override
+    public Path getExpenseBookFilePath() {
+        return storage.getExpenseBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyExpenseBook> readExpenseBook() throws DataConversionException, IOException {
+        return readExpenseBook(storage.getExpenseBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyExpenseBook> readExpenseBook(Path filePath) throws DataConversionException, IOException {
+        awaitPendingWrites();
+        return storage.readExpenseBook(filePath);
+    }
+
+    @Override
+    public void saveExpenseBook(ReadOnlyExpenseBook expenseBook) throws IOException {
+        saveExpenseBook(expenseBook, storage.getExpenseBookFilePath());
+    }
+
+    @Override
+    public void saveExpenseBook(ReadOnlyExpenseBook expenseBook, Path filePath) {
+        requireNonNull(filePath);
+        ReadOnlyExpenseBook snapshot = new ExpenseBookSnapshot(expenseBook);
+        synchronized (this) {
+            if (pendingExpenseBooks.put(filePath, snapshot) != null) {
+                coalescedSaveCount++;
+            }
+            scheduleWrite();
+        }
+    }
+
+    // ================ AliasMap methods ==============================
+
+    @Override
+    public Path getAliasMapFilePath() {
+        return storage.getAliasMapFilePath();
+    }
+
+    @Override
+    public Optional<AliasMap> readAliasMap() throws DataConversionException, IOException {
+        return readAliasMap(storage.getAliasMapFilePath());
+    }
+
+    @Override
+    public Optional<AliasMap> readAliasMap(Path filePath) throws DataConversionException, IOException {
+        awaitPendingWrites();
+        return storage.readAliasMap(filePath);
+    }
+
+    @Override
+    public void saveAliasMap(AliasMap aliasMap) throws IOException {
+        saveAliasMap(aliasMap, storage.getAliasMapFilePath());
+    }
+
+    @Override
+    public void saveAliasMap(AliasMap aliasMap, Path filePath) {
+        requireNonNull(filePath);
+        AliasMap snapshot = new AliasMap(aliasMap);
+        synchronized (this) {
+            if (pendingAliasMaps.put(filePath, snapshot) != null) {
+                coalescedSaveCount++;
+            }
+            scheduleWrite();
+        }
+    }
+
+    // ================ Background writing methods ==============================
+
+    /**
+     * Blocks until all saves so far are written.
+     *
+     * @throws IOException if a save failed, and the failure has not been thrown before.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitPendingWrites();
+        checkSaveFailure();
+    }
+
+    @Override
+    public synchronized void checkSaveFailure() throws IOException {
+        if (saveFailure != null) {
+            IOException failure = saveFailure;
+            saveFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the number of saves that were replaced by a later save before they were written.
+     */
+    public synchronized long getCoalescedSaveCount() {
+        return coalescedSaveCount;
+    }
+
+    private synchronized void scheduleWrite() {
+        if (!isWriting) {
+            isWriting = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    private synchronized void awaitPendingWrites() throws IOException {
+        try {
+            while (isWriting) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        }
+    }
+
+    /**
+     * Writes the waiting snapshots until there are none left.
+     * Runs on the writer thread.
+     */
+    private void writePending() {
+        while (true) {
+            Map<Path, ReadOnlyExpenseBook> expenseBooks;
+            Map<Path, AliasMap> aliasMaps;
+            synchronized (this) {
+                if (pendingExpenseBooks.isEmpty() && pendingAliasMaps.isEmpty()) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                expenseBooks = new LinkedHashMap<>(pendingExpenseBooks);
+                aliasMaps = new LinkedHashMap<>(pendingAliasMaps);
+                pendingExpenseBooks.clear();
+                pendingAliasMaps.clear();
+            }
+
+            for (Map.Entry<Path, ReadOnlyExpenseBook> entry : expenseBooks.entrySet()) {
+                try {
+                    logger.fine("Attempting to write to data file in the background: " + entry.getKey());
+                    storage.saveExpenseBook(entry.getValue(), entry.getKey());
+                } catch (IOException | RuntimeException e) {
+                    recordFailure(e);
+                }
+            }
+            for (Map.Entry<Path, AliasMap> entry : aliasMaps.entrySet()) {
+                try {
+                    logger.fine("Attempting to write to data file in the background: " + entry.getKey());
+                    storage.saveAliasMap(entry.getValue(), entry.getKey());
+                } catch (IOException | RuntimeException e) {
+                    recordFailure(e);
+                }
+            }
+        }
+    }
+
+    private synchronized void recordFailure(Exception e) {
+        logger.warning("Failed to save data in the background: " + e);
+        if (saveFailure == null) {
+            saveFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+    }
+
+}
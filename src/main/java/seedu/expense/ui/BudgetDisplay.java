@@ -22,6 +22,7 @@ public class BudgetDisplay extends UiPart<Region> {
     private static final String FXML = "BudgetDisplay.fxml";
     private static final String BUDGET_BALANCE = "$%s / $%s";
     private static final String DEFAULT_HEADER_MESSAGE = "Total Budget Balance:";
+    private static final String LOADING_HEADER_MESSAGE = "Loading Budget Balance...";
     private static final String HEADER_MESSAGE_SUFFIX = " Budget Balance:";
     private static final String GREEN_BAR_STYLE_CLASS = "green-bar";
     private static final String ORANGE_BAR_STYLE_CLASS = "orange-bar";
@@ -139,6 +140,21 @@ public class BudgetDisplay extends UiPart<Region> {
 
     }
 
+    /**
+     * Shows that the expenses are still being loaded if {@code isLoading}, and the total budget balance otherwise.
+     */
+    public void setLoading(boolean isLoading) {
+        if (isLoading) {
+            budgetHeader.setText(LOADING_HEADER_MESSAGE);
+            return;
+        }
+
+        budgetHeader.setText(DEFAULT_HEADER_MESSAGE);
+        budgetDisplay.setText(budgetBalance());
+        progressBar.setProgress(getProgress());
+        setBarStyle();
+    }
+
     /**
      * Shows the budget display
      */
@@ -1,5 +1,9 @@
 package seedu.expense.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -9,6 +13,7 @@ import seedu.expense.model.expense.Expense;
 
 /**
  * An UI component that displays information of a {@code Expense}.
+ * The card can be given another expense to display, so that a list cell can keep one card as it is reused.
  */
 public class ExpenseCard extends UiPart<Region> {
 
@@ -22,7 +27,7 @@ public class ExpenseCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Expense expense;
+    private Expense expense;
 
     @FXML
     private GridPane cardPane;
@@ -39,18 +44,42 @@ public class ExpenseCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    private final Label tag = new Label();
+
+    /**
+     * Creates an empty {@code ExpenseCard}, which shows an expense once it is given one with
+     * {@link #setExpense(Expense, int)}.
+     */
+    public ExpenseCard() {
+        super(FXML);
+        tags.getChildren().add(tag);
+    }
+
     /**
      * Creates a {@code ExpenseCode} with the given {@code Expense} and index to display.
      */
     public ExpenseCard(Expense expense, int displayedIndex) {
-        super(FXML);
+        this();
+        setExpense(expense, displayedIndex);
+    }
+
+    /**
+     * Displays {@code expense} with {@code displayedIndex} on this card, in place of the expense it displayed before.
+     * The labels of the card are reused, so nothing is loaded or created.
+     */
+    public void setExpense(Expense expense, int displayedIndex) {
+        requireNonNull(expense);
         this.expense = expense;
         id.setText(displayedIndex + ". ");
         description.setText(expense.getDescription().fullDescription);
         amount.setText("$" + expense.getAmount().toString());
         date.setText(expense.getDate().toString());
         remark.setText(expense.getRemark().value);
-        tags.getChildren().add(new Label(expense.getTag().tagName));
+        tag.setText(expense.getTag().tagName);
+    }
+
+    public Expense getExpense() {
+        return expense;
     }
 
     @Override
@@ -68,6 +97,6 @@ public class ExpenseCard extends UiPart<Region> {
         // state check
         ExpenseCard card = (ExpenseCard) other;
         return id.getText().equals(card.id.getText())
-                && expense.equals(card.expense);
+                && Objects.equals(expense, card.expense);
     }
 }
@@ -22,17 +22,23 @@ public class ExpenseListPanel extends UiPart<Region> {
 
     /**
      * Creates a {@code ExpenseListPanel} with the given {@code ObservableList}.
+     * The list is shown through a {@code PagedExpenseList}, so only the expenses in view are read from it.
      */
     public ExpenseListPanel(ObservableList<Expense> expenseList) {
         super(FXML);
-        expenseListView.setItems(expenseList);
+        expenseListView.setItems(new PagedExpenseList(expenseList));
         expenseListView.setCellFactory(listView -> new ExpenseListViewCell());
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Expense} using a {@code ExpenseCard}.
+     * Each cell keeps a single card, which is given the cell's new expense whenever the cell is reused while the list
+     * scrolls, so the card's FXML is loaded once per cell rather than once per update.
      */
     class ExpenseListViewCell extends ListCell<Expense> {
+        // only created once the cell first shows an expense, as the cells below the end of the list stay empty
+        private ExpenseCard card;
+
         @Override
         protected void updateItem(Expense expense, boolean empty) {
             super.updateItem(expense, empty);
@@ -40,9 +46,13 @@ public class ExpenseListPanel extends UiPart<Region> {
             if (empty || expense == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new ExpenseCard(expense, getIndex() + 1).getRoot());
+                return;
+            }
+            if (card == null) {
+                card = new ExpenseCard();
             }
+            card.setExpense(expense, getIndex() + 1);
+            setGraphic(card.getRoot());
         }
     }
 
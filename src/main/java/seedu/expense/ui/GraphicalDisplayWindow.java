@@ -10,6 +10,7 @@ import seedu.expense.commons.core.LogsCenter;
 import seedu.expense.model.ChartDataCollector;
 import seedu.expense.model.PieChartData;
 import seedu.expense.model.ReadOnlyExpenseBook;
+import seedu.expense.model.Statistics;
 
 /**
  * Controller for graph page.
@@ -31,10 +32,11 @@ public class GraphicalDisplayWindow extends UiPart<Stage> {
      * Creates a new GraphDisplayWindow.
      *
      * @param expenseBook Data of expenses and tags used to initialise charts.
+     * @param statistics Statistics of the expense book used to initialise charts.
      */
-    public GraphicalDisplayWindow(ReadOnlyExpenseBook expenseBook) {
+    public GraphicalDisplayWindow(ReadOnlyExpenseBook expenseBook, Statistics statistics) {
         super(FXML, new Stage());
-        this.chartDataCollector = new PieChartData(expenseBook);
+        this.chartDataCollector = new PieChartData(expenseBook, statistics);
 
         this.pieChart.setTitle("Expenditure by Category");
         this.pieChart.setData(chartDataCollector.retrieveData());
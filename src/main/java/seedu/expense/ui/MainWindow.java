@@ -1,5 +1,7 @@
 package seedu.expense.ui;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -23,6 +25,9 @@ import seedu.expense.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_COMMAND_QUEUED = "Expenses are still loading. "
+            + "The command will be run once they are loaded: %1$s";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -36,6 +41,10 @@ public class MainWindow extends UiPart<Stage> {
     private BudgetDisplay budgetDisplay;
     private HelpWindow helpWindow;
     private GraphicalDisplayWindow graphWindow;
+    private ReportWindow reportWindow;
+
+    // commands entered while the expense book is loading, in the order they were entered
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -71,7 +80,8 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
-        graphWindow = new GraphicalDisplayWindow(logic.getExpenseBook());
+        graphWindow = new GraphicalDisplayWindow(logic.getExpenseBook(), logic.getStatistics());
+        reportWindow = new ReportWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -123,7 +133,8 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getExpenseBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getExpenseBookFilePath(),
+                logic.expenseBookLoadingProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -131,6 +142,31 @@ public class MainWindow extends UiPart<Stage> {
 
         budgetDisplay = new BudgetDisplay(logic.getStatistics());
         budgetDisplayPlaceholder.getChildren().add(budgetDisplay.getRoot());
+
+        budgetDisplay.setLoading(logic.expenseBookLoadingProperty().get());
+        logic.expenseBookLoadingProperty().addListener((observable, wasLoading, isLoading) -> {
+            budgetDisplay.setLoading(isLoading);
+            if (!isLoading) {
+                runQueuedCommands();
+            }
+        });
+    }
+
+    /**
+     * Runs the commands entered while the expense book was loading, in the order they were entered.
+     * The commands after an exit command are dropped.
+     */
+    private void runQueuedCommands() {
+        logger.info("Running " + queuedCommands.size() + " commands entered while loading");
+        while (!queuedCommands.isEmpty()) {
+            try {
+                if (executeCommand(queuedCommands.remove()).isExit()) {
+                    queuedCommands.clear();
+                }
+            } catch (CommandException | ParseException | RuntimeException e) {
+                // the error is already shown to the user, and does not stop the commands after it
+            }
+        }
     }
 
     /**
@@ -171,6 +207,7 @@ public class MainWindow extends UiPart<Stage> {
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
         graphWindow.hide();
+        reportWindow.hide();
         primaryStage.hide();
     }
 
@@ -191,10 +228,19 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Executes the command and returns the result.
+     * While the expense book is loading, the command is queued to be run once it is loaded instead.
      *
      * @see seedu.expense.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException, RuntimeException {
+        if (logic.expenseBookLoadingProperty().get()) {
+            queuedCommands.add(commandText);
+            String feedbackToUser = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            logger.info("Queued command: " + commandText);
+            resultDisplay.setFeedbackToUser(feedbackToUser);
+            return new CommandResult(feedbackToUser);
+        }
+
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -220,6 +266,8 @@ public class MainWindow extends UiPart<Stage> {
                 handleGraph();
             }
 
+            commandResult.getReport().ifPresent(reportWindow::show);
+
             return commandResult;
         } catch (CommandException | ParseException | RuntimeException e) {
             logger.info("Invalid command: " + commandText);
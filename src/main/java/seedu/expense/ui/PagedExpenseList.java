@@ -0,0 +1,127 @@
+package seedu.expense.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.expense.model.expense.Expense;
+
+/**
+ * A view of a list of expenses for the expense list panel, which only reads the rows that are shown.
+ * <p>
+ * Rows are fetched from the source list on demand, a page at a time, and the most recently used pages are kept. The
+ * source is only ever asked for its size and for the rows of the pages that are read, so a source that decodes or
+ * looks up its rows lazily only does so for the rows in view.
+ * <p>
+ * Small changes to the source are passed on as they are, so the list view keeps its scroll position. A change that
+ * touches more than {@code MAX_FORWARDED_ROWS} rows, such as a new filter or a sort, is passed on as a single change
+ * that replaces every row, without the rows being read, so that the list view only redraws the rows in view instead
+ * of going through every row that changed. The rows removed by such a change are reported as {@code null}.
+ */
+public class PagedExpenseList extends ObservableListBase<Expense> {
+
+    static final int PAGE_SIZE = 64;
+    static final int MAX_CACHED_PAGES = 8;
+    static final int MAX_FORWARDED_ROWS = 256;
+
+    private final ObservableList<? extends Expense> source;
+    // the cached pages by page number, from the least recently used
+    private final Map<Integer, List<Expense>> pages = new LinkedHashMap<>(MAX_CACHED_PAGES * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<Expense>> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+    private int size;
+
+    /**
+     * Creates a {@code PagedExpenseList} over {@code source}, which it stays in sync with.
+     */
+    public PagedExpenseList(ObservableList<? extends Expense> source) {
+        requireNonNull(source);
+        this.source = source;
+        size = source.size();
+        source.addListener(this::onSourceChanged);
+    }
+
+    @Override
+    public Expense get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int pageNumber = index / PAGE_SIZE;
+        List<Expense> page = pages.get(pageNumber);
+        if (page == null) {
+            int from = pageNumber * PAGE_SIZE;
+            page = new ArrayList<>(source.subList(from, Math.min(from + PAGE_SIZE, size)));
+            pages.put(pageNumber, page);
+        }
+        return page.get(index % PAGE_SIZE);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Expense> change) {
+        // rows may have moved, so every cached page is stale
+        pages.clear();
+        int oldSize = size;
+        size = source.size();
+
+        int changedRows = 0;
+        while (change.next()) {
+            changedRows += change.wasPermutated() || change.wasUpdated()
+                    ? change.getTo() - change.getFrom()
+                    : change.getRemovedSize() + change.getAddedSize();
+        }
+        change.reset();
+
+        beginChange();
+        if (changedRows > MAX_FORWARDED_ROWS) {
+            if (oldSize > 0) {
+                nextRemove(0, Collections.<Expense>nCopies(oldSize, null));
+            }
+            if (size > 0) {
+                nextAdd(0, size);
+            }
+        } else {
+            while (change.next()) {
+                forward(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Passes on the current part of {@code change} as it is.
+     */
+    private void forward(ListChangeListener.Change<? extends Expense> change) {
+        if (change.wasPermutated()) {
+            int[] permutation = new int[change.getTo() - change.getFrom()];
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                permutation[i - change.getFrom()] = change.getPermutation(i);
+            }
+            nextPermutation(change.getFrom(), change.getTo(), permutation);
+        } else if (change.wasUpdated()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                nextUpdate(i);
+            }
+        } else {
+            if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), new ArrayList<>(change.getRemoved()));
+            }
+            if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+    }
+}
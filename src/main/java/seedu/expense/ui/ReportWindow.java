@@ -0,0 +1,81 @@
+package seedu.expense.ui;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.fxml.FXML;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import seedu.expense.commons.core.LogsCenter;
+import seedu.expense.model.rollup.Rollup;
+
+/**
+ * Controller for the report window, which shows the spending in each category over each period as a table.
+ */
+public class ReportWindow extends UiPart<Stage> {
+
+    private static final Logger logger = LogsCenter.getLogger(ReportWindow.class);
+    private static final String FXML = "ReportWindow.fxml";
+
+    @FXML
+    private StackPane placeHolder;
+
+    @FXML
+    private TableView<Rollup> reportTable;
+
+    @FXML
+    private TableColumn<Rollup, String> periodColumn;
+
+    @FXML
+    private TableColumn<Rollup, String> categoryColumn;
+
+    @FXML
+    private TableColumn<Rollup, Integer> countColumn;
+
+    @FXML
+    private TableColumn<Rollup, String> totalColumn;
+
+    /**
+     * Creates a new ReportWindow.
+     */
+    public ReportWindow() {
+        super(FXML, new Stage());
+        periodColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().describePeriod()));
+        categoryColumn.setCellValueFactory(cell ->
+                new ReadOnlyStringWrapper(cell.getValue().getCategory().toString()));
+        countColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().getCount()));
+        totalColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper("$" + cell.getValue().getTotal()));
+    }
+
+    /**
+     * Shows {@code report} in the report window, and shows the window or focuses on it if it is already shown.
+     */
+    public void show(List<Rollup> report) {
+        logger.fine("Showing report of " + report.size() + " rollups");
+        reportTable.getItems().setAll(report);
+        if (!isShowing()) {
+            getRoot().show();
+            getRoot().centerOnScreen();
+        } else {
+            getRoot().requestFocus();
+        }
+    }
+
+    /**
+     * Returns true if the report window is currently being shown.
+     */
+    public boolean isShowing() {
+        return getRoot().isShowing();
+    }
+
+    /**
+     * Hides the report window.
+     */
+    public void hide() {
+        getRoot().hide();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.expense.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableBooleanValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -12,17 +13,25 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String LOADING_MESSAGE = "Loading expenses...";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows a loading message
+     * while {@code isLoading} is true.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableBooleanValue isLoading) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        loadingStatus.setText(LOADING_MESSAGE);
+        loadingStatus.visibleProperty().bind(isLoading);
     }
 
 }
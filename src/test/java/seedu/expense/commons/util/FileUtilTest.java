@@ -1,13 +1,27 @@
 package seedu.expense.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.expense.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expense.commons.exceptions.DataConversionException;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +34,94 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingParentDirectory_fileCreated() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "content", 0);
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 1)));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_backupsKept() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        for (int i = 1; i <= 4; i++) {
+            FileUtil.writeToFileAtomically(file, "version " + i, 2);
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(3, files.count()); // no temporary file left behind
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_failingWriter_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "old content", 0);
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }, 0));
+        assertEquals("old content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerLargerThanBuffer_allContentWritten() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        String line = "0123456789abcdef\n";
+        int lineCount = 10000;
+        FileUtil.writeToFileAtomically(file, out -> {
+            for (int i = 0; i < lineCount; i++) {
+                out.write(line.getBytes(StandardCharsets.UTF_8));
+            }
+        }, 0);
+        assertEquals(line.repeat(lineCount), FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void readWithBackupFallback_validFile_fileRead() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "valid 1", 2);
+        FileUtil.writeToFileAtomically(file, "valid 2", 2);
+        assertEquals(Optional.of("valid 2"), FileUtil.readWithBackupFallback(file, 2, FileUtilTest::readValid));
+    }
+
+    @Test
+    public void readWithBackupFallback_invalidFile_latestValidBackupRead() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "valid 1", 2);
+        FileUtil.writeToFileAtomically(file, "invalid 2", 2);
+        FileUtil.writeToFileAtomically(file, "invalid 3", 2);
+        assertEquals(Optional.of("valid 1"), FileUtil.readWithBackupFallback(file, 2, FileUtilTest::readValid));
+
+        FileUtil.writeToFileAtomically(file, "invalid 4", 2);
+        assertThrows(DataConversionException.class, () -> FileUtil.readWithBackupFallback(file, 2,
+                FileUtilTest::readValid));
+    }
+
+    @Test
+    public void readWithBackupFallback_missingFile_emptyResult() throws Exception {
+        assertEquals(Optional.empty(), FileUtil.readWithBackupFallback(testFolder.resolve("missing.json"), 2,
+                FileUtilTest::readValid));
+    }
+
+    /**
+     * Returns the content of {@code file}, which is only in the correct format if it starts with "valid".
+     */
+    private static Optional<String> readValid(Path file) throws DataConversionException, IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        String content = FileUtil.readFromFile(file);
+        if (!content.startsWith("valid")) {
+            throw new DataConversionException(new IOException("invalid content: " + content));
+        }
+        return Optional.of(content);
+    }
+
 }
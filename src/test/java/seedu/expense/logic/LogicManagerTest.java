@@ -1,6 +1,8 @@
 package seedu.expense.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.expense.commons.core.Messages.MESSAGE_INVALID_EXPENSE_DISPLAYED_INDEX;
 import static seedu.expense.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.expense.logic.commands.CommandTestUtil.AMOUNT_DESC_FOOD;
@@ -12,6 +14,7 @@ import static seedu.expense.testutil.TypicalExpenses.FOOD;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -71,6 +74,38 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_unchangedData_saveSkipped() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, logic.getSkippedSaveCount());
+
+        // neither the expense book nor the alias map changed
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logic.getSkippedSaveCount());
+
+        // only the expense book changed
+        logic.execute(AddCommand.COMMAND_WORD + DESCRIPTION_DESC_FOOD + AMOUNT_DESC_FOOD + DATE_DESC_FOOD);
+        assertEquals(3, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void markExpenseBookSaved_loadedExpenses_saveSkipped() throws Exception {
+        model.addExpenses(List.of(new ExpenseBuilder().build()));
+        logic.markExpenseBookSaved();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void setExpenseBookLoading_updatesProperty() {
+        assertFalse(logic.expenseBookLoadingProperty().get());
+        logic.setExpenseBookLoading(true);
+        assertTrue(logic.expenseBookLoadingProperty().get());
+        logic.setExpenseBookLoading(false);
+        assertFalse(logic.expenseBookLoadingProperty().get());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonExpenseBookIoExceptionThrowingStub
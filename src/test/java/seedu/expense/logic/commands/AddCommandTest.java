@@ -13,6 +13,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -32,6 +34,10 @@ import seedu.expense.model.alias.AliasMap;
 import seedu.expense.model.budget.Budget;
 import seedu.expense.model.budget.CategoryBudget;
 import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.AmountMatchesPredicate;
+import seedu.expense.model.expense.DateMatchesPredicate;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.expense.DescriptionContainsKeywordsPredicate;
 import seedu.expense.model.expense.Expense;
 import seedu.expense.model.tag.Tag;
 import seedu.expense.testutil.ExpenseBuilder;
@@ -134,6 +140,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addExpenses(List<Expense> expenses) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setExpenseBook(ReadOnlyExpenseBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -179,6 +190,27 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Expense> toIndexedPredicate(DescriptionContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Expense> toIndexedPredicate(DateMatchesPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Expense> toIndexedPredicate(AmountMatchesPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Expense> findTopExpenses(int count, boolean isLargest, Optional<Tag> category,
+                DateRange dateRange) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredBudgetList(Predicate<CategoryBudget> predicate) {
             throw new AssertionError("This method should not be called.");
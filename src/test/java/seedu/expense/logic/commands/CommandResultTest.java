@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -37,6 +39,11 @@ public class CommandResultTest {
 
         //different shoBudgetDisplay value -> return false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, false, false, false)));
+
+        // different report -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", Collections.emptyList())));
+        assertTrue(new CommandResult("feedback", Collections.emptyList())
+                .equals(new CommandResult("feedback", Collections.emptyList())));
     }
 
     @Test
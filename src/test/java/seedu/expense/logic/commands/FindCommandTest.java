@@ -5,7 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.expense.commons.core.Messages.MESSAGE_EXPENSES_LISTED_OVERVIEW;
 import static seedu.expense.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.expense.testutil.TypicalExpenses.FEL_BDAY;
+import static seedu.expense.testutil.TypicalExpenses.GRAB_HOME;
+import static seedu.expense.testutil.TypicalExpenses.GRAB_SUPPER;
 import static seedu.expense.testutil.TypicalExpenses.PHONE_BILL;
+import static seedu.expense.testutil.TypicalExpenses.RAMEN;
 import static seedu.expense.testutil.TypicalExpenses.SWEE_CHOON;
 import static seedu.expense.testutil.TypicalExpenses.ZARA;
 import static seedu.expense.testutil.TypicalExpenses.getTypicalExpenseBook;
@@ -19,6 +23,7 @@ import seedu.expense.model.Model;
 import seedu.expense.model.ModelManager;
 import seedu.expense.model.UserPrefs;
 import seedu.expense.model.alias.AliasMap;
+import seedu.expense.model.expense.AmountMatchesPredicate;
 import seedu.expense.model.expense.DateMatchesPredicate;
 import seedu.expense.model.expense.DescriptionContainsKeywordsPredicate;
 
@@ -88,6 +93,43 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ZARA, PHONE_BILL, SWEE_CHOON), model.getFilteredExpenseList());
     }
 
+    @Test
+    public void execute_dateRanges_expensesInRangesFound() {
+        String expectedMessage = String.format(MESSAGE_EXPENSES_LISTED_OVERVIEW, 3);
+        DateMatchesPredicate datePredicate =
+                new DateMatchesPredicate(Arrays.asList("07-2020", "30-06-2020:30-06-2020"));
+        DescriptionContainsKeywordsPredicate namePredicate = preparePredicate("");
+        FindCommand command = new FindCommand(namePredicate, datePredicate);
+        expectedModel.updateFilteredExpenseList(datePredicate);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false, false, false);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(FEL_BDAY, GRAB_HOME, ZARA), model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void execute_amountRanges_expensesInRangesFound() {
+        String expectedMessage = String.format(MESSAGE_EXPENSES_LISTED_OVERVIEW, 3);
+        AmountMatchesPredicate amountPredicate = new AmountMatchesPredicate(Arrays.asList("10:20"));
+        FindCommand command = new FindCommand(preparePredicate(""),
+                new DateMatchesPredicate(Collections.emptyList()), amountPredicate);
+        expectedModel.updateFilteredExpenseList(amountPredicate);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false, false, false);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(GRAB_HOME, RAMEN, SWEE_CHOON), model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void execute_datesAndAmounts_expensesMatchingBothFound() {
+        String expectedMessage = String.format(MESSAGE_EXPENSES_LISTED_OVERVIEW, 3);
+        DateMatchesPredicate datePredicate = new DateMatchesPredicate(Arrays.asList("06-2020"));
+        AmountMatchesPredicate amountPredicate = new AmountMatchesPredicate(Arrays.asList(":15", "80"));
+        FindCommand command = new FindCommand(preparePredicate(""), datePredicate, amountPredicate);
+        expectedModel.updateFilteredExpenseList(datePredicate.and(amountPredicate));
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false, false, false);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(ZARA, GRAB_SUPPER, SWEE_CHOON), model.getFilteredExpenseList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
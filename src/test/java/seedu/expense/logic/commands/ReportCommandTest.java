@@ -0,0 +1,118 @@
+package seedu.expense.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.expense.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.expense.testutil.Assert.assertThrows;
+import static seedu.expense.testutil.TypicalExpenses.getTypicalExpenseBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.model.Model;
+import seedu.expense.model.ModelManager;
+import seedu.expense.model.UserPrefs;
+import seedu.expense.model.alias.AliasMap;
+import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.rollup.Rollup;
+import seedu.expense.model.rollup.RollupPeriod;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ReportCommand}.
+ */
+public class ReportCommandTest {
+    private Model model = new ModelManager(getTypicalExpenseBook(), new UserPrefs(), new AliasMap());
+    private Model expectedModel = new ModelManager(getTypicalExpenseBook(), new UserPrefs(), new AliasMap());
+
+    @Test
+    public void constructor_nullDateRange_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ReportCommand(null, Collections.emptyList()));
+    }
+
+    @Test
+    public void execute_allCategories_reportsEachCategoryAndTotal() {
+        String expectedMessage = String.join("\n",
+                "Expenses from 01-06-2020 to 30-06-2020:",
+                "Default: $53.30",
+                "Girlfriend: $0.00",
+                "Shopping: $80.00",
+                "Food: $18.50",
+                "Transport: $0.00",
+                "Total: $151.80");
+        assertCommandSuccess(new ReportCommand(new DateRange("06-2020"), Collections.emptyList()), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_someCategories_reportsTotalOfCategories() {
+        String expectedMessage = String.join("\n",
+                "Expenses from 01-07-2020 onwards:",
+                "Transport: $15.00",
+                "Girlfriend: $140.00",
+                "Total: $155.00");
+        assertCommandSuccess(new ReportCommand(new DateRange("01-07-2020:"),
+                Arrays.asList(new Tag("Transport"), new Tag("Girlfriend"))), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_period_showsRollups() {
+        ReportCommand command = new ReportCommand(new DateRange("07-2020"), Collections.emptyList(),
+                Optional.of(RollupPeriod.MONTH));
+        String expectedMessage = String.join("\n",
+                "Expenses from 01-07-2020 to 31-07-2020:",
+                "Default: $0.00",
+                "Girlfriend: $140.00",
+                "Shopping: $0.00",
+                "Food: $0.00",
+                "Transport: $15.00",
+                "Total: $155.00",
+                String.format(ReportCommand.MESSAGE_ROLLUPS_SHOWN, "monthly"));
+        List<Rollup> expectedReport = Arrays.asList(
+                new Rollup(RollupPeriod.MONTH, LocalDate.of(2020, 7, 1), new Tag("Girlfriend"), 1, new Amount("140")),
+                new Rollup(RollupPeriod.MONTH, LocalDate.of(2020, 7, 1), new Tag("Transport"), 1, new Amount("15")));
+        assertCommandSuccess(command, model, new CommandResult(expectedMessage, expectedReport), expectedModel);
+    }
+
+    @Test
+    public void execute_unknownCategory_throwsCommandException() {
+        assertCommandFailure(new ReportCommand(DateRange.ALL_DATES, Collections.singletonList(new Tag("Potato"))),
+                model, String.format(ReportCommand.MESSAGE_INVALID_CATEGORY, "Potato"));
+    }
+
+    @Test
+    public void equals() {
+        ReportCommand reportFirstCommand = new ReportCommand(new DateRange("2020"), Collections.emptyList());
+        ReportCommand reportSecondCommand = new ReportCommand(new DateRange("2020"),
+                Collections.singletonList(new Tag("Food")));
+
+        // same object -> returns true
+        assertTrue(reportFirstCommand.equals(reportFirstCommand));
+
+        // same values -> returns true
+        assertTrue(reportFirstCommand.equals(new ReportCommand(new DateRange("2020"), Collections.emptyList())));
+
+        // different types -> returns false
+        assertFalse(reportFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(reportFirstCommand.equals(null));
+
+        // different categories -> returns false
+        assertFalse(reportFirstCommand.equals(reportSecondCommand));
+
+        // different period -> returns false
+        assertFalse(reportFirstCommand.equals(new ReportCommand(DateRange.ALL_DATES, Collections.emptyList())));
+
+        // different rollup period -> returns false
+        assertFalse(reportFirstCommand.equals(new ReportCommand(new DateRange("2020"), Collections.emptyList(),
+                Optional.of(RollupPeriod.WEEK))));
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.expense.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.commons.core.Messages.MESSAGE_INVALID_CATEGORY;
+import static seedu.expense.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.expense.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.expense.model.ExpenseBook.DEFAULT_TAG;
+import static seedu.expense.testutil.Assert.assertThrows;
+import static seedu.expense.testutil.TypicalExpenses.FEL_BDAY;
+import static seedu.expense.testutil.TypicalExpenses.GRAB_SUPPER;
+import static seedu.expense.testutil.TypicalExpenses.PHONE_BILL;
+import static seedu.expense.testutil.TypicalExpenses.SWEE_CHOON;
+import static seedu.expense.testutil.TypicalExpenses.ZARA;
+import static seedu.expense.testutil.TypicalExpenses.getTypicalExpenseBook;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.model.Model;
+import seedu.expense.model.ModelManager;
+import seedu.expense.model.UserPrefs;
+import seedu.expense.model.alias.AliasMap;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code TopCommand}.
+ */
+public class TopCommandTest {
+    private Model model = new ModelManager(getTypicalExpenseBook(), new UserPrefs(), new AliasMap());
+    private Model expectedModel = new ModelManager(getTypicalExpenseBook(), new UserPrefs(), new AliasMap());
+
+    @Test
+    public void constructor_nullCategory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TopCommand(1, true, null, DateRange.ALL_DATES));
+    }
+
+    @Test
+    public void execute_largest_listsLargestExpenses() {
+        String expectedMessage = String.join("\n",
+                String.format(TopCommand.MESSAGE_SUCCESS, 3, "largest"),
+                "1. Felicia's Birthday $140.00 (02-07-2020)",
+                "2. ZARA Jacket $80.00 (30-06-2020)",
+                "3. Phone Bill Payment $35.90 (29-06-2020)");
+        expectedModel.updateFilteredExpenseList(expense -> Arrays.asList(FEL_BDAY, ZARA, PHONE_BILL).contains(expense));
+        assertCommandSuccess(new TopCommand(3, true, Optional.empty(), DateRange.ALL_DATES), model,
+                expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FEL_BDAY, ZARA, PHONE_BILL), model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void execute_smallestInCategoryAndPeriod_listsSmallestExpenses() {
+        String expectedMessage = String.join("\n",
+                String.format(TopCommand.MESSAGE_SUCCESS, 2, "smallest"),
+                "1. Grab to Supper $5.00 (28-06-2020)",
+                "2. Swee Choon Supper $12.40 (28-06-2020)");
+        expectedModel.updateFilteredExpenseList(expense -> Arrays.asList(GRAB_SUPPER, SWEE_CHOON).contains(expense));
+        assertCommandSuccess(new TopCommand(2, false, Optional.of(DEFAULT_TAG), new DateRange("06-2020")), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_countMoreThanExpenses_listsAllMatching() {
+        String expectedMessage = String.join("\n",
+                String.format(TopCommand.MESSAGE_SUCCESS, 1, "largest"),
+                "1. Felicia's Birthday $140.00 (02-07-2020)");
+        expectedModel.updateFilteredExpenseList(FEL_BDAY::equals);
+        assertCommandSuccess(new TopCommand(10, true, Optional.of(new Tag("Girlfriend")), DateRange.ALL_DATES),
+                model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidCategory_throwsCommandException() {
+        assertCommandFailure(new TopCommand(3, true, Optional.of(new Tag("Potato")), DateRange.ALL_DATES), model,
+                String.format(MESSAGE_INVALID_CATEGORY, "Potato"));
+    }
+
+    @Test
+    public void equals() {
+        TopCommand topCommand = new TopCommand(3, true, Optional.empty(), DateRange.ALL_DATES);
+
+        // same values -> returns true
+        assertTrue(topCommand.equals(new TopCommand(3, true, Optional.empty(), DateRange.ALL_DATES)));
+
+        // same object -> returns true
+        assertTrue(topCommand.equals(topCommand));
+
+        // null -> returns false
+        assertFalse(topCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(topCommand.equals(new TopCommand(4, true, Optional.empty(), DateRange.ALL_DATES)));
+
+        // different order -> returns false
+        assertFalse(topCommand.equals(new TopCommand(3, false, Optional.empty(), DateRange.ALL_DATES)));
+
+        // different category -> returns false
+        assertFalse(topCommand.equals(new TopCommand(3, true, Optional.of(DEFAULT_TAG), DateRange.ALL_DATES)));
+    }
+}
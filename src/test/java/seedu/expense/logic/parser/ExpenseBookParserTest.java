@@ -15,6 +15,7 @@ import static seedu.expense.testutil.TypicalIndexes.INDEX_FIRST_EXPENSE;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -31,9 +32,12 @@ import seedu.expense.logic.commands.FindCommand;
 import seedu.expense.logic.commands.HelpCommand;
 import seedu.expense.logic.commands.ListCommand;
 import seedu.expense.logic.commands.RemarkCommand;
+import seedu.expense.logic.commands.ReportCommand;
 import seedu.expense.logic.commands.SwitchCommand;
+import seedu.expense.logic.commands.TopCommand;
 import seedu.expense.logic.parser.exceptions.ParseException;
 import seedu.expense.model.expense.DateMatchesPredicate;
+import seedu.expense.model.expense.DateRange;
 import seedu.expense.model.expense.DescriptionContainsKeywordsPredicate;
 import seedu.expense.model.expense.Expense;
 import seedu.expense.model.expense.Remark;
@@ -143,6 +147,22 @@ public class ExpenseBookParserTest {
         assertEquals(switchCommand, command);
     }
 
+    @Test
+    public void parseCommand_report() throws Exception {
+        ReportCommand command = (ReportCommand) parser.parseCommand(
+            ReportCommand.COMMAND_WORD + " " + PREFIX_DATE + "2020 " + PREFIX_TAG + "Food"
+        );
+        assertEquals(new ReportCommand(new DateRange("2020"), Arrays.asList(new Tag("Food"))), command);
+    }
+
+    @Test
+    public void parseCommand_top() throws Exception {
+        TopCommand command = (TopCommand) parser.parseCommand(
+            TopCommand.COMMAND_WORD + " 3 " + PREFIX_TAG + "Food"
+        );
+        assertEquals(new TopCommand(3, true, Optional.of(new Tag("Food")), DateRange.ALL_DATES), command);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -1,6 +1,7 @@
 package seedu.expense.logic.parser;
 
 import static seedu.expense.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_AMOUNT;
 import static seedu.expense.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.expense.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.expense.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -11,7 +12,10 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.expense.logic.commands.FindCommand;
+import seedu.expense.model.expense.AmountMatchesPredicate;
+import seedu.expense.model.expense.AmountRange;
 import seedu.expense.model.expense.DateMatchesPredicate;
+import seedu.expense.model.expense.DateRange;
 import seedu.expense.model.expense.DescriptionContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -45,4 +49,43 @@ public class FindCommandParserTest {
         String x = " " + PREFIX_DESCRIPTION + "Alice Bob " + PREFIX_DATE + " 07-09-2020 ";
         assertParseSuccess(parser, x, expectedFindCommand);
     }
+
+    @Test
+    public void parse_dateRanges_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new DescriptionContainsKeywordsPredicate(Arrays.asList("")),
+                new DateMatchesPredicate(Arrays.asList("09-2020", "01-10-2020:"))
+        );
+        assertParseSuccess(parser, " " + PREFIX_DATE + "09-2020 " + PREFIX_DATE + "01-10-2020:",
+                expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_DATE + "02-10-2020:01-10-2020",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DateRange.MESSAGE_CONSTRAINTS));
+    }
+
+    @Test
+    public void parse_emptyAmount_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_AMOUNT,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommandParser.MISSING_ARGUMENTS));
+    }
+
+    @Test
+    public void parse_amountRanges_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new DescriptionContainsKeywordsPredicate(Arrays.asList("")),
+                new DateMatchesPredicate(Arrays.asList("09-2020")),
+                new AmountMatchesPredicate(Arrays.asList("10:20", "100:"))
+        );
+        assertParseSuccess(parser, " " + PREFIX_DATE + "09-2020 " + PREFIX_AMOUNT + "10:20 " + PREFIX_AMOUNT + "100:",
+                expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidAmountRange_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_AMOUNT + "20:10",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AmountRange.MESSAGE_CONSTRAINTS));
+    }
 }
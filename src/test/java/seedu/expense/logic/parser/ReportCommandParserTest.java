@@ -0,0 +1,68 @@
+package seedu.expense.logic.parser;
+
+import static seedu.expense.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_PERIOD;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.expense.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.expense.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.logic.commands.ReportCommand;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.rollup.RollupPeriod;
+import seedu.expense.model.tag.Tag;
+
+public class ReportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE);
+
+    private final ReportCommandParser parser = new ReportCommandParser();
+
+    @Test
+    public void parse_noArgs_reportsAllDatesAndCategories() {
+        assertParseSuccess(parser, "", new ReportCommand(DateRange.ALL_DATES, Collections.emptyList()));
+    }
+
+    @Test
+    public void parse_dateAndCategories_success() {
+        ReportCommand expectedCommand = new ReportCommand(new DateRange("02-2020"),
+                Arrays.asList(new Tag("Food"), new Tag("Transport")));
+        assertParseSuccess(parser, " " + PREFIX_DATE + "02-2020 " + PREFIX_TAG + "Food " + PREFIX_TAG + "Transport "
+                + PREFIX_TAG + "Food", expectedCommand);
+    }
+
+    @Test
+    public void parse_period_success() {
+        assertParseSuccess(parser, " " + PREFIX_PERIOD + "Week", new ReportCommand(DateRange.ALL_DATES,
+                Collections.emptyList(), Optional.of(RollupPeriod.WEEK)));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // preamble
+        assertParseFailure(parser, " Food", MESSAGE_INVALID_FORMAT);
+
+        // more than one period
+        assertParseFailure(parser, " " + PREFIX_DATE + "2019 " + PREFIX_DATE + "2020", MESSAGE_INVALID_FORMAT);
+
+        // invalid period
+        assertParseFailure(parser, " " + PREFIX_DATE + "13-2020",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DateRange.MESSAGE_CONSTRAINTS));
+
+        // more than one rollup period
+        assertParseFailure(parser, " " + PREFIX_PERIOD + "day " + PREFIX_PERIOD + "week", MESSAGE_INVALID_FORMAT);
+
+        // invalid rollup period
+        assertParseFailure(parser, " " + PREFIX_PERIOD + "year", RollupPeriod.MESSAGE_CONSTRAINTS);
+
+        // invalid category
+        assertParseFailure(parser, " " + PREFIX_TAG + "Fo od", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
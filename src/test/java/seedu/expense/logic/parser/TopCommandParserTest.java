@@ -0,0 +1,63 @@
+package seedu.expense.logic.parser;
+
+import static seedu.expense.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_SORT;
+import static seedu.expense.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.expense.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.expense.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.logic.commands.TopCommand;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.tag.Tag;
+
+public class TopCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE);
+
+    private final TopCommandParser parser = new TopCommandParser();
+
+    @Test
+    public void parse_countOnly_listsLargestOverAllDates() {
+        assertParseSuccess(parser, " 5", new TopCommand(5, true, Optional.empty(), DateRange.ALL_DATES));
+    }
+
+    @Test
+    public void parse_allFields_success() {
+        TopCommand expectedCommand = new TopCommand(3, false, Optional.of(new Tag("Food")),
+                new DateRange("02-2020"));
+        assertParseSuccess(parser, " 3 " + PREFIX_DATE + "02-2020 " + PREFIX_TAG + "Food " + PREFIX_SORT + "amount",
+                expectedCommand);
+        assertParseSuccess(parser, " 3 " + PREFIX_SORT + "amountR", new TopCommand(3, true, Optional.empty(),
+                DateRange.ALL_DATES));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // no count
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+
+        // count not a positive integer
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " five", MESSAGE_INVALID_FORMAT);
+
+        // more than one category
+        assertParseFailure(parser, " 5 " + PREFIX_TAG + "Food " + PREFIX_TAG + "Transport", MESSAGE_INVALID_FORMAT);
+
+        // invalid order
+        assertParseFailure(parser, " 5 " + PREFIX_SORT + "date", MESSAGE_INVALID_FORMAT);
+
+        // invalid period
+        assertParseFailure(parser, " 5 " + PREFIX_DATE + "13-2020",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DateRange.MESSAGE_CONSTRAINTS));
+
+        // invalid category
+        assertParseFailure(parser, " 5 " + PREFIX_TAG + "Fo od", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
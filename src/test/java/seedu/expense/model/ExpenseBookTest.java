@@ -20,8 +20,13 @@ import javafx.collections.ObservableList;
 import seedu.expense.model.budget.CategoryBudget;
 import seedu.expense.model.budget.UniqueCategoryBudgetList;
 import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.CategoryMatchesPredicate;
+import seedu.expense.model.expense.DateRange;
 import seedu.expense.model.expense.Expense;
+import seedu.expense.model.expense.exceptions.CategoryNotFoundException;
 import seedu.expense.model.expense.exceptions.DuplicateExpenseException;
+import seedu.expense.model.rollup.Rollup;
+import seedu.expense.model.rollup.RollupPeriod;
 import seedu.expense.model.tag.Tag;
 import seedu.expense.testutil.ExpenseBuilder;
 
@@ -84,6 +89,107 @@ public class ExpenseBookTest {
         assertTrue(expenseBook.hasExpense(editedAlice));
     }
 
+    @Test
+    public void addExpenses_categoriesExist_expensesAdded() {
+        expenseBook.addCategory(FEL_BDAY.getTag());
+        expenseBook.addCategory(new Tag(VALID_TAG_TRANSPORT));
+        Expense bus = new ExpenseBuilder().withTag(VALID_TAG_TRANSPORT).build();
+        expenseBook.addExpenses(Arrays.asList(FEL_BDAY, bus));
+        assertEquals(Arrays.asList(FEL_BDAY, bus), expenseBook.getExpenseList());
+        assertEquals(FEL_BDAY.getAmount().add(bus.getAmount()), expenseBook.tallyExpenses());
+    }
+
+    @Test
+    public void addExpenses_categoryNotFound_throwsCategoryNotFoundException() {
+        expenseBook.addCategory(FEL_BDAY.getTag());
+        Expense bus = new ExpenseBuilder().withTag(VALID_TAG_TRANSPORT).build();
+        assertThrows(CategoryNotFoundException.class, () -> expenseBook.addExpenses(Arrays.asList(FEL_BDAY, bus)));
+        assertFalse(expenseBook.hasExpense(FEL_BDAY));
+    }
+
+    @Test
+    public void tallyExpenses_afterMutationsAndFilter_tracksFilteredExpenses() {
+        Tag transport = new Tag(VALID_TAG_TRANSPORT);
+        expenseBook.addCategory(FEL_BDAY.getTag());
+        expenseBook.addCategory(transport);
+        expenseBook.addExpense(FEL_BDAY);
+        Expense bus = new ExpenseBuilder().withAmount("2.50").withTag(VALID_TAG_TRANSPORT).build();
+        expenseBook.addExpense(bus);
+        assertEquals(FEL_BDAY.getAmount().add(bus.getAmount()), expenseBook.tallyExpenses());
+
+        expenseBook.updateFilteredExpenses(expense -> expense.getTag().equals(transport));
+        assertEquals(bus.getAmount(), expenseBook.tallyExpenses());
+
+        Expense editedBus = new ExpenseBuilder(bus).withAmount("4.00").build();
+        expenseBook.setExpense(bus, editedBus);
+        assertEquals(editedBus.getAmount(), expenseBook.tallyExpenses());
+        assertEquals(editedBus.getAmount(), expenseBook.tallyExpenses(transport));
+        assertEquals(FEL_BDAY.getAmount(), expenseBook.tallyExpenses(FEL_BDAY.getTag()));
+
+        expenseBook.removeExpense(editedBus);
+        assertEquals(Amount.zeroAmount(), expenseBook.tallyExpenses());
+        assertEquals(Amount.zeroAmount(), expenseBook.tallyExpenses(transport));
+    }
+
+    @Test
+    public void getBudgetBarLabel_categoryFilter_returnsCategory() {
+        Tag transport = new Tag(VALID_TAG_TRANSPORT);
+        expenseBook.addCategory(transport);
+        expenseBook.addCategory(FEL_BDAY.getTag());
+        expenseBook.updateFilteredExpenses(new CategoryMatchesPredicate(transport));
+        assertEquals(transport.toString(), expenseBook.getBudgetBarLabel());
+
+        expenseBook.updateFilteredExpenses(new CategoryMatchesPredicate(ExpenseBook.DEFAULT_TAG));
+        assertEquals(ExpenseBook.DEFAULT_TAG.toString(), expenseBook.getBudgetBarLabel());
+
+        expenseBook.updateFilteredExpenses(expense -> true);
+        assertEquals("Total", expenseBook.getBudgetBarLabel());
+    }
+
+    @Test
+    public void tallyBudgets_categoryBudgetChangedDirectly_tracksCategoryBudget() {
+        Tag transport = new Tag(VALID_TAG_TRANSPORT);
+        expenseBook.addCategory(transport);
+        expenseBook.topupCategoryBudget(transport, new Amount("50"));
+        expenseBook.updateFilteredBudgets(budget -> budget.getTag().equals(transport));
+        assertEquals(new Amount("50"), expenseBook.tallyBudgets());
+
+        expenseBook.getBudgets().getCategoryBudget(transport).reset();
+        assertEquals(Amount.zeroAmount(), expenseBook.tallyBudgets());
+    }
+
+    @Test
+    public void getModificationCount_dataChanged_countIncreases() {
+        Tag transport = new Tag(VALID_TAG_TRANSPORT);
+        long count = expenseBook.getModificationCount();
+
+        expenseBook.addCategory(transport);
+        assertTrue(expenseBook.getModificationCount() > count);
+
+        count = expenseBook.getModificationCount();
+        expenseBook.addExpense(new ExpenseBuilder().withTag(VALID_TAG_TRANSPORT).build());
+        assertTrue(expenseBook.getModificationCount() > count);
+
+        count = expenseBook.getModificationCount();
+        expenseBook.topupBudget(new Amount("1"));
+        assertTrue(expenseBook.getModificationCount() > count);
+
+        count = expenseBook.getModificationCount();
+        expenseBook.getBudgets().getCategoryBudget(transport).topupBudget(new Amount("1"));
+        assertTrue(expenseBook.getModificationCount() > count);
+    }
+
+    @Test
+    public void getModificationCount_onlyFiltersChanged_countUnchanged() {
+        expenseBook.resetData(getTypicalExpenseBook());
+        long count = expenseBook.getModificationCount();
+
+        expenseBook.updateFilteredExpenses(expense -> false);
+        expenseBook.updateFilteredBudgets(budget -> false);
+        expenseBook.tallyBalance();
+        assertEquals(count, expenseBook.getModificationCount());
+    }
+
     @Test
     public void getExpenseList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> expenseBook.getExpenseList().remove(0));
@@ -127,11 +233,36 @@ public class ExpenseBookTest {
             return budgets;
         }
 
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+
         @Override
         public Amount tallyExpenses() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Amount tallyExpenses(Tag category) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Amount tallyExpenses(DateRange dateRange) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Amount tallyExpenses(Tag category, DateRange dateRange) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Rollup> getRollups(RollupPeriod period, List<Tag> categories, DateRange dateRange) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Amount tallyBudgets() {
             throw new AssertionError("This method should not be called.");
@@ -10,6 +10,8 @@ import static seedu.expense.testutil.TypicalExpenses.GRAB_HOME;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -88,6 +90,16 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasExpense(FEL_BDAY));
     }
 
+    @Test
+    public void addExpenses_filterApplied_filterKept() {
+        modelManager.addCategory(FEL_BDAY.getTag());
+        modelManager.addCategory(GRAB_HOME.getTag());
+        modelManager.updateFilteredExpenseList(expense -> expense.equals(GRAB_HOME));
+        modelManager.addExpenses(Arrays.asList(FEL_BDAY, GRAB_HOME));
+        assertTrue(modelManager.hasExpense(FEL_BDAY));
+        assertEquals(Collections.singletonList(GRAB_HOME), modelManager.getFilteredExpenseList());
+    }
+
     @Test
     public void getFilteredExpenseList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredExpenseList().remove(0));
@@ -1,5 +1,9 @@
 package seedu.expense.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.expense.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +22,16 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setExpenseBookFilePath(null));
     }
 
+    @Test
+    public void constructor_copiesDataFilePrettyPrinted() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isDataFilePrettyPrinted());
+
+        userPrefs.setDataFilePrettyPrinted(true);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertTrue(copy.isDataFilePrettyPrinted());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
 }
@@ -0,0 +1,82 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.testutil.ExpenseBuilder;
+
+public class AmountIndexTest {
+
+    private static final Expense COFFEE = new ExpenseBuilder().withDescription("Coffee").withAmount("4.50")
+            .withDate("01-02-2020").build();
+    private static final Expense LUNCH = new ExpenseBuilder().withDescription("Lunch").withAmount("12")
+            .withDate("01-02-2020").build();
+    private static final Expense DINNER = new ExpenseBuilder().withDescription("Dinner").withAmount("12")
+            .withDate("02-02-2020").build();
+    private static final Expense SHOES = new ExpenseBuilder().withDescription("Shoes").withAmount("120")
+            .withDate("03-02-2020").build();
+
+    private final AmountIndex amountIndex = new AmountIndex();
+
+    @Test
+    public void add_nullExpense_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> amountIndex.add(null));
+    }
+
+    @Test
+    public void findExpenses_amountRanges_returnsExpensesInRanges() {
+        Arrays.asList(COFFEE, LUNCH, DINNER, SHOES).forEach(amountIndex::add);
+
+        assertEquals(new HashSet<>(Arrays.asList(LUNCH, DINNER)),
+                amountIndex.findExpenses(Collections.singletonList(new AmountRange("12"))));
+        assertEquals(new HashSet<>(Arrays.asList(COFFEE, LUNCH, DINNER)),
+                amountIndex.findExpenses(Collections.singletonList(new AmountRange(":12"))));
+        assertEquals(new HashSet<>(Arrays.asList(COFFEE, SHOES)),
+                amountIndex.findExpenses(Arrays.asList(new AmountRange("4.50"), new AmountRange("100:"))));
+        assertTrue(amountIndex.findExpenses(Collections.singletonList(new AmountRange("13:119.99"))).isEmpty());
+    }
+
+    @Test
+    public void toPredicate_indexChanged_tracksIndex() {
+        amountIndex.add(LUNCH);
+        Predicate<Expense> predicate = amountIndex.toPredicate(Collections.singletonList(new AmountRange("10:20")));
+        assertTrue(predicate.test(LUNCH));
+        assertFalse(predicate.test(DINNER));
+
+        amountIndex.add(DINNER);
+        assertTrue(predicate.test(DINNER));
+
+        amountIndex.remove(LUNCH);
+        assertFalse(predicate.test(LUNCH));
+        assertTrue(predicate.test(DINNER));
+    }
+
+    @Test
+    public void findExtremes_largest_returnsLargestInAmountOrder() {
+        Arrays.asList(LUNCH, SHOES, COFFEE, DINNER).forEach(amountIndex::add);
+
+        // expenses of the same amount are ranked by date
+        assertEquals(Arrays.asList(SHOES, DINNER, LUNCH), amountIndex.findExtremes(3, true, expense -> true));
+        assertEquals(Arrays.asList(SHOES, DINNER, LUNCH, COFFEE),
+                amountIndex.findExtremes(10, true, expense -> true));
+    }
+
+    @Test
+    public void findExtremes_smallestWithFilter_skipsFilteredExpenses() {
+        Arrays.asList(LUNCH, SHOES, COFFEE, DINNER).forEach(amountIndex::add);
+
+        assertEquals(Arrays.asList(COFFEE, LUNCH), amountIndex.findExtremes(2, false, expense -> true));
+        assertEquals(Arrays.asList(DINNER, SHOES),
+                amountIndex.findExtremes(2, false, expense -> !expense.getDate().equals(COFFEE.getDate())));
+        assertTrue(amountIndex.findExtremes(0, false, expense -> true).isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class AmountRangeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AmountRange(null));
+    }
+
+    @Test
+    public void constructor_invalidAmountRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AmountRange("abc"));
+        assertThrows(IllegalArgumentException.class, () -> new AmountRange(new Amount("2"), new Amount("1")));
+    }
+
+    @Test
+    public void isValidAmountRange() {
+        // invalid amount ranges
+        assertFalse(AmountRange.isValidAmountRange("")); // empty string
+        assertFalse(AmountRange.isValidAmountRange(":")); // no amounts
+        assertFalse(AmountRange.isValidAmountRange("1.234")); // too many decimal places
+        assertFalse(AmountRange.isValidAmountRange("$10")); // dollar sign
+        assertFalse(AmountRange.isValidAmountRange("20:10")); // min more than max
+        assertFalse(AmountRange.isValidAmountRange("1:2:3")); // more than two ends
+
+        // valid amount ranges
+        assertTrue(AmountRange.isValidAmountRange("10")); // single amount
+        assertTrue(AmountRange.isValidAmountRange("10.50:10.50")); // one-amount range
+        assertTrue(AmountRange.isValidAmountRange("10:20")); // range
+        assertTrue(AmountRange.isValidAmountRange("10:")); // no max
+        assertTrue(AmountRange.isValidAmountRange(":20.5")); // no min
+    }
+
+    @Test
+    public void constructor_validAmountRange_coversAmounts() {
+        assertEquals(new AmountRange(new Amount("12.40"), new Amount("12.40")), new AmountRange("12.4"));
+        assertEquals(new AmountRange(new Amount("10"), new Amount("20")), new AmountRange("10:20"));
+        assertEquals(new AmountRange(Amount.fromCents(Amount.MIN_CENTS), new Amount("20")), new AmountRange(":20"));
+        assertEquals(new AmountRange(new Amount("10"), Amount.fromCents(Amount.MAX_CENTS)), new AmountRange("10:"));
+    }
+
+    @Test
+    public void contains() {
+        AmountRange amountRange = new AmountRange("10:20");
+        assertTrue(amountRange.contains(new Amount("10")));
+        assertTrue(amountRange.contains(new Amount("20")));
+        assertFalse(amountRange.contains(new Amount("9.99")));
+        assertFalse(amountRange.contains(new Amount("20.01")));
+        assertTrue(new AmountRange("10:").contains(new Amount("1000000")));
+    }
+
+    @Test
+    public void equals() {
+        AmountRange amountRange = new AmountRange("10:20");
+
+        // same values -> returns true
+        assertTrue(amountRange.equals(new AmountRange("10.00:20.00")));
+
+        // same object -> returns true
+        assertTrue(amountRange.equals(amountRange));
+
+        // null -> returns false
+        assertFalse(amountRange.equals(null));
+
+        // different values -> returns false
+        assertFalse(amountRange.equals(new AmountRange("10:")));
+    }
+}
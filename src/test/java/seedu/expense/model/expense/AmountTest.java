@@ -1,5 +1,6 @@
 package seedu.expense.model.expense;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.expense.testutil.Assert.assertThrows;
@@ -27,10 +28,54 @@ public class AmountTest {
         assertFalse(Amount.isValidAmount("9011p041")); // alphabets within digits
         assertFalse(Amount.isValidAmount("9312 1534")); // spaces within digits
         assertFalse(Amount.isValidAmount("42.123")); // more than 2 cent digits
+        assertFalse(Amount.isValidAmount("9011p04")); // non-digit in place of '.'
+        assertFalse(Amount.isValidAmount("--1")); // more than 1 '-'
+        assertFalse(Amount.isValidAmount("10000000000.01")); // above maximum value
+        assertFalse(Amount.isValidAmount("-10000000000.01")); // below minimum value
+        assertFalse(Amount.isValidAmount("99999999999999999999")); // too many digits for a long
 
         // valid amounts
         assertTrue(Amount.isValidAmount("91.42")); // exactly 2 cent digits
         assertTrue(Amount.isValidAmount("93121534")); // whole number
         assertTrue(Amount.isValidAmount("12.3")); // 1 cent digit
+        assertTrue(Amount.isValidAmount("-12.30")); // negative amount
+        assertTrue(Amount.isValidAmount("10000000000")); // maximum value
+        assertTrue(Amount.isValidAmount("-10000000000")); // minimum value
+    }
+
+    @Test
+    public void hashCode_equalAmountsWithDifferentScale_sameHashCode() {
+        assertEquals(new Amount("20"), new Amount("20.00"));
+        assertEquals(new Amount("20").hashCode(), new Amount("20.00").hashCode());
+        assertEquals(new Amount("0").hashCode(), new Amount("0.0").hashCode());
+    }
+
+    @Test
+    public void add_sumOutOfRange_throwsIllegalArgumentException() {
+        Amount max = new Amount(Amount.MAX_VALUE.toPlainString());
+        assertThrows(IllegalArgumentException.class, () -> max.add(new Amount("0.01")));
+        assertEquals(max, max.add(Amount.zeroAmount()));
+    }
+
+    @Test
+    public void subtract_differenceOutOfRange_throwsIllegalArgumentException() {
+        Amount min = new Amount(Amount.MIN_VALUE.toPlainString());
+        assertThrows(IllegalArgumentException.class, () -> min.subtract(new Amount("0.01")));
+        assertEquals(new Amount("-0.50"), new Amount("1").subtract(new Amount("1.5")));
+    }
+
+    @Test
+    public void fromCents() {
+        assertEquals(new Amount("12.34"), Amount.fromCents(1234));
+        assertEquals(1234, new Amount("12.34").getCents());
+        assertThrows(IllegalArgumentException.class, () -> Amount.fromCents(Amount.MAX_CENTS + 1));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("0.00", Amount.zeroAmount().toString());
+        assertEquals("12.30", new Amount("12.3").toString());
+        assertEquals("-0.05", new Amount("-0.05").toString());
+        assertEquals("10000000000.00", new Amount(Amount.MAX_VALUE.toPlainString()).toString());
     }
 }
@@ -0,0 +1,42 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.model.tag.Tag;
+import seedu.expense.testutil.ExpenseBuilder;
+
+public class CategoryMatchesPredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CategoryMatchesPredicate(null));
+    }
+
+    @Test
+    public void test() {
+        CategoryMatchesPredicate predicate = new CategoryMatchesPredicate(new Tag("Food"));
+        assertTrue(predicate.test(new ExpenseBuilder().withTag("Food").build()));
+        assertFalse(predicate.test(new ExpenseBuilder().withTag("Transport").build()));
+    }
+
+    @Test
+    public void equals() {
+        CategoryMatchesPredicate predicate = new CategoryMatchesPredicate(new Tag("Food"));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new CategoryMatchesPredicate(new Tag("Food"))));
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different category -> returns false
+        assertFalse(predicate.equals(new CategoryMatchesPredicate(new Tag("Transport"))));
+    }
+}
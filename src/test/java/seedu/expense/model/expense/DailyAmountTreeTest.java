@@ -0,0 +1,125 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DailyAmountTreeTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 2, 1);
+
+    private final DailyAmountTree tree = new DailyAmountTree();
+
+    @Test
+    public void add_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add(null, new Amount("1")));
+    }
+
+    @Test
+    public void total_noAmounts_returnsZero() {
+        assertEquals(Amount.zeroAmount(), tree.total(DateRange.ALL_DATES));
+    }
+
+    @Test
+    public void total_dateRanges_returnsAmountsInRanges() {
+        tree.add(FIRST_DAY, new Amount("1"));
+        tree.add(FIRST_DAY, new Amount("2.50"));
+        tree.add(FIRST_DAY.plusDays(1), new Amount("4"));
+        tree.add(FIRST_DAY.plusDays(29), new Amount("8"));
+
+        assertEquals(new Amount("3.50"), tree.total(new DateRange("01-02-2020")));
+        assertEquals(new Amount("7.50"), tree.total(new DateRange("02-2020")));
+        assertEquals(new Amount("12"), tree.total(new DateRange("02-02-2020:")));
+        assertEquals(new Amount("15.50"), tree.total(DateRange.ALL_DATES));
+        assertEquals(Amount.zeroAmount(), tree.total(new DateRange("2019")));
+    }
+
+    @Test
+    public void subtract_addedAmount_removedFromTotals() {
+        tree.add(FIRST_DAY, new Amount("1"));
+        tree.add(FIRST_DAY, new Amount("2"));
+        tree.subtract(FIRST_DAY, new Amount("1"));
+
+        assertEquals(new Amount("2"), tree.total(new DateRange("01-02-2020")));
+        assertEquals(new Amount("2"), tree.total(DateRange.ALL_DATES));
+    }
+
+    @Test
+    public void add_datesOutsideWindow_keepsEarlierTotals() {
+        LocalDate lastYear = FIRST_DAY.minusYears(1);
+        LocalDate farFuture = FIRST_DAY.plusDays(DailyAmountTree.INITIAL_CAPACITY * 10L);
+        tree.add(FIRST_DAY, new Amount("1"));
+        tree.add(FIRST_DAY.plusDays(100), new Amount("2"));
+        tree.add(lastYear, new Amount("4"));
+        tree.add(farFuture, new Amount("8"));
+
+        assertEquals(new Amount("1"), tree.total(new DateRange(FIRST_DAY, FIRST_DAY)));
+        assertEquals(new Amount("2"), tree.total(new DateRange(FIRST_DAY.plusDays(100), FIRST_DAY.plusDays(100))));
+        assertEquals(new Amount("4"), tree.total(new DateRange(lastYear, lastYear)));
+        assertEquals(new Amount("8"), tree.total(new DateRange(farFuture, farFuture)));
+        assertEquals(new Amount("7"), tree.total(new DateRange(lastYear, FIRST_DAY.plusDays(100))));
+        assertEquals(new Amount("15"), tree.total(DateRange.ALL_DATES));
+    }
+
+    @Test
+    public void add_outlyingDate_windowStaysBounded() {
+        LocalDate outlier = LocalDate.of(1, 1, 1);
+        tree.add(FIRST_DAY, new Amount("1"));
+        tree.add(outlier, new Amount("2"));
+        tree.add(FIRST_DAY.plusDays(1), new Amount("4"));
+
+        assertEquals(DailyAmountTree.INITIAL_CAPACITY, tree.getCapacity());
+        assertEquals(new Amount("2"), tree.total(new DateRange(outlier, outlier)));
+        assertEquals(new Amount("5"), tree.total(new DateRange("02-2020")));
+        assertEquals(new Amount("7"), tree.total(DateRange.ALL_DATES));
+
+        tree.subtract(outlier, new Amount("2"));
+        assertEquals(new Amount("5"), tree.total(DateRange.ALL_DATES));
+    }
+
+    @Test
+    public void add_manyDaysAwayFromOutlyingFirstDate_windowMovedToThem() {
+        LocalDate outlier = LocalDate.of(1, 1, 1);
+        tree.add(outlier, new Amount("1"));
+        int dayCount = DailyAmountTree.MIN_OUTLYING_DAYS_TO_MOVE_WINDOW * 2;
+        for (int i = 0; i < dayCount; i++) {
+            tree.add(FIRST_DAY.plusDays(i), new Amount("2"));
+        }
+
+        assertTrue(tree.getCapacity() <= DailyAmountTree.MAX_CAPACITY);
+        assertEquals(new Amount("1"), tree.total(new DateRange(outlier, outlier)));
+        assertEquals(new Amount("4"), tree.total(new DateRange(FIRST_DAY.plusDays(10), FIRST_DAY.plusDays(11))));
+        assertEquals(Amount.fromCents(100 + 200L * dayCount), tree.total(DateRange.ALL_DATES));
+    }
+
+    @Test
+    public void total_randomDates_sameAsSumOfAmounts() {
+        Random random = new Random(17);
+        Map<LocalDate, Long> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            LocalDate date = random.nextInt(50) == 0
+                    ? LocalDate.of(1 + random.nextInt(9000), 1, 1)
+                    : FIRST_DAY.plusDays(random.nextInt(3000));
+            long cents = 1 + random.nextInt(1000);
+            tree.add(date, Amount.fromCents(cents));
+            expected.merge(date, cents, Long::sum);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            LocalDate from = LocalDate.of(1 + random.nextInt(2100), 1, 1).plusDays(random.nextInt(365));
+            LocalDate to = from.plusDays(random.nextInt(1 << random.nextInt(20)));
+            long total = expected.entrySet().stream()
+                    .filter(entry -> !entry.getKey().isBefore(from) && !entry.getKey().isAfter(to))
+                    .mapToLong(Map.Entry::getValue).sum();
+            assertEquals(Amount.fromCents(total), tree.total(new DateRange(from, to)));
+        }
+        assertTrue(tree.getCapacity() <= DailyAmountTree.MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.testutil.ExpenseBuilder;
+
+public class DateIndexTest {
+
+    private static final Expense JANUARY = new ExpenseBuilder().withDescription("January").withDate("31-01-2020")
+            .build();
+    private static final Expense FEBRUARY = new ExpenseBuilder().withDescription("February").withDate("01-02-2020")
+            .build();
+    private static final Expense FEBRUARY_AGAIN = new ExpenseBuilder().withDescription("February again")
+            .withDate("01-02-2020").build();
+    private static final Expense NEXT_YEAR = new ExpenseBuilder().withDescription("Next year").withDate("01-01-2021")
+            .build();
+
+    private final DateIndex dateIndex = new DateIndex();
+
+    @Test
+    public void add_nullExpense_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> dateIndex.add(null));
+    }
+
+    @Test
+    public void findExpenses_dateRanges_returnsExpensesInRanges() {
+        Arrays.asList(JANUARY, FEBRUARY, FEBRUARY_AGAIN, NEXT_YEAR).forEach(dateIndex::add);
+
+        assertEquals(new HashSet<>(Arrays.asList(FEBRUARY, FEBRUARY_AGAIN)),
+                dateIndex.findExpenses(Collections.singletonList(new DateRange("02-2020"))));
+        assertEquals(new HashSet<>(Arrays.asList(JANUARY, FEBRUARY, FEBRUARY_AGAIN)),
+                dateIndex.findExpenses(Collections.singletonList(new DateRange("2020"))));
+        assertEquals(new HashSet<>(Arrays.asList(JANUARY, NEXT_YEAR)),
+                dateIndex.findExpenses(Arrays.asList(new DateRange("31-01-2020"), new DateRange("02-02-2020:"))));
+        assertTrue(dateIndex.findExpenses(Collections.singletonList(new DateRange("03-2020"))).isEmpty());
+    }
+
+    @Test
+    public void toPredicate_indexChanged_tracksIndex() {
+        dateIndex.add(FEBRUARY);
+        Predicate<Expense> predicate = dateIndex.toPredicate(Collections.singletonList(new DateRange("02-2020")));
+        assertTrue(predicate.test(FEBRUARY));
+        assertFalse(predicate.test(FEBRUARY_AGAIN));
+
+        dateIndex.add(FEBRUARY_AGAIN);
+        assertTrue(predicate.test(FEBRUARY_AGAIN));
+
+        dateIndex.remove(FEBRUARY);
+        assertFalse(predicate.test(FEBRUARY));
+        assertTrue(predicate.test(FEBRUARY_AGAIN));
+    }
+}
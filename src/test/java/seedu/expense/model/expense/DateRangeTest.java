@@ -0,0 +1,82 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class DateRangeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DateRange(null));
+    }
+
+    @Test
+    public void constructor_invalidDateRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DateRange("31-02-2020"));
+        assertThrows(IllegalArgumentException.class, () -> new DateRange(LocalDate.of(2020, 2, 2),
+                LocalDate.of(2020, 2, 1)));
+    }
+
+    @Test
+    public void isValidDateRange() {
+        // invalid date ranges
+        assertFalse(DateRange.isValidDateRange("")); // empty string
+        assertFalse(DateRange.isValidDateRange(":")); // no dates
+        assertFalse(DateRange.isValidDateRange("13-2020")); // month does not exist
+        assertFalse(DateRange.isValidDateRange("20")); // year not in 4 digits
+        assertFalse(DateRange.isValidDateRange("2020-01-01")); // wrong date format
+        assertFalse(DateRange.isValidDateRange("01-02-2020:31-01-2020")); // from after to
+        assertFalse(DateRange.isValidDateRange("01-02-2020:02-2020")); // month as range end
+        assertFalse(DateRange.isValidDateRange("01-01-2020:02-01-2020:03-01-2020")); // more than two ends
+
+        // valid date ranges
+        assertTrue(DateRange.isValidDateRange("29-02-2020")); // single date
+        assertTrue(DateRange.isValidDateRange("02-2020")); // month
+        assertTrue(DateRange.isValidDateRange("2020")); // year
+        assertTrue(DateRange.isValidDateRange("01-02-2020:01-02-2020")); // one-day range
+        assertTrue(DateRange.isValidDateRange("01-02-2020:")); // no end
+        assertTrue(DateRange.isValidDateRange(":01-02-2020")); // no start
+    }
+
+    @Test
+    public void constructor_validDateRange_coversDates() {
+        assertEquals(new DateRange(LocalDate.of(2020, 2, 29), LocalDate.of(2020, 2, 29)),
+                new DateRange("29-02-2020"));
+        assertEquals(new DateRange(LocalDate.of(2020, 2, 1), LocalDate.of(2020, 2, 29)), new DateRange("02-2020"));
+        assertEquals(new DateRange(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31)), new DateRange("2021"));
+        assertEquals(new DateRange(LocalDate.MIN, LocalDate.of(2020, 2, 1)), new DateRange(":01-02-2020"));
+    }
+
+    @Test
+    public void contains() {
+        DateRange dateRange = new DateRange("02-2020");
+        assertTrue(dateRange.contains(LocalDate.of(2020, 2, 1)));
+        assertTrue(dateRange.contains(LocalDate.of(2020, 2, 29)));
+        assertFalse(dateRange.contains(LocalDate.of(2020, 1, 31)));
+        assertFalse(dateRange.contains(LocalDate.of(2020, 3, 1)));
+        assertTrue(new DateRange("01-02-2020:").contains(LocalDate.of(9999, 12, 31)));
+    }
+
+    @Test
+    public void equals() {
+        DateRange dateRange = new DateRange("01-02-2020:29-02-2020");
+
+        // same values -> returns true
+        assertTrue(dateRange.equals(new DateRange("02-2020")));
+
+        // same object -> returns true
+        assertTrue(dateRange.equals(dateRange));
+
+        // null -> returns false
+        assertFalse(dateRange.equals(null));
+
+        // different values -> returns false
+        assertFalse(dateRange.equals(new DateRange("2020")));
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.testutil.ExpenseBuilder;
+
+public class DescriptionIndexTest {
+
+    private static final Expense LUNCH = new ExpenseBuilder().withDescription("Lunch at YIH").build();
+    private static final Expense BRUNCH = new ExpenseBuilder().withDescription("Sunday brunch").build();
+    private static final Expense TAXI = new ExpenseBuilder().withDescription("Taxi home").build();
+
+    private final DescriptionIndex descriptionIndex = new DescriptionIndex();
+
+    @Test
+    public void add_nullExpense_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> descriptionIndex.add(null));
+    }
+
+    @Test
+    public void findExpenses_partOfWord_returnsMatchingExpenses() {
+        descriptionIndex.add(LUNCH);
+        descriptionIndex.add(BRUNCH);
+        descriptionIndex.add(TAXI);
+
+        assertEquals(new HashSet<>(Arrays.asList(LUNCH, BRUNCH)),
+                descriptionIndex.findExpenses(Collections.singletonList("unch")));
+        assertEquals(Collections.singleton(TAXI), descriptionIndex.findExpenses(Collections.singletonList("HOME")));
+        assertEquals(new HashSet<>(Arrays.asList(LUNCH, TAXI)),
+                descriptionIndex.findExpenses(Arrays.asList("yih", "tax")));
+    }
+
+    @Test
+    public void findExpenses_noMatchingWord_returnsEmptySet() {
+        descriptionIndex.add(LUNCH);
+
+        // keyword spans two words
+        assertTrue(descriptionIndex.findExpenses(Collections.singletonList("lunchat")).isEmpty());
+        assertTrue(descriptionIndex.findExpenses(Collections.singletonList("dinner")).isEmpty());
+        assertTrue(descriptionIndex.findExpenses(Collections.singletonList(" ")).isEmpty());
+        assertTrue(descriptionIndex.findExpenses(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void remove_expenseSharingWords_otherExpenseStillFound() {
+        descriptionIndex.add(LUNCH);
+        descriptionIndex.add(BRUNCH);
+        descriptionIndex.remove(LUNCH);
+
+        assertEquals(Collections.singleton(BRUNCH), descriptionIndex.findExpenses(Collections.singletonList("unch")));
+        assertTrue(descriptionIndex.findExpenses(Collections.singletonList("yih")).isEmpty());
+    }
+
+    @Test
+    public void toPredicate_indexChanged_tracksIndex() {
+        descriptionIndex.add(LUNCH);
+        Predicate<Expense> predicate = descriptionIndex.toPredicate(Collections.singletonList("unch"));
+        assertTrue(predicate.test(LUNCH));
+        assertFalse(predicate.test(TAXI));
+
+        descriptionIndex.add(TAXI);
+        assertFalse(predicate.test(TAXI));
+        descriptionIndex.add(BRUNCH);
+        assertTrue(predicate.test(BRUNCH));
+
+        descriptionIndex.remove(LUNCH);
+        assertFalse(predicate.test(LUNCH));
+    }
+
+    @Test
+    public void findExpenses_randomDescriptions_sameAsDescriptionPredicate() {
+        Random random = new Random(14);
+        String[] words = {"lunch", "Brunch", "TAXI", "taxing", "coffee", "cafe", "bus", "busy", "a", "ab"};
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            StringBuilder description = new StringBuilder(words[random.nextInt(words.length)]);
+            for (int j = random.nextInt(3); j > 0; j--) {
+                description.append(' ').append(words[random.nextInt(words.length)]);
+            }
+            Expense expense = new ExpenseBuilder().withDescription(description.toString())
+                    .withAmount(String.valueOf(i)).build();
+            expenses.add(expense);
+            descriptionIndex.add(expense);
+        }
+        for (int i = 0; i < 200; i += 3) {
+            descriptionIndex.remove(expenses.get(i));
+        }
+
+        for (String keyword : Arrays.asList("unch", "tax", "B", "a", "xi", "coffee", "usy", "zzz")) {
+            List<String> keywords = Collections.singletonList(keyword);
+            DescriptionContainsKeywordsPredicate predicate = new DescriptionContainsKeywordsPredicate(keywords);
+            Set<Expense> expected = new HashSet<>();
+            for (int i = 0; i < expenses.size(); i++) {
+                if (i % 3 != 0 && predicate.test(expenses.get(i))) {
+                    expected.add(expenses.get(i));
+                }
+            }
+            assertEquals(expected, descriptionIndex.findExpenses(keywords), keyword);
+        }
+    }
+
+    @Test
+    public void findExpenses_interleavedChanges_sameAsDescriptionPredicate() {
+        Random random = new Random(140);
+        String[] words = {"lunch", "brunch", "taxi", "taxing", "cafe", "bus", "busy", "a", "ab", "abba", "bab"};
+        String[] keywords = {"unch", "tax", "b", "a", "ab", "ba", "s", "zzz"};
+        List<Expense> indexed = new ArrayList<>();
+        for (int step = 0; step < 600; step++) {
+            if (!indexed.isEmpty() && random.nextInt(3) == 0) {
+                descriptionIndex.remove(indexed.remove(random.nextInt(indexed.size())));
+            } else {
+                String description = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                Expense expense = new ExpenseBuilder().withDescription(description)
+                        .withAmount(String.valueOf(step)).build();
+                indexed.add(expense);
+                descriptionIndex.add(expense);
+            }
+
+            if (step % 7 == 0) {
+                List<String> keyword = Collections.singletonList(keywords[random.nextInt(keywords.length)]);
+                DescriptionContainsKeywordsPredicate predicate = new DescriptionContainsKeywordsPredicate(keyword);
+                Set<Expense> expected = new HashSet<>();
+                indexed.stream().filter(predicate).forEach(expected::add);
+                assertEquals(expected, descriptionIndex.findExpenses(keyword), keyword.toString());
+            }
+        }
+    }
+}
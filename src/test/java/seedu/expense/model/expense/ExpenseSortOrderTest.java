@@ -0,0 +1,77 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.testutil.ExpenseBuilder;
+
+public class ExpenseSortOrderTest {
+
+    private static final Expense LUNCH = new ExpenseBuilder().withDescription("Lunch").withAmount("12")
+            .withDate("01-02-2020").build();
+    private static final Expense DINNER = new ExpenseBuilder().withDescription("Dinner").withAmount("12")
+            .withDate("02-02-2020").build();
+    private static final Expense BREAKFAST = new ExpenseBuilder().withDescription("breakfast").withAmount("4")
+            .withDate("02-02-2020").build();
+
+    @Test
+    public void constructor_noActiveKeys_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpenseSortOrder(
+                Collections.singletonList(new DateComparator(false, false, -1))));
+    }
+
+    @Test
+    public void getKeys_activeKeysInSortIndexOrder() {
+        SortKeyComparator amount = new AmountComparator(true, false, 1);
+        SortKeyComparator date = new DateComparator(true, true, 0);
+        ExpenseSortOrder order = new ExpenseSortOrder(Arrays.asList(amount,
+                new DescriptionComparator(false, false, -1), date));
+        assertEquals(Arrays.asList(date, amount), order.getKeys());
+    }
+
+    @Test
+    public void compare_multipleKeys_laterKeysBreakTies() {
+        ExpenseSortOrder order = new ExpenseSortOrder(Arrays.asList(new AmountComparator(true, true, 0),
+                new DateComparator(true, false, 1)));
+        assertTrue(order.compare(LUNCH, DINNER) < 0);
+        assertTrue(order.compare(DINNER, BREAKFAST) < 0);
+        assertEquals(0, order.compare(LUNCH, LUNCH));
+
+        ExpenseSortOrder descriptionOrder = new ExpenseSortOrder(Collections.singletonList(
+                new DescriptionComparator(true, false, 0)));
+        assertTrue(descriptionOrder.compare(BREAKFAST, DINNER) < 0);
+    }
+
+    @Test
+    public void equals() {
+        ExpenseSortOrder order = new ExpenseSortOrder(Arrays.asList(new AmountComparator(true, true, 0),
+                new DateComparator(true, false, 1)));
+
+        // same keys with other sort indexes and inactive keys -> returns true
+        ExpenseSortOrder sameOrder = new ExpenseSortOrder(Arrays.asList(new DateComparator(true, false, 5),
+                new DescriptionComparator(false, true, -1), new AmountComparator(true, true, 2)));
+        assertTrue(order.equals(sameOrder));
+        assertEquals(order.hashCode(), sameOrder.hashCode());
+
+        // same object -> returns true
+        assertTrue(order.equals(order));
+
+        // null -> returns false
+        assertFalse(order.equals(null));
+
+        // a key reversed differently -> returns false
+        assertFalse(order.equals(new ExpenseSortOrder(Arrays.asList(new AmountComparator(true, false, 0),
+                new DateComparator(true, false, 1)))));
+
+        // keys in another order -> returns false
+        assertFalse(order.equals(new ExpenseSortOrder(Arrays.asList(new AmountComparator(true, true, 1),
+                new DateComparator(true, false, 0)))));
+    }
+}
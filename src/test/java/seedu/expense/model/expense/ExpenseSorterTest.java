@@ -0,0 +1,109 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expense.model.ExpenseBook.DEFAULT_TAG;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.testutil.ExpenseBuilder;
+
+public class ExpenseSorterTest {
+
+    private static final Expense LUNCH = new ExpenseBuilder().withDescription("Lunch").withAmount("12")
+            .withDate("01-02-2020").build();
+    private static final Expense DINNER = new ExpenseBuilder().withDescription("Dinner").withAmount("12")
+            .withDate("02-02-2020").build();
+    private static final Expense BREAKFAST = new ExpenseBuilder().withDescription("breakfast").withAmount("4")
+            .withDate("02-02-2020").build();
+    private static final Expense LATE_LUNCH = new ExpenseBuilder().withDescription("lunch").withAmount("-3")
+            .withDate("01-01-2019").build();
+
+    private final ExpenseSorter sorter = new ExpenseSorter();
+
+    @Test
+    public void sort_singleKey_sortedByKey() {
+        List<Expense> expenses = Arrays.asList(LUNCH, DINNER, BREAKFAST, LATE_LUNCH);
+        assertEquals(Arrays.asList(LATE_LUNCH, BREAKFAST, LUNCH, DINNER),
+                sort(expenses, orderOf(new AmountComparator(true, false, 0))));
+        assertEquals(Arrays.asList(DINNER, BREAKFAST, LUNCH, LATE_LUNCH),
+                sort(expenses, orderOf(new DateComparator(true, true, 0))));
+        // descriptions that differ only in case keep their order
+        assertEquals(Arrays.asList(BREAKFAST, DINNER, LUNCH, LATE_LUNCH),
+                sort(expenses, orderOf(new DescriptionComparator(true, false, 0))));
+    }
+
+    @Test
+    public void sort_multipleKeys_laterKeysBreakTies() {
+        List<Expense> expenses = Arrays.asList(LUNCH, DINNER, BREAKFAST, LATE_LUNCH);
+        assertEquals(Arrays.asList(DINNER, BREAKFAST, LUNCH, LATE_LUNCH), sort(expenses,
+                orderOf(new DateComparator(true, true, 0), new AmountComparator(true, true, 1))));
+        assertEquals(Arrays.asList(LATE_LUNCH, LUNCH, DINNER, BREAKFAST), sort(expenses,
+                orderOf(new DescriptionComparator(true, true, 1), new DateComparator(true, false, 0))));
+    }
+
+    @Test
+    public void sort_expensesReorderedOrChanged_matchesComparatorSort() {
+        Random random = new Random(21);
+        List<Expense> expenses = new ArrayList<>();
+        LocalDate firstDate = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 500; i++) {
+            expenses.add(new Expense(new Description((random.nextBoolean() ? "Item " : "item ") + random.nextInt(40)),
+                    Amount.fromCents(random.nextInt(2000) - 500), Date.fromLocalDate(firstDate.plusDays(
+                    random.nextInt(60))), new Remark(""), DEFAULT_TAG));
+        }
+        ExpenseSortOrder byDate = orderOf(new DateComparator(true, false, 0),
+                new DescriptionComparator(true, true, 1));
+        ExpenseSortOrder byAmount = orderOf(new AmountComparator(true, true, 0),
+                new DescriptionComparator(true, false, 1), new DateComparator(true, false, 2));
+
+        assertSortedLike(expenses, byDate);
+        List<Expense> reordered = sort(expenses, byAmount);
+        assertSortedLike(expenses, byAmount);
+        assertSortedLike(reordered, byDate);
+
+        Collections.shuffle(reordered, random);
+        reordered.set(0, new ExpenseBuilder().withDescription("ITEM 3").withAmount("1.23").build());
+        assertSortedLike(reordered, byAmount);
+    }
+
+    @Test
+    public void sort_equalOrderAgain_tiesKeepCurrentOrder() {
+        List<Expense> expenses = Arrays.asList(LUNCH, DINNER, BREAKFAST, LATE_LUNCH);
+        List<Expense> sortedByDate = sort(expenses, orderOf(new DateComparator(true, false, 0)));
+        assertEquals(Arrays.asList(LATE_LUNCH, LUNCH, DINNER, BREAKFAST), sortedByDate);
+        List<Expense> sortedByAmount = sort(sortedByDate, orderOf(new AmountComparator(true, false, 0)));
+
+        // an equal order reuses the ranks, and expenses that it orders the same still keep their current order
+        assertEquals(Arrays.asList(LATE_LUNCH, LUNCH, BREAKFAST, DINNER), sort(sortedByAmount,
+                orderOf(new DateComparator(true, false, 3))));
+        assertEquals(sortedByDate, sort(expenses, orderOf(new DateComparator(true, false, 1))));
+    }
+
+    private void assertSortedLike(List<Expense> expenses, ExpenseSortOrder order) {
+        List<Expense> expected = new ArrayList<>(expenses);
+        expected.sort(order);
+        assertEquals(expected, sort(expenses, order));
+    }
+
+    /**
+     * Returns {@code expenses} in the order that {@code sorter} sorts them in.
+     */
+    private List<Expense> sort(List<Expense> expenses, ExpenseSortOrder order) {
+        List<Expense> sorted = new ArrayList<>();
+        for (int sourceIndex : sorter.sort(expenses, order)) {
+            sorted.add(expenses.get(sourceIndex));
+        }
+        return sorted;
+    }
+
+    private static ExpenseSortOrder orderOf(SortKeyComparator... keys) {
+        return new ExpenseSortOrder(Arrays.asList(keys));
+    }
+}
@@ -0,0 +1,291 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.expense.commons.core.Config;
+import seedu.expense.testutil.SyntheticExpenses;
+
+public class IncrementalFilteredListTest {
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList();
+    private final IncrementalFilteredList<Integer> filteredList = new IncrementalFilteredList<>(source);
+    // rebuilt from the changes fired by filteredList, to check that they are right
+    private final List<Integer> mirror = new ArrayList<>();
+    private final List<Integer> tested = new ArrayList<>();
+
+    public IncrementalFilteredListTest() {
+        filteredList.addListener(this::applyToMirror);
+    }
+
+    @Test
+    public void setPredicate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> filteredList.setPredicate(null));
+        assertThrows(NullPointerException.class, () -> filteredList.narrowPredicate(null));
+    }
+
+    @Test
+    public void setPredicate_testsEverySourceElement() {
+        source.addAll(1, 2, 3, 4, 5, 6);
+        filteredList.setPredicate(recording(i -> i % 2 == 0));
+
+        assertEquals(List.of(2, 4, 6), filteredList);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), tested);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void narrowPredicate_testsOnlyShownElements() {
+        source.addAll(1, 2, 3, 4, 5, 6);
+        filteredList.setPredicate(i -> i % 2 == 0);
+        filteredList.narrowPredicate(recording(i -> i % 2 == 0 && i > 2));
+
+        assertEquals(List.of(4, 6), filteredList);
+        assertEquals(List.of(2, 4, 6), tested);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void setPredicate_recentPredicate_testsNoElements() {
+        source.addAll(1, 2, 3, 4, 5, 6);
+        Predicate<Integer> isEven = recording(i -> i % 2 == 0);
+        filteredList.setPredicate(isEven);
+        filteredList.setPredicate(i -> true);
+        tested.clear();
+
+        filteredList.setPredicate(isEven);
+        assertEquals(List.of(2, 4, 6), filteredList);
+        assertEquals(List.of(), tested);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void setPredicate_recentPredicateAfterSourceChanged_testsEverySourceElement() {
+        source.addAll(1, 2, 3, 4);
+        Predicate<Integer> isEven = recording(i -> i % 2 == 0);
+        filteredList.setPredicate(isEven);
+        filteredList.setPredicate(i -> true);
+        source.add(8);
+        tested.clear();
+
+        filteredList.setPredicate(isEven);
+        assertEquals(List.of(2, 4, 8), filteredList);
+        assertEquals(List.of(1, 2, 3, 4, 8), tested);
+    }
+
+    @Test
+    public void setPredicate_firesOnlyTheDifference() {
+        source.addAll(1, 2, 3, 4, 5, 6);
+        filteredList.setPredicate(i -> i <= 4);
+        List<String> changes = new ArrayList<>();
+        filteredList.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "+" + change.getAddedSubList());
+            }
+        });
+
+        filteredList.setPredicate(i -> i >= 2 && i <= 5);
+        assertEquals(List.of("0:[1]+[]", "3:[]+[5]"), changes);
+    }
+
+    @Test
+    public void constructor_parallelThresholdNotPositive_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalFilteredList<>(source, 0));
+    }
+
+    @Test
+    public void constructor_noParallelThreshold_defaultThreshold() {
+        assertEquals(Config.DEFAULT_PARALLEL_FILTER_THRESHOLD, filteredList.getParallelThreshold());
+        assertEquals(7, new IncrementalFilteredList<>(source, 7).getParallelThreshold());
+    }
+
+    @Test
+    public void setPredicate_sourceAtParallelThreshold_filteredInParallel() {
+        Random random = new Random(25);
+        for (int i = 0; i < 10 * IncrementalFilteredList.PARALLEL_CHUNK_SIZE; i++) {
+            source.add(random.nextInt(1000));
+        }
+        Predicate<Integer> predicate = i -> i % 7 == 0;
+
+        IncrementalFilteredList<Integer> parallelList = new IncrementalFilteredList<>(source, source.size());
+        parallelList.addListener(this::applyToMirror);
+        mirror.clear();
+        mirror.addAll(parallelList);
+        parallelList.setPredicate(predicate);
+
+        List<Integer> expected = source.stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expected, parallelList);
+        assertEquals(expected, mirror);
+    }
+
+    @Test
+    public void setPredicate_findAboveParallelThresholdFailingFirstTerm_everyTermPreparedBeforeTesting() {
+        AtomicInteger testCount = new AtomicInteger();
+        Set<Expense> oddExpenses = new HashSet<>() {
+            @Override
+            public boolean contains(Object expense) {
+                testCount.incrementAndGet();
+                return super.contains(expense);
+            }
+        };
+        Set<Expense> everyThirdExpense = new HashSet<>();
+        ObservableList<Expense> expenses = FXCollections.observableArrayList(
+                SyntheticExpenses.getExpenses(10 * IncrementalFilteredList.PARALLEL_CHUNK_SIZE));
+        for (int i = 0; i < expenses.size(); i++) {
+            Expense expense = expenses.get(i);
+            if (i % 2 == 1) {
+                oddExpenses.add(expense);
+            }
+            if (i % 3 == 0) {
+                everyThirdExpense.add(expense);
+            }
+        }
+        // the first expense fails the first term, so testing it does not reach the second term
+        List<String> lookups = Collections.synchronizedList(new ArrayList<>());
+        Predicate<Expense> isOdd = new IndexedPredicate(() -> {
+            lookups.add(Thread.currentThread().getName() + " after " + testCount.get() + " tests");
+            return oddExpenses;
+        }, () -> 0);
+        Predicate<Expense> isEveryThird = new IndexedPredicate(() -> {
+            lookups.add(Thread.currentThread().getName() + " after " + testCount.get() + " tests");
+            return everyThirdExpense;
+        }, () -> 0);
+        MatchesAllPredicate find = new MatchesAllPredicate().and(oddExpenses::contains, isOdd)
+                .and(everyThirdExpense::contains, isEveryThird);
+
+        IncrementalFilteredList<Expense> parallelList = new IncrementalFilteredList<>(expenses, expenses.size());
+        parallelList.setPredicate(find);
+
+        String prepared = Thread.currentThread().getName() + " after 0 tests";
+        assertEquals(List.of(prepared, prepared), lookups);
+        assertEquals(expenses.stream().filter(expense -> oddExpenses.contains(expense)
+                && everyThirdExpense.contains(expense)).collect(Collectors.toList()), parallelList);
+    }
+
+    @Test
+    public void filterInParallel_manyThreads_sameAsSequential() {
+        Random random = new Random(26);
+        Object[] snapshot = new Object[3 * IncrementalFilteredList.PARALLEL_CHUNK_SIZE + 17];
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < snapshot.length; i++) {
+            int element = random.nextInt(1000);
+            snapshot[i] = element;
+            if (element % 2 == 0) {
+                expected.add(i);
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int[] result = IncrementalFilteredList.<Integer>filterInParallel(snapshot, i -> i % 2 == 0, pool);
+            assertEquals(expected, Arrays.stream(result).boxed().collect(Collectors.toList()));
+            assertEquals(0, IncrementalFilteredList.<Integer>filterInParallel(new Object[0], i -> true, pool).length);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_matchesPredicate() {
+        Random random = new Random(24);
+        Predicate<Integer> predicate = i -> i % 3 != 0;
+        for (int step = 0; step < 2000; step++) {
+            switch (random.nextInt(7)) {
+            case 0:
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+                break;
+            case 1:
+                if (!source.isEmpty()) {
+                    int from = random.nextInt(source.size());
+                    source.remove(from, from + random.nextInt(source.size() - from) / 4 + 1);
+                }
+                break;
+            case 2:
+                if (!source.isEmpty()) {
+                    source.set(random.nextInt(source.size()), random.nextInt(100));
+                }
+                break;
+            case 3:
+                FXCollections.sort(source,
+                        random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+                break;
+            case 4:
+                int modulus = random.nextInt(5) + 2;
+                predicate = i -> i % modulus != 0;
+                filteredList.setPredicate(predicate);
+                break;
+            case 5:
+                int limit = random.nextInt(100);
+                Predicate<Integer> wider = predicate;
+                predicate = i -> wider.test(i) && i < limit;
+                filteredList.narrowPredicate(predicate);
+                break;
+            default:
+                List<Integer> added = new ArrayList<>();
+                for (int i = random.nextInt(20); i > 0; i--) {
+                    added.add(random.nextInt(100));
+                }
+                source.addAll(random.nextInt(source.size() + 1), added);
+                break;
+            }
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < source.size(); i++) {
+                if (predicate.test(source.get(i))) {
+                    expected.add(source.get(i));
+                    assertEquals(expected.size() - 1, filteredList.getViewIndex(i));
+                }
+            }
+            assertEquals(expected, filteredList);
+            assertEquals(expected, mirror);
+        }
+    }
+
+    /**
+     * Returns {@code predicate}, recording each element it tests in {@code tested}.
+     */
+    private Predicate<Integer> recording(Predicate<Integer> predicate) {
+        return i -> {
+            tested.add(i);
+            return predicate.test(i);
+        };
+    }
+
+    private void applyToMirror(ListChangeListener.Change<? extends Integer> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Integer> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror.clear();
+                mirror.addAll(permuted);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    mirror.set(i, change.getList().get(i));
+                }
+            } else {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.testutil.ExpenseBuilder;
+
+public class MatchesAllPredicateTest {
+
+    private final DescriptionContainsKeywordsPredicate lunch =
+            new DescriptionContainsKeywordsPredicate(Collections.singletonList("lunch"));
+    private final DateMatchesPredicate february = new DateMatchesPredicate(Collections.singletonList("02-2020"));
+
+    @Test
+    public void and_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MatchesAllPredicate().and(null, lunch));
+        assertThrows(NullPointerException.class, () -> new MatchesAllPredicate().and(lunch, null));
+    }
+
+    @Test
+    public void test() {
+        MatchesAllPredicate predicate = new MatchesAllPredicate().and(lunch, lunch).and(february, february);
+        assertTrue(predicate.test(new ExpenseBuilder().withDescription("Lunch").withDate("18-02-2020").build()));
+        assertFalse(predicate.test(new ExpenseBuilder().withDescription("Lunch").withDate("18-03-2020").build()));
+        assertFalse(predicate.test(new ExpenseBuilder().withDescription("Dinner").withDate("18-02-2020").build()));
+
+        // no terms -> matches everything
+        assertTrue(new MatchesAllPredicate().test(new ExpenseBuilder().build()));
+
+        // the term is tested by its test, not its key
+        assertFalse(new MatchesAllPredicate().and(lunch, expense -> false)
+                .test(new ExpenseBuilder().withDescription("Lunch").build()));
+    }
+
+    @Test
+    public void isNarrowerThan() {
+        MatchesAllPredicate lunchOnly = new MatchesAllPredicate().and(lunch, lunch);
+        MatchesAllPredicate lunchInFebruary = lunchOnly.and(february, february);
+
+        assertTrue(lunchInFebruary.isNarrowerThan(lunchOnly));
+        assertTrue(lunchOnly.isNarrowerThan(lunchOnly));
+        assertTrue(lunchOnly.isNarrowerThan(new MatchesAllPredicate()));
+        assertFalse(lunchOnly.isNarrowerThan(lunchInFebruary));
+        assertFalse(new MatchesAllPredicate().and(february, february).isNarrowerThan(lunchOnly));
+    }
+
+    @Test
+    public void equals() {
+        MatchesAllPredicate predicate = new MatchesAllPredicate().and(lunch, lunch).and(february, february);
+
+        // same keys, in any order and with other tests -> returns true
+        MatchesAllPredicate sameKeys = new MatchesAllPredicate().and(february, expense -> true)
+                .and(new DescriptionContainsKeywordsPredicate(Collections.singletonList("lunch")), lunch);
+        assertTrue(predicate.equals(sameKeys));
+        assertEquals(predicate.hashCode(), sameKeys.hashCode());
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different keys -> returns false
+        assertFalse(predicate.equals(new MatchesAllPredicate().and(lunch, lunch)));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.expense.model.expense;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import seedu.expense.testutil.SyntheticExpenses;
+
+/**
+ * Filters {@code ROW_COUNT} expenses with a predicate that no index answers, on the calling thread and then in
+ * parallel on fork/join pools of 1 to 16 threads, and reports the median time taken and the speedup over the calling
+ * thread for each.
+ * <p>
+ * This is not a test, as it takes a while and its results depend on the machine. Run it with
+ * {@code gradlew filterBenchmark}.
+ */
+public class ParallelFilterBenchmark {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+    private static final int WARM_UP_RUNS = 5;
+    private static final int MEASURED_RUNS = 15;
+
+    /**
+     * Runs the benchmark and prints its results.
+     */
+    public static void main(String[] args) {
+        Object[] snapshot = SyntheticExpenses.getExpenses(ROW_COUNT).toArray();
+        Predicate<Expense> predicate = new DescriptionContainsKeywordsPredicate(List.of("lunch", "taxi"));
+
+        System.out.printf("Filtering %d expenses on %d available processors%n", ROW_COUNT,
+                Runtime.getRuntime().availableProcessors());
+        long sequentialNanos = measure(() -> filterSequentially(snapshot, predicate));
+        System.out.printf("Calling thread: %8.2f ms%n", sequentialNanos / 1e6);
+
+        for (int threadCount : THREAD_COUNTS) {
+            ForkJoinPool pool = new ForkJoinPool(threadCount);
+            try {
+                long nanos = measure(() -> IncrementalFilteredList.filterInParallel(snapshot, predicate, pool));
+                System.out.printf("%2d threads:    %8.2f ms, %5.2fx%n", threadCount, nanos / 1e6,
+                        (double) sequentialNanos / nanos);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Returns the median time taken by {@code filter}, after it has been run enough for the JIT to compile it.
+     */
+    private static long measure(Runnable filter) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            filter.run();
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            filter.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[MEASURED_RUNS / 2];
+    }
+
+    private static int filterSequentially(Object[] snapshot, Predicate<Expense> predicate) {
+        int count = 0;
+        for (Object expense : snapshot) {
+            if (predicate.test((Expense) expense)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
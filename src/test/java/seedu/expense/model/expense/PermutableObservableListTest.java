@@ -0,0 +1,100 @@
+package seedu.expense.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class PermutableObservableListTest {
+
+    private final PermutableObservableList<String> list = new PermutableObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    public PermutableObservableListTest() {
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    List<Integer> permutation = new ArrayList<>();
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        permutation.add(change.getPermutation(i));
+                    }
+                    changes.add("permutated " + permutation);
+                } else {
+                    changes.add(change.getFrom() + ":" + change.getRemoved() + "+" + change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void permute_validPermutation_reorderedInOneChange() {
+        list.addAll(List.of("a", "b", "c", "d"));
+        changes.clear();
+
+        list.permute(new int[] {2, 0, 3, 1});
+        assertEquals(List.of("c", "a", "d", "b"), list);
+        assertEquals(List.of("permutated [1, 3, 0, 2]"), changes);
+    }
+
+    @Test
+    public void permute_identity_noChange() {
+        list.addAll(List.of("a", "b"));
+        changes.clear();
+
+        list.permute(new int[] {0, 1});
+        assertEquals(List.of("a", "b"), list);
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void permute_invalidPermutation_throwsIllegalArgumentException() {
+        list.addAll(List.of("a", "b", "c"));
+        assertThrows(IllegalArgumentException.class, () -> list.permute(new int[] {0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> list.permute(new int[] {0, 1, 1}));
+        assertThrows(IllegalArgumentException.class, () -> list.permute(new int[] {0, 1, 3}));
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void sort_equalElements_keepTheirOrder() {
+        list.addAll(List.of("bb", "a", "cc", "b", "aa"));
+        changes.clear();
+
+        list.sort(Comparator.comparingInt(String::length));
+        assertEquals(List.of("a", "b", "bb", "cc", "aa"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void replaceAll_someElementsReplaced_singleChange() {
+        list.addAll(List.of("a", "b", "c", "d"));
+        List<Integer> changeCounts = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> changeCounts.add(1));
+        changes.clear();
+
+        list.replaceAll(element -> element.equals("b") || element.equals("c") ? element.toUpperCase() : element);
+        assertEquals(List.of("a", "B", "C", "d"), list);
+        assertEquals(List.of(1), changeCounts);
+        assertEquals(List.of("1:[b, c]+[B, C]"), changes);
+    }
+
+    @Test
+    public void addAllAndRemove_range_singleChange() {
+        list.addAll(List.of("a", "d"));
+        list.addAll(1, List.of("b", "c"));
+        list.remove(0, 3);
+        assertEquals(List.of("d"), list);
+        assertEquals(List.of("0:[]+[a, d]", "1:[]+[b, c]", "0:[a, b, c]+[]"), changes);
+
+        changes.clear();
+        list.setAll(List.of("e", "f"));
+        assertEquals(List.of("e", "f"), list);
+        assertEquals(List.of("0:[d]+[e, f]"), changes);
+    }
+}
@@ -2,26 +2,46 @@ package seedu.expense.model.expense;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.expense.logic.commands.CommandTestUtil.VALID_TAG_TRANSPORT;
+import static seedu.expense.model.ExpenseBook.DEFAULT_TAG;
 import static seedu.expense.testutil.Assert.assertThrows;
 import static seedu.expense.testutil.TypicalExpenses.BUS;
 import static seedu.expense.testutil.TypicalExpenses.FEL_BDAY;
+import static seedu.expense.testutil.TypicalExpenses.ZARA;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.expense.model.expense.exceptions.DuplicateExpenseException;
 import seedu.expense.model.expense.exceptions.ExpenseNotFoundException;
+import seedu.expense.model.tag.Tag;
 import seedu.expense.testutil.ExpenseBuilder;
 
 public class UniqueExpenseListTest {
 
+    private static final long SET_EXPENSES_TIME_BUDGET_SECONDS = 10;
+
     private final UniqueExpenseList uniqueExpenseList = new UniqueExpenseList();
 
+    @Test
+    public void constructor_parallelFilterThreshold_usedByFilteredList() {
+        assertEquals(5, new UniqueExpenseList(5).getFilteredList().getParallelThreshold());
+        assertThrows(IllegalArgumentException.class, () -> new UniqueExpenseList(-1));
+    }
+
     @Test
     public void contains_nullExpense_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueExpenseList.contains(null));
@@ -46,6 +66,99 @@ public class UniqueExpenseListTest {
         assertTrue(uniqueExpenseList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_expenseRemovedFromList_returnsFalse() {
+        uniqueExpenseList.add(FEL_BDAY);
+        uniqueExpenseList.remove(FEL_BDAY);
+        assertFalse(uniqueExpenseList.contains(FEL_BDAY));
+    }
+
+    @Test
+    public void contains_afterSetExpensesAndSort_tracksCurrentExpenses() {
+        uniqueExpenseList.add(FEL_BDAY);
+        uniqueExpenseList.setExpenses(Arrays.asList(BUS, ZARA));
+        uniqueExpenseList.sortExpenses(new AmountComparator(true, false, 0));
+        assertFalse(uniqueExpenseList.contains(FEL_BDAY));
+        assertTrue(uniqueExpenseList.contains(BUS));
+        assertTrue(uniqueExpenseList.contains(ZARA));
+    }
+
+    @Test
+    public void sortExpenses_expensesAddedAndEditedLater_keptInSortOrder() {
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS, ZARA));
+        uniqueExpenseList.sortExpenses(new AmountComparator(true, false, 0));
+        assertEquals(Arrays.asList(BUS, ZARA, FEL_BDAY), uniqueExpenseList.asUnmodifiableObservableList());
+
+        Expense taxi = new ExpenseBuilder(BUS).withDescription("Taxi").withAmount("20").build();
+        uniqueExpenseList.add(taxi);
+        assertEquals(Arrays.asList(taxi, BUS, ZARA, FEL_BDAY), uniqueExpenseList.asUnmodifiableObservableList());
+
+        Expense coffee = new ExpenseBuilder(BUS).withDescription("Coffee").withAmount("5").build();
+        Expense dinner = new ExpenseBuilder(BUS).withDescription("Dinner").withAmount("100").build();
+        Expense busAgain = new ExpenseBuilder(BUS).withDescription("Bus again").build();
+        uniqueExpenseList.addAll(Arrays.asList(dinner, busAgain, coffee));
+        assertEquals(Arrays.asList(coffee, taxi, BUS, busAgain, ZARA, dinner, FEL_BDAY),
+                uniqueExpenseList.asUnmodifiableObservableList());
+
+        Expense expensiveZara = new ExpenseBuilder(ZARA).withAmount("200").build();
+        uniqueExpenseList.setExpense(ZARA, expensiveZara);
+        assertEquals(Arrays.asList(coffee, taxi, BUS, busAgain, dinner, FEL_BDAY, expensiveZara),
+                uniqueExpenseList.asUnmodifiableObservableList());
+        assertTrue(uniqueExpenseList.contains(expensiveZara));
+
+        uniqueExpenseList.setExpenses(Arrays.asList(FEL_BDAY, BUS));
+        assertEquals(Arrays.asList(BUS, FEL_BDAY), uniqueExpenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortExpenses_expenseSortOrder_sortedAndKeptInOrder() {
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS, ZARA));
+        uniqueExpenseList.sortExpenses(new ExpenseSortOrder(Collections.singletonList(
+                new DateComparator(true, true, 0))));
+        assertEquals(Arrays.asList(BUS, FEL_BDAY, ZARA), uniqueExpenseList.asUnmodifiableObservableList());
+
+        uniqueExpenseList.sortExpenses(new ExpenseSortOrder(Collections.singletonList(
+                new AmountComparator(true, false, 0))));
+        assertEquals(Arrays.asList(BUS, ZARA, FEL_BDAY), uniqueExpenseList.asUnmodifiableObservableList());
+
+        Expense taxi = new ExpenseBuilder(BUS).withDescription("Taxi").withAmount("100").build();
+        uniqueExpenseList.add(taxi);
+        uniqueExpenseList.sortExpenses(new ExpenseSortOrder(Collections.singletonList(
+                new DescriptionComparator(true, false, 0))));
+        assertEquals(Arrays.asList(BUS, FEL_BDAY, taxi, ZARA), uniqueExpenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortExpenses_sortedList_changesAreFineGrained() {
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS, ZARA));
+        List<String> changes = new ArrayList<>();
+        uniqueExpenseList.asUnmodifiableObservableList().addListener((ListChangeListener<Expense>) change -> {
+            while (change.next()) {
+                changes.add(change.wasPermutated() ? "permutated"
+                        : "removed " + change.getRemovedSize() + ", added " + change.getAddedSize()
+                        + " at " + change.getFrom());
+            }
+        });
+
+        uniqueExpenseList.sortExpenses(new AmountComparator(true, false, 0));
+        assertEquals(Collections.singletonList("permutated"), changes);
+
+        changes.clear();
+        Expense taxi = new ExpenseBuilder(BUS).withDescription("Taxi").withAmount("70").build();
+        uniqueExpenseList.add(taxi);
+        assertEquals(Collections.singletonList("removed 0, added 1 at 1"), changes);
+
+        changes.clear();
+        uniqueExpenseList.setExpense(taxi, new ExpenseBuilder(taxi).withTag("Food").build());
+        assertEquals(Collections.singletonList("removed 1, added 1 at 1"), changes);
+    }
+
+    @Test
+    public void contains_amountWithDifferentScale_returnsTrue() {
+        uniqueExpenseList.add(new ExpenseBuilder(FEL_BDAY).withAmount("140").build());
+        assertTrue(uniqueExpenseList.contains(new ExpenseBuilder(FEL_BDAY).withAmount("140.00").build()));
+    }
+
     @Test
     public void add_nullExpense_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueExpenseList.add(null));
@@ -57,6 +170,181 @@ public class UniqueExpenseListTest {
         assertThrows(DuplicateExpenseException.class, () -> uniqueExpenseList.add(FEL_BDAY));
     }
 
+    @Test
+    public void addAll_newExpenses_appendedInOrder() {
+        uniqueExpenseList.add(FEL_BDAY);
+        uniqueExpenseList.addAll(Arrays.asList(BUS, ZARA));
+        assertEquals(Arrays.asList(FEL_BDAY, BUS, ZARA), uniqueExpenseList.asUnmodifiableObservableList());
+        assertTrue(uniqueExpenseList.contains(ZARA));
+    }
+
+    @Test
+    public void addAll_duplicateWithinExpenses_throwsDuplicateExpenseException() {
+        assertThrows(DuplicateExpenseException.class, () -> uniqueExpenseList.addAll(Arrays.asList(BUS, BUS)));
+        assertFalse(uniqueExpenseList.contains(BUS));
+    }
+
+    @Test
+    public void addAll_expenseAlreadyInList_throwsDuplicateExpenseException() {
+        uniqueExpenseList.add(FEL_BDAY);
+        assertThrows(DuplicateExpenseException.class, () -> uniqueExpenseList.addAll(Arrays.asList(BUS, FEL_BDAY)));
+        assertFalse(uniqueExpenseList.contains(BUS));
+    }
+
+    @Test
+    public void toIndexedPredicate_expensesChangedWhileFiltered_filteredListUpdated() {
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS));
+        uniqueExpenseList.filterExpenses(uniqueExpenseList.toIndexedPredicate(
+                new DescriptionContainsKeywordsPredicate(Collections.singletonList("birthday"))));
+        assertEquals(Collections.singletonList(FEL_BDAY), uniqueExpenseList.getFilteredExpenses());
+
+        Expense birthdayBus = new ExpenseBuilder(BUS).withDescription("Bus to birthday party").build();
+        uniqueExpenseList.setExpense(BUS, birthdayBus);
+        assertEquals(Arrays.asList(FEL_BDAY, birthdayBus), uniqueExpenseList.getFilteredExpenses());
+
+        Expense renamedBirthday = new ExpenseBuilder(FEL_BDAY).withDescription("Party").build();
+        uniqueExpenseList.setExpense(FEL_BDAY, renamedBirthday);
+        assertEquals(Collections.singletonList(birthdayBus), uniqueExpenseList.getFilteredExpenses());
+    }
+
+    @Test
+    public void filterExpenses_narrowerMatchesAllPredicate_testsOnlyFilteredExpenses() {
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS, ZARA));
+        List<Expense> tested = new ArrayList<>();
+        Predicate<Expense> isNotBus = expense -> !expense.equals(BUS);
+        Predicate<Expense> isNotZara = expense -> {
+            tested.add(expense);
+            return !expense.equals(ZARA);
+        };
+        MatchesAllPredicate notBus = new MatchesAllPredicate().and(isNotBus, isNotBus);
+        uniqueExpenseList.filterExpenses(notBus);
+
+        uniqueExpenseList.filterExpenses(notBus.and(isNotZara, isNotZara));
+        assertEquals(Collections.singletonList(FEL_BDAY), uniqueExpenseList.getFilteredExpenses());
+        assertEquals(Arrays.asList(FEL_BDAY, ZARA), tested);
+
+        // not narrower than the current predicate -> every expense is tested
+        tested.clear();
+        uniqueExpenseList.filterExpenses(new MatchesAllPredicate().and(isNotZara, isNotZara));
+        assertEquals(Arrays.asList(FEL_BDAY, BUS), uniqueExpenseList.getFilteredExpenses());
+        assertEquals(Arrays.asList(FEL_BDAY, BUS, ZARA), tested);
+
+        // a recent predicate -> no expense is tested
+        tested.clear();
+        uniqueExpenseList.filterExpenses(notBus.and(isNotZara, isNotZara));
+        assertEquals(Collections.singletonList(FEL_BDAY), uniqueExpenseList.getFilteredExpenses());
+        assertTrue(tested.isEmpty());
+    }
+
+    @Test
+    public void getExpenses_expensesChanged_tracksCategory() {
+        Tag transport = new Tag(VALID_TAG_TRANSPORT);
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS));
+        assertEquals(Collections.singleton(BUS), uniqueExpenseList.getExpenses(transport));
+
+        Expense transportBirthday = new ExpenseBuilder(FEL_BDAY).withTag(VALID_TAG_TRANSPORT).build();
+        uniqueExpenseList.setExpense(FEL_BDAY, transportBirthday);
+        assertEquals(new HashSet<>(Arrays.asList(BUS, transportBirthday)), uniqueExpenseList.getExpenses(transport));
+        assertTrue(uniqueExpenseList.getExpenses(FEL_BDAY.getTag()).isEmpty());
+        assertEquals(BUS.getAmount().add(FEL_BDAY.getAmount()), uniqueExpenseList.tallyExpenses(transport));
+    }
+
+    @Test
+    public void tallyExpenses_dateRange_tracksExpensesInRange() {
+        Tag transport = new Tag(VALID_TAG_TRANSPORT);
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS, ZARA));
+        assertEquals(FEL_BDAY.getAmount().add(ZARA.getAmount()),
+                uniqueExpenseList.tallyExpenses(new DateRange("30-06-2020:02-07-2020")));
+        assertEquals(BUS.getAmount(), uniqueExpenseList.tallyExpenses(transport, new DateRange("2020")));
+        assertEquals(Amount.zeroAmount(), uniqueExpenseList.tallyExpenses(transport, new DateRange("07-2020")));
+
+        Expense julyBus = new ExpenseBuilder(BUS).withDate("01-07-2020").build();
+        uniqueExpenseList.setExpense(BUS, julyBus);
+        assertEquals(BUS.getAmount(), uniqueExpenseList.tallyExpenses(transport, new DateRange("07-2020")));
+        assertEquals(Amount.zeroAmount(), uniqueExpenseList.tallyExpenses(transport, new DateRange("11-2020")));
+
+        uniqueExpenseList.remove(ZARA);
+        assertEquals(Amount.zeroAmount(), uniqueExpenseList.tallyExpenses(new DateRange("06-2020")));
+    }
+
+    @Test
+    public void findTopExpenses_withAndWithoutCategory_returnsExtremesInOrder() {
+        Tag transport = new Tag(VALID_TAG_TRANSPORT);
+        Expense taxi = new ExpenseBuilder(BUS).withDescription("Taxi").withAmount("20").withDate("01-07-2020").build();
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS, ZARA, taxi));
+
+        assertEquals(Arrays.asList(FEL_BDAY, ZARA),
+                uniqueExpenseList.findTopExpenses(2, true, Optional.empty(), DateRange.ALL_DATES));
+        assertEquals(Arrays.asList(taxi, ZARA),
+                uniqueExpenseList.findTopExpenses(2, false, Optional.empty(), new DateRange(":01-07-2020")));
+        assertEquals(Arrays.asList(BUS, taxi),
+                uniqueExpenseList.findTopExpenses(5, true, Optional.of(transport), DateRange.ALL_DATES));
+        assertEquals(Collections.singletonList(taxi),
+                uniqueExpenseList.findTopExpenses(1, true, Optional.of(transport), new DateRange("07-2020")));
+        assertTrue(uniqueExpenseList.findTopExpenses(1, true, Optional.of(new Tag("Food")), DateRange.ALL_DATES)
+                .isEmpty());
+    }
+
+    @Test
+    public void toIndexedPredicate_amountRanges_matchesExpensesInRanges() {
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS, ZARA));
+        uniqueExpenseList.filterExpenses(uniqueExpenseList.toIndexedPredicate(
+                new AmountMatchesPredicate(Collections.singletonList("60:100"))));
+        assertEquals(Arrays.asList(BUS, ZARA), uniqueExpenseList.getFilteredExpenses());
+    }
+
+    @Test
+    public void resetExpenseCategory_expensesInCategory_movedToDefault() {
+        Tag transport = new Tag(VALID_TAG_TRANSPORT);
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS, ZARA));
+        uniqueExpenseList.resetExpenseCategory(transport);
+
+        assertTrue(uniqueExpenseList.getExpenses(transport).isEmpty());
+        assertEquals(Amount.zeroAmount(), uniqueExpenseList.tallyExpenses(transport));
+        assertEquals(Arrays.asList(FEL_BDAY, BUS.resetTag(), ZARA), uniqueExpenseList.asUnmodifiableObservableList());
+        assertEquals(DEFAULT_TAG, uniqueExpenseList.asUnmodifiableObservableList().get(1).getTag());
+    }
+
+    @Test
+    public void resetExpenseCategory_sortedByExpenseSortOrder_notSortedAgain() {
+        uniqueExpenseList.addAll(Arrays.asList(FEL_BDAY, BUS, ZARA));
+        uniqueExpenseList.sortExpenses(new ExpenseSortOrder(Collections.singletonList(
+                new AmountComparator(true, false, 0))));
+        List<Expense> sorted = new ArrayList<>(uniqueExpenseList.asUnmodifiableObservableList());
+        List<String> changes = new ArrayList<>();
+        uniqueExpenseList.asUnmodifiableObservableList().addListener((ListChangeListener<Expense>) change -> {
+            while (change.next()) {
+                changes.add(change.wasPermutated() ? "permutated" : "replaced at " + change.getFrom());
+            }
+        });
+
+        uniqueExpenseList.resetExpenseCategory(new Tag(VALID_TAG_TRANSPORT));
+        assertEquals(Collections.singletonList("replaced at " + sorted.indexOf(BUS)), changes);
+        assertEquals(sorted.indexOf(BUS), uniqueExpenseList.asUnmodifiableObservableList().indexOf(BUS.resetTag()));
+    }
+
+    @Test
+    public void resetExpenseCategory_manyExpensesInCategory_singleChange() {
+        Tag transport = new Tag(VALID_TAG_TRANSPORT);
+        Expense taxi = new ExpenseBuilder(BUS).withDescription("Taxi").build();
+        uniqueExpenseList.addAll(Arrays.asList(BUS, FEL_BDAY, taxi, ZARA));
+        List<Integer> changeCounts = new ArrayList<>();
+        uniqueExpenseList.asUnmodifiableObservableList().addListener((ListChangeListener<Expense>) change -> {
+            int count = 0;
+            while (change.next()) {
+                count++;
+            }
+            changeCounts.add(count);
+        });
+
+        uniqueExpenseList.resetExpenseCategory(transport);
+        // one change, with a replacement for each run of expenses in the category
+        assertEquals(List.of(2), changeCounts);
+        assertEquals(Arrays.asList(BUS.resetTag(), FEL_BDAY, taxi.resetTag(), ZARA),
+                uniqueExpenseList.asUnmodifiableObservableList());
+        assertTrue(uniqueExpenseList.getExpenses(transport).isEmpty());
+    }
+
     @Test
     public void setExpense_nullTargetExpense_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueExpenseList.setExpense(null, FEL_BDAY));
@@ -101,6 +389,14 @@ public class UniqueExpenseListTest {
         assertEquals(expectedUniqueExpenseList, uniqueExpenseList);
     }
 
+    @Test
+    public void setExpense_editedExpenseHasDifferentIdentity_updatesIdentityIndex() {
+        uniqueExpenseList.add(FEL_BDAY);
+        uniqueExpenseList.setExpense(FEL_BDAY, BUS);
+        assertFalse(uniqueExpenseList.contains(FEL_BDAY));
+        assertTrue(uniqueExpenseList.contains(BUS));
+    }
+
     @Test
     public void setExpense_editedExpenseHasNonUniqueIdentity_throwsDuplicateExpenseException() {
         uniqueExpenseList.add(FEL_BDAY);
@@ -161,9 +457,51 @@ public class UniqueExpenseListTest {
         assertThrows(DuplicateExpenseException.class, () -> uniqueExpenseList.setExpenses(listWithDuplicateExpenses));
     }
 
+    @Test
+    public void setExpenses_listWithDuplicateExpenses_reportsDuplicates() {
+        List<Expense> listWithDuplicateExpenses = Arrays.asList(FEL_BDAY, BUS, FEL_BDAY);
+        String expectedMessage = new DuplicateExpenseException(Collections.singletonList(FEL_BDAY)).getMessage();
+        assertThrows(DuplicateExpenseException.class, expectedMessage, () ->
+                uniqueExpenseList.setExpenses(listWithDuplicateExpenses));
+    }
+
+    @Test
+    public void setExpenses_oneMillionExpenses_completesWithinTimeBudget() {
+        List<Expense> expenses = getSyntheticExpenses(100);
+        assertTimeoutPreemptively(Duration.ofSeconds(SET_EXPENSES_TIME_BUDGET_SECONDS), () ->
+                uniqueExpenseList.setExpenses(expenses));
+        assertEquals(expenses.size(), uniqueExpenseList.asUnmodifiableObservableList().size());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueExpenseList.asUnmodifiableObservableList().remove(0));
     }
+
+    /**
+     * Returns {@code n * n * n} distinct expenses built from {@code n} descriptions, amounts and dates each.
+     * The fields are shared between expenses to keep the memory footprint of the list small.
+     */
+    private static List<Expense> getSyntheticExpenses(int n) {
+        List<Description> descriptions = new ArrayList<>();
+        List<Amount> amounts = new ArrayList<>();
+        List<Date> dates = new ArrayList<>();
+        LocalDate firstDate = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < n; i++) {
+            descriptions.add(new Description("Expense " + i));
+            amounts.add(new Amount(String.valueOf(i)));
+            dates.add(new Date(firstDate.plusDays(i).format(DateTimeFormatter.ofPattern("dd-MM-yyyy"))));
+        }
+        Remark remark = new Remark("");
+        List<Expense> expenses = new ArrayList<>(n * n * n);
+        for (Description description : descriptions) {
+            for (Amount amount : amounts) {
+                for (Date date : dates) {
+                    expenses.add(new Expense(description, amount, date, remark, DEFAULT_TAG));
+                }
+            }
+        }
+        return expenses;
+    }
 }
@@ -0,0 +1,82 @@
+package seedu.expense.model.rollup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.DateRange;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.tag.Tag;
+import seedu.expense.testutil.ExpenseBuilder;
+
+public class ExpenseRollupsTest {
+
+    private static final Tag FOOD = new Tag("Food");
+    private static final Tag TRANSPORT = new Tag("Transport");
+
+    private static final Expense LUNCH = new ExpenseBuilder().withDescription("Lunch").withAmount("5")
+            .withDate("13-02-2020").withTag("Food").build();
+    private static final Expense DINNER = new ExpenseBuilder().withDescription("Dinner").withAmount("10")
+            .withDate("16-02-2020").withTag("Food").build();
+    private static final Expense BUS = new ExpenseBuilder().withDescription("Bus").withAmount("1.50")
+            .withDate("17-02-2020").withTag("Transport").build();
+    private static final Expense BREAKFAST = new ExpenseBuilder().withDescription("Breakfast").withAmount("3")
+            .withDate("02-03-2020").withTag("Food").build();
+
+    private final ExpenseRollups rollups = new ExpenseRollups();
+
+    @Test
+    public void add_nullExpense_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> rollups.add(null));
+    }
+
+    @Test
+    public void getRollups_monthly_rollsUpEachCategory() {
+        Arrays.asList(LUNCH, DINNER, BUS, BREAKFAST).forEach(rollups::add);
+
+        List<Rollup> expected = Arrays.asList(
+                new Rollup(RollupPeriod.MONTH, LocalDate.of(2020, 2, 1), FOOD, 2, new Amount("15")),
+                new Rollup(RollupPeriod.MONTH, LocalDate.of(2020, 2, 1), TRANSPORT, 1, new Amount("1.50")),
+                new Rollup(RollupPeriod.MONTH, LocalDate.of(2020, 3, 1), FOOD, 1, new Amount("3")));
+        assertEquals(expected, rollups.getRollups(RollupPeriod.MONTH, Arrays.asList(FOOD, TRANSPORT),
+                DateRange.ALL_DATES));
+    }
+
+    @Test
+    public void getRollups_weeklyInRange_returnsOverlappingWeeks() {
+        Arrays.asList(LUNCH, DINNER, BUS, BREAKFAST).forEach(rollups::add);
+
+        // the week of 10-02-2020 overlaps the range, so it is reported in full
+        assertEquals(Arrays.asList(
+                new Rollup(RollupPeriod.WEEK, LocalDate.of(2020, 2, 10), FOOD, 2, new Amount("15")),
+                new Rollup(RollupPeriod.WEEK, LocalDate.of(2020, 2, 17), TRANSPORT, 1, new Amount("1.50"))),
+                rollups.getRollups(RollupPeriod.WEEK, Arrays.asList(FOOD, TRANSPORT),
+                        new DateRange("16-02-2020:29-02-2020")));
+    }
+
+    @Test
+    public void update_listChanged_tracksList() {
+        ObservableList<Expense> expenses = FXCollections.observableArrayList();
+        expenses.addListener(rollups::update);
+        expenses.addAll(LUNCH, DINNER);
+        Expense cheaperDinner = new ExpenseBuilder(DINNER).withAmount("8").build();
+        expenses.set(1, cheaperDinner);
+        assertEquals(Collections.singletonList(new Rollup(RollupPeriod.DAY, LocalDate.of(2020, 2, 16), FOOD, 1,
+                new Amount("8"))), rollups.getRollups(RollupPeriod.DAY, Collections.singletonList(FOOD),
+                new DateRange("16-02-2020")));
+
+        expenses.clear();
+        assertTrue(rollups.getRollups(RollupPeriod.MONTH, Collections.singletonList(FOOD), DateRange.ALL_DATES)
+                .isEmpty());
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.expense.model.rollup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class RollupPeriodTest {
+
+    private static final LocalDate THURSDAY = LocalDate.of(2020, 2, 13);
+
+    @Test
+    public void isValidPeriod() {
+        assertTrue(RollupPeriod.isValidPeriod("day"));
+        assertTrue(RollupPeriod.isValidPeriod("week"));
+        assertTrue(RollupPeriod.isValidPeriod("month"));
+        assertFalse(RollupPeriod.isValidPeriod(""));
+        assertFalse(RollupPeriod.isValidPeriod("year"));
+        assertFalse(RollupPeriod.isValidPeriod("Month"));
+    }
+
+    @Test
+    public void fromKeyword_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RollupPeriod.fromKeyword("year"));
+    }
+
+    @Test
+    public void startOf() {
+        assertEquals(THURSDAY, RollupPeriod.DAY.startOf(THURSDAY));
+        assertEquals(LocalDate.of(2020, 2, 10), RollupPeriod.WEEK.startOf(THURSDAY));
+        assertEquals(LocalDate.of(2020, 2, 10), RollupPeriod.WEEK.startOf(LocalDate.of(2020, 2, 10)));
+        assertEquals(LocalDate.of(2020, 2, 1), RollupPeriod.MONTH.startOf(THURSDAY));
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("13-02-2020", RollupPeriod.DAY.describe(THURSDAY));
+        assertEquals("Week of 10-02-2020", RollupPeriod.WEEK.describe(LocalDate.of(2020, 2, 10)));
+        assertEquals("02-2020", RollupPeriod.MONTH.describe(LocalDate.of(2020, 2, 1)));
+    }
+}
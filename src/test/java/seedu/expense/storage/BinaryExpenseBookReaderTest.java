@@ -0,0 +1,79 @@
+package seedu.expense.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.expense.testutil.Assert.assertThrows;
+import static seedu.expense.testutil.TypicalExpenses.getTypicalExpenseBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.commons.exceptions.IllegalValueException;
+import seedu.expense.commons.exceptions.UncheckedDataConversionException;
+import seedu.expense.model.ExpenseBook;
+import seedu.expense.model.expense.Expense;
+
+public class BinaryExpenseBookReaderTest {
+
+    @Test
+    public void read_bufferWithPosition_readsFromPosition() throws Exception {
+        byte[] bytes = write(getTypicalExpenseBook());
+        byte[] padded = new byte[bytes.length + 3];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(padded);
+        buffer.position(3);
+
+        assertEquals(getTypicalExpenseBook(), new BinaryExpenseBookReader(buffer).read());
+        assertEquals(3, buffer.position());
+    }
+
+    @Test
+    public void read_notBinaryFormat_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, BinaryExpenseBookReader.MESSAGE_NOT_BINARY_FORMAT, () ->
+                read("{\"expenses\": []}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalValueException.class, BinaryExpenseBookReader.MESSAGE_NOT_BINARY_FORMAT, () ->
+                read(new byte[0]));
+    }
+
+    @Test
+    public void read_truncatedOrExtended_throwsIllegalValueException() throws Exception {
+        byte[] bytes = write(getTypicalExpenseBook());
+        for (int length : new int[] {BinaryExpenseBookStorage.MAGIC.length, bytes.length / 2, bytes.length - 1,
+            bytes.length + 1}) {
+            assertThrows(IllegalValueException.class, BinaryExpenseBookReader.MESSAGE_CORRUPTED, () ->
+                    read(Arrays.copyOf(bytes, length)));
+        }
+    }
+
+    @Test
+    public void open_invalidExpense_throwsOnlyWhenRead() throws Exception {
+        byte[] bytes = write(getTypicalExpenseBook());
+        // the last byte before the checksum is the tag index of the last expense
+        bytes[bytes.length - Integer.BYTES - 1] = 0x7F;
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - Integer.BYTES);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, (int) checksum.getValue());
+
+        List<Expense> expenses = new BinaryExpenseBookReader(ByteBuffer.wrap(bytes)).open().getExpenseList();
+        int lastIndex = expenses.size() - 1;
+        assertEquals(getTypicalExpenseBook().getExpenseList().subList(0, lastIndex), expenses.subList(0, lastIndex));
+        assertThrows(UncheckedDataConversionException.class, () -> expenses.get(lastIndex));
+        assertThrows(IllegalValueException.class, BinaryExpenseBookReader.MESSAGE_CORRUPTED, () -> read(bytes));
+    }
+
+    private static ExpenseBook read(byte[] bytes) throws IllegalValueException {
+        return new BinaryExpenseBookReader(ByteBuffer.wrap(bytes)).read();
+    }
+
+    private static byte[] write(ExpenseBook expenseBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryExpenseBookWriter().write(expenseBook, out);
+        return out.toByteArray();
+    }
+
+}
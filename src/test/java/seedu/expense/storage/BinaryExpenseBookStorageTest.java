@@ -0,0 +1,150 @@
+package seedu.expense.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+import static seedu.expense.testutil.TypicalExpenses.getTypicalExpenseBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expense.commons.exceptions.DataConversionException;
+import seedu.expense.model.ExpenseBook;
+import seedu.expense.model.ReadOnlyExpenseBook;
+import seedu.expense.model.expense.Amount;
+import seedu.expense.model.tag.Tag;
+
+public class BinaryExpenseBookStorageTest {
+    private static final Path JSON_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonExpenseBookStorageTest");
+    private static final Path TYPICAL_EXPENSES_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableExpenseBookTest", "typicalExpensesLedger.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readExpenseBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryExpenseBookStorage(null).readExpenseBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryExpenseBookStorage(testFolder.resolve("missing.bin")).readExpenseBook().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_throwsDataConversionException() {
+        BinaryExpenseBookStorage storage = new BinaryExpenseBookStorage(TYPICAL_EXPENSES_FILE);
+        assertThrows(DataConversionException.class, storage::readExpenseBook);
+        BinaryExpenseBookStorage emptyFileStorage = new BinaryExpenseBookStorage(
+                JSON_TEST_DATA_FOLDER.resolve("notJsonFormatLedger.json"));
+        assertThrows(DataConversionException.class, emptyFileStorage::readExpenseBook);
+    }
+
+    @Test
+    public void readAndSaveExpenseBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.bin");
+        ExpenseBook original = getTypicalExpenseBook();
+        original.topupCategoryBudget(new Tag("Shopping"), new Amount("123.45"));
+        BinaryExpenseBookStorage storage = new BinaryExpenseBookStorage(filePath);
+
+        storage.saveExpenseBook(original);
+        assertSameExpenseBook(original, storage.readExpenseBook().get());
+
+        original.removeExpense(original.getExpenseList().get(0));
+        storage.saveExpenseBook(original);
+        assertSameExpenseBook(original, storage.readExpenseBook().get());
+    }
+
+    @Test
+    public void readAndSaveExpenseBook_emptyExpenseBook_success() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.bin");
+        BinaryExpenseBookStorage storage = new BinaryExpenseBookStorage(filePath);
+        storage.saveExpenseBook(new ExpenseBook());
+        assertSameExpenseBook(new ExpenseBook(), storage.readExpenseBook().get());
+    }
+
+    @Test
+    public void read_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.bin");
+        BinaryExpenseBookStorage storage = new BinaryExpenseBookStorage(filePath);
+        storage.saveExpenseBook(getTypicalExpenseBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // a byte in the amount column is changed, which still decodes into a valid expense book
+        byte[] corrupted = bytes.clone();
+        corrupted[bytes.length - 30] ^= 0x01;
+        Files.write(filePath, corrupted);
+        assertThrows(DataConversionException.class, storage::readExpenseBook);
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataConversionException.class, storage::readExpenseBook);
+    }
+
+    @Test
+    public void read_corruptedFileWithBackup_backupRead() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.bin");
+        BinaryExpenseBookStorage storage = new BinaryExpenseBookStorage(filePath);
+        ExpenseBook original = getTypicalExpenseBook();
+        storage.saveExpenseBook(original);
+        storage.saveExpenseBook(new ExpenseBook());
+
+        // the checksum of the file no longer matches
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(filePath, bytes);
+        assertSameExpenseBook(original, storage.readExpenseBook().get());
+    }
+
+    @Test
+    public void convert_jsonToBinaryToJson_sameJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("expensebook.bin");
+        Path jsonFilePath = testFolder.resolve("expensebook.json");
+        Path convertedBackFilePath = testFolder.resolve("convertedBack.json");
+        new JsonExpenseBookStorage(jsonFilePath, true).saveExpenseBook(getTypicalExpenseBook());
+
+        assertTrue(BinaryExpenseBookStorage.convertFromJson(jsonFilePath, binaryFilePath));
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+        assertTrue(BinaryExpenseBookStorage.convertToJson(binaryFilePath, convertedBackFilePath, true));
+        assertEquals(Files.readString(jsonFilePath), Files.readString(convertedBackFilePath));
+    }
+
+    @Test
+    public void convert_missingFile_returnsFalse() throws Exception {
+        assertFalse(BinaryExpenseBookStorage.convertFromJson(testFolder.resolve("missing.json"),
+                testFolder.resolve("expensebook.bin")));
+        assertFalse(BinaryExpenseBookStorage.convertToJson(testFolder.resolve("missing.bin"),
+                testFolder.resolve("expensebook.json"), false));
+        assertFalse(Files.exists(testFolder.resolve("expensebook.bin")));
+    }
+
+    @Test
+    public void isBinaryFilePath() {
+        assertTrue(BinaryExpenseBookStorage.isBinaryFilePath(Paths.get("data", "expensebook.bin")));
+        assertFalse(BinaryExpenseBookStorage.isBinaryFilePath(Paths.get("data", "expensebook.json")));
+    }
+
+    private static void assertSameExpenseBook(ReadOnlyExpenseBook expected, ReadOnlyExpenseBook actual) {
+        assertEquals(expected, new ExpenseBook(actual));
+        assertEquals(expected.getExpenseList(), actual.getExpenseList());
+        for (int i = 0; i < expected.getExpenseList().size(); i++) {
+            assertEquals(expected.getExpenseList().get(i).getRemark(), actual.getExpenseList().get(i).getRemark());
+            assertEquals(expected.getExpenseList().get(i).getTag(), actual.getExpenseList().get(i).getTag());
+        }
+        assertEquals(expected.getTags(), actual.getTags());
+        assertEquals(expected.getBudgets().getDefaultCategory().getAmount(),
+                actual.getBudgets().getDefaultCategory().getAmount());
+        assertEquals(expected.getBudgets().getCategoryBudgets(), actual.getBudgets().getCategoryBudgets());
+        for (int i = 0; i < expected.getBudgets().getCategoryBudgets().size(); i++) {
+            assertEquals(expected.getBudgets().getCategoryBudgets().get(i).getAmount(),
+                    actual.getBudgets().getCategoryBudgets().get(i).getAmount());
+        }
+    }
+
+}
@@ -0,0 +1,253 @@
+package seedu.expense.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+import static seedu.expense.testutil.TypicalExpenses.EZ_LINK;
+import static seedu.expense.testutil.TypicalExpenses.FEL_BDAY;
+import static seedu.expense.testutil.TypicalExpenses.MOVIE;
+import static seedu.expense.testutil.TypicalExpenses.RAMEN;
+import static seedu.expense.testutil.TypicalExpenses.getTypicalExpenseBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expense.commons.exceptions.DataConversionException;
+import seedu.expense.commons.util.FileUtil;
+import seedu.expense.model.ExpenseBook;
+import seedu.expense.model.ReadOnlyExpenseBook;
+import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.DescriptionComparator;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.tag.Tag;
+import seedu.expense.testutil.ExpenseBuilder;
+
+public class JournaledExpenseBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonExpenseBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readExpenseBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledExpenseBookStorage(null).readExpenseBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("NonExistentFile.json");
+        assertFalse(new JournaledExpenseBookStorage(filePath).readExpenseBook().isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatLedger.json");
+        assertThrows(DataConversionException.class, () -> new JournaledExpenseBookStorage(filePath)
+                .readExpenseBook());
+    }
+
+    @Test
+    public void read_snapshotOfJsonExpenseBookStorage_success() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        ExpenseBook original = getTypicalExpenseBook();
+        new JsonExpenseBookStorage(filePath).saveExpenseBook(original);
+
+        assertEquals(original, new JournaledExpenseBookStorage(filePath).readExpenseBook().get());
+    }
+
+    @Test
+    public void save_smallChanges_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        Path journalFilePath = JournaledExpenseBookStorage.getJournalFilePath(filePath);
+        ExpenseBook original = getTypicalExpenseBook();
+        JournaledExpenseBookStorage storage = new JournaledExpenseBookStorage(filePath);
+
+        storage.saveExpenseBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+        assertFalse(Files.exists(journalFilePath));
+
+        // no changes -> nothing written
+        storage.saveExpenseBook(original);
+        assertFalse(Files.exists(journalFilePath));
+
+        original.addExpense(MOVIE);
+        storage.saveExpenseBook(original);
+        original.removeExpense(FEL_BDAY);
+        storage.saveExpenseBook(original);
+        original.setExpense(RAMEN, new ExpenseBuilder(RAMEN).withRemark("Spicy").build());
+        storage.saveExpenseBook(original);
+        original.addCategory(new Tag("Bills"));
+        original.topupCategoryBudget(new Tag("Bills"), new Amount("12.50"));
+        storage.saveExpenseBook(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+        assertSameExpenseBook(original, new JournaledExpenseBookStorage(filePath).readExpenseBook().get());
+    }
+
+    @Test
+    public void save_afterRead_appendsToReadJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        ExpenseBook original = getTypicalExpenseBook();
+        new JournaledExpenseBookStorage(filePath).saveExpenseBook(original);
+        original.addExpense(MOVIE);
+        JournaledExpenseBookStorage storage = new JournaledExpenseBookStorage(filePath);
+        storage.saveExpenseBook(original); // new instance -> snapshot
+
+        ExpenseBook readBack = new ExpenseBook(storage.readExpenseBook().get());
+        readBack.addExpense(EZ_LINK);
+        storage.saveExpenseBook(readBack);
+
+        assertEquals(1, Files.readAllLines(JournaledExpenseBookStorage.getJournalFilePath(filePath)).size());
+        assertSameExpenseBook(readBack, new JournaledExpenseBookStorage(filePath).readExpenseBook().get());
+    }
+
+    @Test
+    public void save_sortedExpenses_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        Path journalFilePath = JournaledExpenseBookStorage.getJournalFilePath(filePath);
+        ExpenseBook original = new ExpenseBook();
+        for (int i = 0; i < JournaledExpenseBookStorage.MAX_JOURNALED_EXPENSES + 1; i++) {
+            original.addExpense(new ExpenseBuilder().withDescription("Expense " + (char) ('z' - i)).build());
+        }
+        JournaledExpenseBookStorage storage = new JournaledExpenseBookStorage(filePath);
+        storage.saveExpenseBook(original);
+        original.addExpense(MOVIE);
+        storage.saveExpenseBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.sortExpenses(new DescriptionComparator(true, false, 0));
+        storage.saveExpenseBook(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertSameExpenseBook(original, new JsonExpenseBookStorage(filePath).readExpenseBook().get());
+    }
+
+    @Test
+    public void save_snapshotIntervalReached_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        Path journalFilePath = JournaledExpenseBookStorage.getJournalFilePath(filePath);
+        ExpenseBook original = getTypicalExpenseBook();
+        JournaledExpenseBookStorage storage = new JournaledExpenseBookStorage(filePath);
+        storage.saveExpenseBook(original);
+
+        for (int i = 0; i < JournaledExpenseBookStorage.SNAPSHOT_INTERVAL; i++) {
+            original.topupBudget(new Amount("1"));
+            storage.saveExpenseBook(original);
+        }
+        assertEquals(JournaledExpenseBookStorage.SNAPSHOT_INTERVAL, Files.readAllLines(journalFilePath).size());
+
+        original.topupBudget(new Amount("1"));
+        storage.saveExpenseBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameExpenseBook(original, new JournaledExpenseBookStorage(filePath).readExpenseBook().get());
+    }
+
+    @Test
+    public void read_incompleteLastJournalEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        Path journalFilePath = JournaledExpenseBookStorage.getJournalFilePath(filePath);
+        ExpenseBook original = getTypicalExpenseBook();
+        JournaledExpenseBookStorage storage = new JournaledExpenseBookStorage(filePath);
+        storage.saveExpenseBook(original);
+        ExpenseBook expected = new ExpenseBook(original);
+        original.addExpense(MOVIE);
+        storage.saveExpenseBook(original);
+
+        String entry = FileUtil.readFromFile(journalFilePath);
+        FileUtil.writeToFile(journalFilePath, entry.substring(0, entry.length() / 2));
+        JournaledExpenseBookStorage readingStorage = new JournaledExpenseBookStorage(filePath);
+        ExpenseBook readBack = new ExpenseBook(readingStorage.readExpenseBook().get());
+        assertEquals(expected, readBack);
+
+        // the incomplete entry is not appended to
+        readBack.addExpense(EZ_LINK);
+        readingStorage.saveExpenseBook(readBack);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(readBack, new JournaledExpenseBookStorage(filePath).readExpenseBook().get());
+    }
+
+    @Test
+    public void read_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        Path journalFilePath = JournaledExpenseBookStorage.getJournalFilePath(filePath);
+        ExpenseBook original = getTypicalExpenseBook();
+        JournaledExpenseBookStorage storage = new JournaledExpenseBookStorage(filePath);
+        storage.saveExpenseBook(original);
+        original.addExpense(MOVIE);
+        storage.saveExpenseBook(original);
+
+        // the app stopped after a new snapshot was written, but before the journal was deleted
+        ExpenseBook newSnapshot = getTypicalExpenseBook();
+        newSnapshot.addExpense(EZ_LINK);
+        new JsonExpenseBookStorage(filePath).saveExpenseBook(newSnapshot);
+        assertTrue(Files.exists(journalFilePath));
+
+        assertEquals(newSnapshot, new JournaledExpenseBookStorage(filePath).readExpenseBook().get());
+    }
+
+    @Test
+    public void read_invalidJournalEntry_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        Path journalFilePath = JournaledExpenseBookStorage.getJournalFilePath(filePath);
+        new JournaledExpenseBookStorage(filePath).saveExpenseBook(getTypicalExpenseBook());
+
+        FileUtil.writeToFile(journalFilePath, "{\"from\":100,\"removeCount\":1,\"expenses\":[]}\n");
+        assertThrows(DataConversionException.class, () -> new JournaledExpenseBookStorage(filePath)
+                .readExpenseBook());
+
+        FileUtil.writeToFile(journalFilePath, "not json\n{\"from\":0,\"removeCount\":0,\"expenses\":[]}\n");
+        assertThrows(DataConversionException.class, () -> new JournaledExpenseBookStorage(filePath)
+                .readExpenseBook());
+    }
+
+    @Test
+    public void read_invalidSnapshotWithBackup_backupRead() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        ExpenseBook original = getTypicalExpenseBook();
+        new JournaledExpenseBookStorage(filePath).saveExpenseBook(original);
+        new JournaledExpenseBookStorage(filePath).saveExpenseBook(new ExpenseBook());
+
+        FileUtil.writeToFile(filePath, "not json");
+        JournaledExpenseBookStorage storage = new JournaledExpenseBookStorage(filePath);
+        assertSameExpenseBook(original, storage.readExpenseBook().get());
+
+        // the next save replaces the invalid snapshot instead of appending to its journal
+        original.removeExpense(original.getExpenseList().get(0));
+        storage.saveExpenseBook(original);
+        assertSameExpenseBook(original, new JournaledExpenseBookStorage(filePath).readExpenseBook().get());
+    }
+
+    @Test
+    public void saveExpenseBook_nullExpenseBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledExpenseBookStorage(testFolder.resolve("a.json"))
+                .saveExpenseBook(null));
+    }
+
+    @Test
+    public void saveExpenseBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledExpenseBookStorage(testFolder.resolve("a.json"))
+                .saveExpenseBook(new ExpenseBook(), null));
+    }
+
+    /**
+     * Asserts that {@code actual} has the same expenses, with all their fields, categories and budgets as
+     * {@code expected}.
+     */
+    private void assertSameExpenseBook(ExpenseBook expected, ReadOnlyExpenseBook actual) {
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.getExpenseList().size(); i++) {
+            Expense expectedExpense = expected.getExpenseList().get(i);
+            Expense actualExpense = actual.getExpenseList().get(i);
+            assertEquals(expectedExpense.getRemark(), actualExpense.getRemark());
+            assertEquals(expectedExpense.getTag(), actualExpense.getTag());
+        }
+        assertEquals(expected.getTags(), actual.getTags());
+        assertEquals(expected.getBudgets().tallyAmounts(), actual.getBudgets().tallyAmounts());
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.expense.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.commons.exceptions.IllegalValueException;
+import seedu.expense.commons.util.JsonUtil;
+import seedu.expense.model.ExpenseBook;
+import seedu.expense.testutil.TypicalExpenses;
+
+public class JsonExpenseBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableExpenseBookTest");
+    private static final Path TYPICAL_EXPENSES_FILE = TEST_DATA_FOLDER.resolve("typicalExpensesLedger.json");
+    private static final Path INVALID_EXPENSE_FILE = TEST_DATA_FOLDER.resolve("invalidExpenseLedger.json");
+    private static final Path DUPLICATE_EXPENSE_FILE = TEST_DATA_FOLDER.resolve("duplicateExpenseLedger.json");
+
+    @Test
+    public void toModelType_typicalExpensesFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_EXPENSES_FILE)) {
+            ExpenseBook expenseBookFromFile = new JsonExpenseBookReader(in).toModelType();
+            assertEquals(TypicalExpenses.getTypicalExpenseBook(), expenseBookFromFile);
+        }
+    }
+
+    @Test
+    public void toModelType_sameAsJsonSerializableExpenseBook() throws Exception {
+        ExpenseBook expected = JsonUtil.readJsonFile(TYPICAL_EXPENSES_FILE, JsonSerializableExpenseBook.class).get()
+                .toModelType();
+        try (InputStream in = Files.newInputStream(TYPICAL_EXPENSES_FILE)) {
+            ExpenseBook actual = new JsonExpenseBookReader(in).toModelType();
+            assertEquals(expected.getExpenseList(), actual.getExpenseList());
+            assertEquals(expected.getTags(), actual.getTags());
+            assertEquals(expected.getBudgets(), actual.getBudgets());
+        }
+    }
+
+    @Test
+    public void constructor_invalidExpenseFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_EXPENSE_FILE)) {
+            assertThrows(IllegalValueException.class, () -> new JsonExpenseBookReader(in));
+        }
+    }
+
+    @Test
+    public void toModelType_duplicateExpenses_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_EXPENSE_FILE)) {
+            JsonExpenseBookReader reader = new JsonExpenseBookReader(in);
+            assertThrows(IllegalValueException.class, JsonSerializableExpenseBook.MESSAGE_DUPLICATE_EXPENSE,
+                    reader::toModelType);
+        }
+    }
+
+    @Test
+    public void constructor_notJsonObject_throwsIoException() {
+        assertThrows(IOException.class, () -> new JsonExpenseBookReader(toInputStream("[]")));
+        assertThrows(IOException.class, () -> new JsonExpenseBookReader(toInputStream("{\"expenses\": 1}")));
+    }
+
+    @Test
+    public void getExpenses_changedBeforeConversion_changesReflected() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_EXPENSES_FILE)) {
+            JsonExpenseBookReader reader = new JsonExpenseBookReader(in);
+            reader.getExpenses().clear();
+            assertTrue(reader.toModelType().getExpenseList().isEmpty());
+        }
+    }
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.expense.commons.exceptions.DataConversionException;
+import seedu.expense.commons.util.FileUtil;
 import seedu.expense.model.ExpenseBook;
 import seedu.expense.model.ReadOnlyExpenseBook;
 
@@ -86,6 +87,34 @@ public class JsonExpenseBookStorageTest {
 
     }
 
+    @Test
+    public void saveExpenseBook_existingFile_previousVersionKept() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        ExpenseBook original = getTypicalExpenseBook();
+        JsonExpenseBookStorage jsonExpenseBookStorage = new JsonExpenseBookStorage(filePath);
+        jsonExpenseBookStorage.saveExpenseBook(original);
+        ExpenseBook previous = new ExpenseBook(original);
+
+        original.addExpense(MOVIE);
+        jsonExpenseBookStorage.saveExpenseBook(original);
+
+        assertEquals(original, new ExpenseBook(jsonExpenseBookStorage.readExpenseBook().get()));
+        assertEquals(previous, new ExpenseBook(jsonExpenseBookStorage
+                .readExpenseBook(FileUtil.getBackupFilePath(filePath, 1)).get()));
+    }
+
+    @Test
+    public void readExpenseBook_invalidFileWithBackup_backupRead() throws Exception {
+        Path filePath = testFolder.resolve("TempExpenseBook.json");
+        ExpenseBook original = getTypicalExpenseBook();
+        JsonExpenseBookStorage jsonExpenseBookStorage = new JsonExpenseBookStorage(filePath);
+        jsonExpenseBookStorage.saveExpenseBook(original);
+        jsonExpenseBookStorage.saveExpenseBook(new ExpenseBook());
+
+        FileUtil.writeToFile(filePath, "{\"expenses\": [");
+        assertEquals(original, new ExpenseBook(jsonExpenseBookStorage.readExpenseBook().get()));
+    }
+
     @Test
     public void saveExpenseBook_nullExpenseBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveExpenseBook(null, "SomeFile.json"));
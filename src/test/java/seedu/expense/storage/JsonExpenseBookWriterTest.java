@@ -0,0 +1,51 @@
+package seedu.expense.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.expense.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.expense.commons.util.JsonUtil;
+import seedu.expense.model.ExpenseBook;
+import seedu.expense.testutil.TypicalExpenses;
+
+public class JsonExpenseBookWriterTest {
+
+    @Test
+    public void write_nullExpenseBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonExpenseBookWriter(false)
+                .write(null, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void write_prettyPrinted_sameAsJsonSerializableExpenseBook() throws Exception {
+        ExpenseBook expenseBook = TypicalExpenses.getTypicalExpenseBook();
+        String expected = JsonUtil.toJsonString(new JsonSerializableExpenseBook(expenseBook));
+        assertEquals(expected, write(expenseBook, true));
+    }
+
+    @Test
+    public void write_notPrettyPrinted_readBackSame() throws Exception {
+        ExpenseBook expenseBook = TypicalExpenses.getTypicalExpenseBook();
+        String json = write(expenseBook, false);
+        assertFalse(json.contains("\n"));
+
+        ExpenseBook readBack = new JsonExpenseBookReader(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))).toModelType();
+        assertEquals(expenseBook, readBack);
+        assertEquals(expenseBook.getBudgets(), readBack.getBudgets());
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableExpenseBook(expenseBook)), json);
+    }
+
+    private static String write(ExpenseBook expenseBook, boolean isPrettyPrinted) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JsonExpenseBookWriter(isPrettyPrinted).write(expenseBook, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,146 @@
+package seedu.expense.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+import static seedu.expense.testutil.TypicalExpenses.EZ_LINK;
+import static seedu.expense.testutil.TypicalExpenses.MOVIE;
+import static seedu.expense.testutil.TypicalExpenses.getTypicalExpenseBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.expense.model.ExpenseBook;
+import seedu.expense.model.ReadOnlyExpenseBook;
+import seedu.expense.model.alias.AliasEntry;
+import seedu.expense.model.alias.AliasMap;
+import seedu.expense.model.expense.Amount;
+
+public class WriteBehindStorageTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager getStorageManager(JsonExpenseBookStorage expenseBookStorage) {
+        return new StorageManager(expenseBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonAliasMapStorage(testFolder.resolve("als")));
+    }
+
+    @Test
+    public void saveAndFlush_dataChangedAfterSave_savedDataUnchanged() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(
+                getStorageManager(new JsonExpenseBookStorage(testFolder.resolve("ab"))));
+        ExpenseBook original = getTypicalExpenseBook();
+        AliasMap aliasMap = new AliasMap();
+        aliasMap.addAlias(new AliasEntry("a", "add"));
+
+        storage.saveExpenseBook(original);
+        storage.saveAliasMap(aliasMap);
+        ExpenseBook expected = new ExpenseBook(original);
+        AliasMap expectedAliasMap = new AliasMap(aliasMap);
+        original.addExpense(MOVIE);
+        original.topupBudget(new Amount("1"));
+        aliasMap.removeAllAliases();
+        storage.flush();
+
+        ReadOnlyExpenseBook retrieved = storage.readExpenseBook().get();
+        assertEquals(expected, new ExpenseBook(retrieved));
+        assertEquals(expected.tallyBudgets(), retrieved.getBudgets().tallyAmounts());
+        assertEquals(expectedAliasMap, storage.readAliasMap().get());
+    }
+
+    @Test
+    public void save_whileWriting_savesCoalesced() throws Exception {
+        BlockingExpenseBookStorage expenseBookStorage = new BlockingExpenseBookStorage(testFolder.resolve("ab"));
+        WriteBehindStorage storage = new WriteBehindStorage(getStorageManager(expenseBookStorage));
+        ExpenseBook original = getTypicalExpenseBook();
+
+        storage.saveExpenseBook(original);
+        assertTrue(expenseBookStorage.writeStarted.await(5, TimeUnit.SECONDS));
+        original.addExpense(MOVIE);
+        storage.saveExpenseBook(original);
+        original.addExpense(EZ_LINK);
+        storage.saveExpenseBook(original);
+        expenseBookStorage.releaseWrite.countDown();
+        storage.flush();
+
+        // the first save, and one save of the latest data
+        assertEquals(2, expenseBookStorage.writeCount.get());
+        assertEquals(1, storage.getCoalescedSaveCount());
+        assertEquals(original, new ExpenseBook(storage.readExpenseBook().get()));
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoExceptionOnce() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(
+                getStorageManager(new JsonExpenseBookIoExceptionThrowingStub(testFolder.resolve("ab"))));
+        storage.saveExpenseBook(getTypicalExpenseBook());
+
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+        storage.flush();
+        storage.checkSaveFailure();
+    }
+
+    @Test
+    public void checkSaveFailure_saveFailed_throwsIoException() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(
+                getStorageManager(new JsonExpenseBookIoExceptionThrowingStub(testFolder.resolve("ab"))));
+        storage.saveExpenseBook(getTypicalExpenseBook());
+        storage.readExpenseBook(); // waits for the save to be written
+
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::checkSaveFailure);
+    }
+
+    @Test
+    public void saveExpenseBook_nullExpenseBook_throwsNullPointerException() {
+        WriteBehindStorage storage = new WriteBehindStorage(
+                getStorageManager(new JsonExpenseBookStorage(testFolder.resolve("ab"))));
+        assertThrows(NullPointerException.class, () -> storage.saveExpenseBook(null));
+    }
+
+    /**
+     * A stub class that counts its writes, and blocks its first write until it is released.
+     */
+    private static class BlockingExpenseBookStorage extends JsonExpenseBookStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrite = new CountDownLatch(1);
+        private final AtomicInteger writeCount = new AtomicInteger();
+
+        private BlockingExpenseBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveExpenseBook(ReadOnlyExpenseBook expenseBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                releaseWrite.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            writeCount.incrementAndGet();
+            super.saveExpenseBook(expenseBook, filePath);
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonExpenseBookIoExceptionThrowingStub extends JsonExpenseBookStorage {
+        private JsonExpenseBookIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveExpenseBook(ReadOnlyExpenseBook expenseBook, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}
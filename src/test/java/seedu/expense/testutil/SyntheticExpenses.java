@@ -0,0 +1,39 @@
+package seedu.expense.testutil;
+
+import static seedu.expense.model.ExpenseBook.DEFAULT_TAG;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.expense.model.expense.Amount;
+import seedu.expense.model.expense.Date;
+import seedu.expense.model.expense.Description;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.model.expense.Remark;
+
+/**
+ * A utility class that generates large numbers of expenses for tests and benchmarks.
+ */
+public class SyntheticExpenses {
+
+    private static final String[] WORDS = {"Lunch", "Dinner", "Taxi", "Bus", "Groceries", "Coffee", "Books", "Movie"};
+    private static final int PLACE_COUNT = 400;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+
+    /**
+     * Returns {@code count} distinct expenses in the Default category, spread over a year and over a few thousand
+     * descriptions. The description of the expense at index {@code i} starts with one of a few common words, picked
+     * by {@code i}, and the expenses are built the same way on every call.
+     */
+    public static List<Expense> getExpenses(int count) {
+        List<Expense> expenses = new ArrayList<>(count);
+        Remark remark = new Remark("");
+        for (int i = 0; i < count; i++) {
+            expenses.add(new Expense(new Description(WORDS[i % WORDS.length] + " at place " + (i % PLACE_COUNT)
+                    + " batch " + (i / PLACE_COUNT)), Amount.fromCents(100 + i % 5000),
+                    Date.fromLocalDate(FIRST_DATE.plusDays(i % 366)), remark, DEFAULT_TAG));
+        }
+        return expenses;
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.expense.ui;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.testutil.SyntheticExpenses;
+
+/**
+ * Scrolls an {@code ExpenseListPanel} through {@code ROW_COUNT} expenses, one step per frame, and reports the time
+ * between frames and the memory allocated on the JavaFX application thread while it scrolls.
+ * <p>
+ * This is not a test, as it needs a display. Run it with {@code gradlew uiBenchmark}.
+ */
+public class ExpenseListPanelBenchmark {
+
+    private static final int ROW_COUNT = 100_000;
+    private static final int ROWS_PER_FRAME = 50;
+    private static final int WARM_UP_FRAMES = 60;
+
+    public static void main(String[] args) {
+        Application.launch(ScrollingApp.class, args);
+    }
+
+    /**
+     * The application that shows the expense list panel and scrolls it.
+     */
+    public static class ScrollingApp extends Application {
+
+        private final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        private final List<Long> frameNanos = new ArrayList<>();
+
+        @Override
+        public void start(Stage stage) {
+            ObservableList<Expense> expenses =
+                    FXCollections.observableArrayList(SyntheticExpenses.getExpenses(ROW_COUNT));
+            ExpenseListPanel panel = new ExpenseListPanel(expenses);
+            Scene scene = new Scene(panel.getRoot(), 900, 700);
+            scene.getStylesheets().addAll(getClass().getResource("/view/DarkTheme.css").toExternalForm(),
+                    getClass().getResource("/view/Extensions.css").toExternalForm());
+            stage.setScene(scene);
+            stage.show();
+
+            @SuppressWarnings("unchecked")
+            ListView<Expense> listView = (ListView<Expense>) panel.getRoot().lookup("#expenseListView");
+            new AnimationTimer() {
+                private int frame;
+                private long lastFrame;
+                private long startAllocated;
+
+                @Override
+                public void handle(long now) {
+                    int row = frame * ROWS_PER_FRAME;
+                    if (frame == WARM_UP_FRAMES) {
+                        startAllocated = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                    } else if (frame > WARM_UP_FRAMES) {
+                        frameNanos.add(now - lastFrame);
+                    }
+                    if (row >= ROW_COUNT) {
+                        stop();
+                        long allocated = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId())
+                                - startAllocated;
+                        report(allocated);
+                        Platform.exit();
+                        return;
+                    }
+                    listView.scrollTo(row);
+                    lastFrame = now;
+                    frame++;
+                }
+            }.start();
+        }
+
+        private void report(long allocatedBytes) {
+            long[] sorted = frameNanos.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            double meanMillis = Arrays.stream(sorted).average().orElse(0) / 1e6;
+            System.out.printf("Scrolled %d rows in %d frames%n", ROW_COUNT, sorted.length);
+            System.out.printf("Frame time: mean %.2f ms, median %.2f ms, 99th percentile %.2f ms, max %.2f ms%n",
+                    meanMillis, percentile(sorted, 0.5) / 1e6, percentile(sorted, 0.99) / 1e6,
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+            System.out.printf("Allocated on the JavaFX thread: %.1f MB (%.1f KB per frame)%n",
+                    allocatedBytes / 1e6, sorted.length == 0 ? 0 : allocatedBytes / 1e3 / sorted.length);
+        }
+
+        private static long percentile(long[] sorted, double fraction) {
+            return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, fraction * sorted.length)];
+        }
+    }
+}
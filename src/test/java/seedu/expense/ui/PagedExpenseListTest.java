@@ -0,0 +1,164 @@
+package seedu.expense.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.expense.testutil.Assert.assertThrows;
+import static seedu.expense.testutil.TypicalExpenses.BUS;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.expense.model.expense.Expense;
+import seedu.expense.testutil.SyntheticExpenses;
+
+public class PagedExpenseListTest {
+
+    private static final int ROW_COUNT = 10_000;
+
+    private final CountingList backingList = new CountingList(SyntheticExpenses.getExpenses(ROW_COUNT));
+    private final ObservableList<Expense> source = FXCollections.observableList(backingList);
+    private final PagedExpenseList pagedList = new PagedExpenseList(source);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PagedExpenseList(null));
+    }
+
+    @Test
+    public void get_readsOnlyThePageOfTheRow() {
+        backingList.reads = 0;
+        assertEquals(ROW_COUNT, pagedList.size());
+        assertEquals(source.get(5000), pagedList.get(5000));
+        backingList.reads = 0;
+        for (int i = 5000; i < 5010; i++) {
+            assertEquals(backingList.list.get(i), pagedList.get(i));
+        }
+        // the rows are all on a page that was already read
+        assertEquals(0, backingList.reads);
+
+        pagedList.get(ROW_COUNT - 1);
+        assertTrue(backingList.reads <= PagedExpenseList.PAGE_SIZE);
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> pagedList.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> pagedList.get(ROW_COUNT));
+    }
+
+    @Test
+    public void sourceChanged_smallChange_passedOnAsItIs() {
+        List<String> changes = recordChanges();
+        pagedList.get(0);
+
+        source.add(1, BUS);
+        source.remove(3);
+
+        assertEquals(List.of("added 1..2", "removed 3..4"), changes);
+        assertEquals(ROW_COUNT, pagedList.size());
+        // the cached page was dropped, so the new row is read
+        assertEquals(BUS, pagedList.get(1));
+    }
+
+    @Test
+    public void sourceChanged_largeChange_passedOnAsOneReplacement() {
+        List<String> changes = recordChanges();
+        FilteredList<Expense> filtered = new FilteredList<>(source);
+        PagedExpenseList pagedFilteredList = new PagedExpenseList(filtered);
+        List<String> filteredChanges = new ArrayList<>();
+        List<Expense> removed = new ArrayList<>();
+        pagedFilteredList.addListener((ListChangeListener<Expense>) change -> {
+            while (change.next()) {
+                filteredChanges.add(change.toString());
+                removed.addAll(change.getRemoved());
+                assertEquals(0, change.getFrom());
+                assertEquals(ROW_COUNT / 2, change.getTo());
+            }
+        });
+
+        filtered.setPredicate(expense -> expense.getAmount().getCents() % 2 == 0);
+
+        assertEquals(1, filteredChanges.size());
+        assertEquals(ROW_COUNT, removed.size());
+        assertNull(removed.get(0));
+        assertEquals(ROW_COUNT / 2, pagedFilteredList.size());
+        assertTrue(changes.isEmpty());
+
+        assertEquals(filtered.get(ROW_COUNT / 2 - 1), pagedFilteredList.get(ROW_COUNT / 2 - 1));
+    }
+
+    @Test
+    public void sourceChanged_sorted_staysInSync() {
+        FXCollections.sort(source, Comparator.comparing(expense -> -expense.getAmount().getCents()));
+        for (int i = 0; i < ROW_COUNT; i += 97) {
+            assertEquals(source.get(i), pagedList.get(i));
+        }
+
+        source.clear();
+        assertEquals(0, pagedList.size());
+    }
+
+    /**
+     * Returns the changes {@code pagedList} fires from now on, in words.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        pagedList.addListener((ListChangeListener<Expense>) change -> {
+            while (change.next()) {
+                if (change.wasAdded()) {
+                    changes.add("added " + change.getFrom() + ".." + change.getTo());
+                } else if (change.wasRemoved()) {
+                    changes.add("removed " + change.getFrom() + ".." + (change.getFrom() + change.getRemovedSize()));
+                }
+            }
+        });
+        return changes;
+    }
+
+    /**
+     * A list that counts how many of its elements are read.
+     */
+    private static class CountingList extends AbstractList<Expense> {
+        private final List<Expense> list;
+        private int reads;
+
+        CountingList(List<Expense> list) {
+            this.list = new ArrayList<>(list);
+        }
+
+        @Override
+        public Expense get(int index) {
+            reads++;
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public Expense set(int index, Expense expense) {
+            return list.set(index, expense);
+        }
+
+        @Override
+        public void add(int index, Expense expense) {
+            list.add(index, expense);
+        }
+
+        @Override
+        public Expense remove(int index) {
+            return list.remove(index);
+        }
+    }
+}